@@ -0,0 +1,233 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import net.sourceforge.pmd.lang.LanguageProcessorRegistry;
+import net.sourceforge.pmd.lang.LanguageVersion;
+import net.sourceforge.pmd.lang.ast.Parser.ParserTask;
+import net.sourceforge.pmd.lang.ast.RootNode;
+import net.sourceforge.pmd.lang.ast.SemanticErrorReporter;
+import net.sourceforge.pmd.lang.document.TextDocument;
+import net.sourceforge.pmd.util.fxdesigner.app.services.LanguageProcessorPool;
+import net.sourceforge.pmd.util.fxdesigner.app.services.LanguageProcessorPool.Lease;
+import net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry;
+
+
+/**
+ * Inputs of the benchmarks. They're generated by {@link #main(String[])}
+ * and checked in, so that the results of two runs of the benchmarks are
+ * comparable even if the generator changes. Regenerate them only if the
+ * shape of the inputs must change, and say so when comparing results.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class BenchmarkInputs {
+
+    /** A Java file with a few thousand lines, with deeply nested statements. */
+    public static final String LARGE_JAVA = "LargeClass.java";
+    /** A test file with a few hundred test cases. */
+    public static final String LARGE_TEST_XML = "large-tests.xml";
+    public static final String LARGE_SCALA = "Large.scala";
+    public static final String LARGE_APEX = "Large.cls";
+    public static final String LARGE_MODELICA = "Large.mo";
+    public static final String XPATH_QUERIES = "queries.xpath";
+
+    private static final LanguageProcessorPool PROCESSORS = new LanguageProcessorPool();
+
+    private BenchmarkInputs() {
+
+    }
+
+
+    /** Reads one of the inputs. */
+    public static String read(String name) {
+        try (InputStream is = BenchmarkInputs.class.getResourceAsStream(name)) {
+            if (is == null) {
+                throw new IllegalArgumentException("No benchmark input named " + name);
+            }
+            StringBuilder sb = new StringBuilder();
+            char[] buf = new char[8192];
+            Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8);
+            int read;
+            while ((read = reader.read(buf)) >= 0) {
+                sb.append(buf, 0, read);
+            }
+            return sb.toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    /** Parses a source the same way the designer does. */
+    public static RootNode parse(String languageTerseName, String source) {
+        LanguageVersion version = AuxLanguageRegistry.findLanguageByTerseName(languageTerseName).getDefaultVersion();
+        Lease lease = PROCESSORS.acquire(version, BenchmarkInputs.class.getClassLoader());
+        try {
+            LanguageProcessorRegistry registry = lease.getRegistry();
+            TextDocument doc = TextDocument.readOnlyString(source, version);
+            ParserTask task = new ParserTask(doc, SemanticErrorReporter.noop(), registry);
+            return registry.getProcessor(version.getLanguage()).services().getParser().parse(task);
+        } finally {
+            lease.release();
+        }
+    }
+
+
+    /**
+     * Regenerates the inputs.
+     *
+     * @param args Directory in which to write them, defaults to the one
+     *             of the checked in inputs
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "src/jmh/resources/net/sourceforge/pmd/util/fxdesigner/benchmarks");
+        Files.createDirectories(dir);
+        write(dir.resolve(LARGE_JAVA), generateJava(40, 8));
+        write(dir.resolve(LARGE_TEST_XML), generateTestXml(300));
+        write(dir.resolve(LARGE_SCALA), generateScala(300));
+        write(dir.resolve(LARGE_APEX), generateApex(300));
+        write(dir.resolve(LARGE_MODELICA), generateModelica(300));
+        write(dir.resolve(XPATH_QUERIES), generateXPath(300));
+    }
+
+
+    private static void write(Path path, String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    static String generateJava(int numClasses, int numMethods) {
+        StringBuilder sb = new StringBuilder("package bench;\n\nimport java.util.List;\n\npublic class LargeClass {\n");
+        for (int c = 0; c < numClasses; c++) {
+            sb.append("\n    static class Inner").append(c).append(" {\n")
+              .append("        private int count").append(c).append(";\n")
+              .append("        private final List<String> names").append(c).append(" = null;\n");
+            for (int m = 0; m < numMethods; m++) {
+                sb.append("\n        /** Method ").append(m).append(". */\n")
+                  .append("        public int method").append(m).append("(int x, String s) {\n")
+                  .append("            int y = x + ").append(m).append(";\n")
+                  .append("            for (int i = 0; i < x; i++) {\n")
+                  .append("                if (i % 2 == 0) {\n")
+                  .append("                    try {\n")
+                  .append("                        y += s.length() * i + count").append(c).append(";\n")
+                  .append("                    } catch (RuntimeException e) {\n")
+                  .append("                        y--;\n")
+                  .append("                    }\n")
+                  .append("                } else {\n")
+                  .append("                    while (y > 100) {\n")
+                  .append("                        y = y / 2 - (names").append(c).append(" == null ? 0 : 1);\n")
+                  .append("                    }\n")
+                  .append("                }\n")
+                  .append("            }\n")
+                  .append("            return y;\n")
+                  .append("        }\n");
+            }
+            sb.append("    }\n");
+        }
+        return sb.append("}\n").toString();
+    }
+
+
+    static String generateTestXml(int numTests) {
+        StringBuilder sb = new StringBuilder(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<test-data\n"
+                + "    xmlns=\"http://pmd.sourceforge.net/rule-tests\"\n"
+                + "    xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n"
+                + "    xsi:schemaLocation=\"http://pmd.sourceforge.net/rule-tests http://pmd.sourceforge.net/rule-tests_1_0_0.xsd\">\n");
+        for (int i = 0; i < numTests; i++) {
+            sb.append("\n    <test-code>\n")
+              .append("        <description>Test case ").append(i).append("</description>\n")
+              .append("        <expected-problems>2</expected-problems>\n")
+              .append("        <expected-linenumbers>3,5</expected-linenumbers>\n")
+              .append("        <code><![CDATA[\n")
+              .append("public class Foo").append(i).append(" {\n")
+              .append("    void bar(int x) {\n")
+              .append("        if (x > ").append(i).append(") { x++; }\n")
+              .append("        for (int i = 0; i < x; i++) {\n")
+              .append("            if (i == 2) { x--; }\n")
+              .append("        }\n")
+              .append("    }\n")
+              .append("}\n")
+              .append("        ]]></code>\n")
+              .append("    </test-code>\n");
+        }
+        return sb.append("</test-data>\n").toString();
+    }
+
+
+    static String generateScala(int numMethods) {
+        StringBuilder sb = new StringBuilder("package bench\n\nobject Large {\n");
+        for (int i = 0; i < numMethods; i++) {
+            sb.append("\n  // method ").append(i).append('\n')
+              .append("  def method").append(i).append("(xs: List[Int], s: String): Int = {\n")
+              .append("    val base = s.length + ").append(i).append('\n')
+              .append("    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>\n")
+              .append("      if (acc > 100) acc / 2 else acc + x\n")
+              .append("    }\n")
+              .append("  }\n");
+        }
+        return sb.append("}\n").toString();
+    }
+
+
+    static String generateApex(int numMethods) {
+        StringBuilder sb = new StringBuilder("public with sharing class Large {\n");
+        for (int i = 0; i < numMethods; i++) {
+            sb.append("\n    // method ").append(i).append('\n')
+              .append("    public static Integer method").append(i).append("(List<Account> accounts, String s) {\n")
+              .append("        Integer y = s.length() + ").append(i).append(";\n")
+              .append("        for (Account a : [SELECT Id, Name FROM Account WHERE Name = :s LIMIT 10]) {\n")
+              .append("            if (a.Name != null) {\n")
+              .append("                y += a.Name.length();\n")
+              .append("            }\n")
+              .append("        }\n")
+              .append("        return y;\n")
+              .append("    }\n");
+        }
+        return sb.append("}\n").toString();
+    }
+
+
+    static String generateModelica(int numModels) {
+        StringBuilder sb = new StringBuilder("package Large\n");
+        for (int i = 0; i < numModels; i++) {
+            sb.append("\n  // model ").append(i).append('\n')
+              .append("  model Model").append(i).append('\n')
+              .append("    parameter Real k = ").append(i).append(".5 \"gain\";\n")
+              .append("    Real x(start = 1.0);\n")
+              .append("    Real y;\n")
+              .append("  equation\n")
+              .append("    der(x) = -k * x;\n")
+              .append("    y = if x > 0.5 then x else 2 * x;\n")
+              .append("  end Model").append(i).append(";\n");
+        }
+        return sb.append("end Large;\n").toString();
+    }
+
+
+    static String generateXPath(int numQueries) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < numQueries; i++) {
+            sb.append("(: query ").append(i).append(" :)\n")
+              .append("//ClassDeclaration[@SimpleName = 'Inner").append(i).append("']\n")
+              .append("    //MethodDeclaration[@Arity > 1 and pmd-java:modifiers() = 'public']\n")
+              .append("    /Block//IfStatement[not(ancestor::TryStatement)][count(.//ForStatement) <= ").append(i % 5).append("]\n")
+              .append("|\n");
+        }
+        return sb.append("//CompilationUnit\n").toString();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.lang.rule.xpath.Attribute;
+import net.sourceforge.pmd.util.designerbindings.DesignerBindings.DefaultDesignerBindings;
+import net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry;
+import net.sourceforge.pmd.util.fxdesigner.util.autocomplete.XPathCompletionSource;
+import net.sourceforge.pmd.util.fxdesigner.util.autocomplete.matchers.CamelCaseMatcher;
+import net.sourceforge.pmd.util.fxdesigner.util.autocomplete.matchers.MatchResult;
+import net.sourceforge.pmd.util.fxdesigner.util.autocomplete.matchers.MatchSelector;
+import net.sourceforge.pmd.util.fxdesigner.util.autocomplete.matchers.StringMatchUtil;
+
+
+/**
+ * Selection of the best matches of a query with the camel case matcher,
+ * for the XPath autocompletion (a few hundred node names), and for the
+ * search in the AST tree view (one candidate per node of a large AST).
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CamelCaseMatcherBenchmark {
+
+    @Param({"m", "MethDecl", "lvd", "ClassOrInterfaceType"})
+    public String query;
+
+    private XPathCompletionSource completionSource;
+    private List<String> treeItems;
+
+
+    @Setup
+    public void setup() {
+        completionSource = XPathCompletionSource.forLanguage(AuxLanguageRegistry.findLanguageByTerseName("java"));
+        Node root = BenchmarkInputs.parse("java", BenchmarkInputs.read(BenchmarkInputs.LARGE_JAVA));
+        // same text as displayed in the tree view
+        treeItems = root.descendantsOrSelf()
+                        .crossFindBoundaries()
+                        .toStream()
+                        .map(CamelCaseMatcherBenchmark::presentableText)
+                        .collect(Collectors.toList());
+    }
+
+
+    @Benchmark
+    public List<MatchResult<String>> completionSuggestions() {
+        return completionSource.getSortedMatches(query, 5).collect(Collectors.toList());
+    }
+
+
+    @Benchmark
+    public List<MatchResult<String>> treeSearch() {
+        // the selector of the tree view
+        MatchSelector<String> limiter =
+            CamelCaseMatcher.<String>allQueryStarts()
+                .andThen(c -> c.filter(it -> it.getScore() > 0))
+                .andThen(Stream::parallel)
+                .andThen(CamelCaseMatcher.onlyWordStarts())
+                .andThen(MatchSelector.selectBestTies());
+
+        return StringMatchUtil.filterResults(treeItems, s -> s, query, limiter).collect(Collectors.toList());
+    }
+
+
+    private static String presentableText(Node node) {
+        Attribute attr = DefaultDesignerBindings.getInstance().getMainAttribute(node);
+        return attr == null || attr.getStringValue() == null
+               ? node.getXPathNodeName()
+               : node.getXPathNodeName() + " [@" + attr.getName() + " = '" + attr.getStringValue() + "']";
+    }
+}
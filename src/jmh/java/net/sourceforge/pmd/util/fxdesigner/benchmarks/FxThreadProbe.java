@@ -0,0 +1,82 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.application.Platform;
+
+
+/**
+ * Estimates the time the FX thread is busy, by posting probes on it
+ * one after the other. The time a probe waits in the event queue is
+ * time during which the FX thread was doing something else, be it
+ * handling events, running pulses, or running the work of the designer.
+ *
+ * <p>Work that's shorter than the interval between two probes may be
+ * missed, so this underestimates the busy time a bit.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+final class FxThreadProbe {
+
+    /** A probe that waited less than this is considered to have run on an idle thread. */
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicLong maxStallNanos = new AtomicLong();
+    private volatile boolean running;
+
+
+    /** Starts posting probes, on a daemon thread. */
+    void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "Designer-fx-probe");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+
+    void stop() {
+        running = false;
+    }
+
+
+    /** Total time the FX thread was busy since the probe was started. */
+    long getBusyNanos() {
+        return busyNanos.get();
+    }
+
+
+    /** Longest time a probe waited, ie longest stall of the FX thread, since the last call. */
+    long getAndResetMaxStallNanos() {
+        return maxStallNanos.getAndSet(0);
+    }
+
+
+    private void run() {
+        while (running) {
+            CountDownLatch done = new CountDownLatch(1);
+            long posted = System.nanoTime();
+            Platform.runLater(() -> {
+                long wait = System.nanoTime() - posted;
+                if (wait > IDLE_WAIT_NANOS) {
+                    busyNanos.addAndGet(wait);
+                }
+                maxStallNanos.accumulateAndGet(wait, Math::max);
+                done.countDown();
+            });
+            try {
+                done.await();
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measurements of one phase of the scripted UI scenario.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+final class PhaseReport {
+
+    private final String name;
+    private final List<Long> latencies = new ArrayList<>();
+    private long wallNanos;
+    private long fxBusyNanos;
+    private long maxStallNanos;
+    private long numParses;
+    private long numAstUpdates;
+    private long numResultUpdates;
+
+
+    PhaseReport(String name) {
+        this.name = name;
+    }
+
+
+    void addLatency(long nanos) {
+        latencies.add(nanos);
+    }
+
+
+    void setTotals(long wallNanos, long fxBusyNanos, long maxStallNanos, long numParses, long numAstUpdates, long numResultUpdates) {
+        this.wallNanos = wallNanos;
+        this.fxBusyNanos = fxBusyNanos;
+        this.maxStallNanos = maxStallNanos;
+        this.numParses = numParses;
+        this.numAstUpdates = numAstUpdates;
+        this.numResultUpdates = numResultUpdates;
+    }
+
+
+    /** Percentile of the latencies, in millis. */
+    double percentileMillis(double p) {
+        if (latencies.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        int idx = (int) Math.ceil(p / 100 * sorted.size()) - 1;
+        return toMillis(sorted.get(Math.max(0, Math.min(sorted.size() - 1, idx))));
+    }
+
+
+    double meanMillis() {
+        return latencies.isEmpty() ? 0 : toMillis(latencies.stream().mapToLong(Long::longValue).sum()) / latencies.size();
+    }
+
+
+    static String header() {
+        return String.format("%-14s %5s %9s %9s %9s %9s %9s %7s %9s %7s %7s %7s",
+                             "phase", "n", "mean ms", "p50 ms", "p95 ms", "max ms",
+                             "fx busy", "busy %", "stall ms", "parses", "asts", "results");
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%-14s %5d %9.1f %9.1f %9.1f %9.1f %9.1f %7.1f %9.1f %7d %7d %7d",
+                             name, latencies.size(), meanMillis(), percentileMillis(50), percentileMillis(95), percentileMillis(100),
+                             toMillis(fxBusyNanos), wallNanos == 0 ? 0 : 100.0 * fxBusyNanos / wallNanos, toMillis(maxStallNanos),
+                             numParses, numAstUpdates, numResultUpdates);
+    }
+
+
+    String toJson() {
+        return String.format(Locale.ROOT,
+                             "{\"phase\": \"%s\", \"count\": %d, \"meanMs\": %.2f, \"p50Ms\": %.2f, \"p95Ms\": %.2f, \"maxMs\": %.2f, "
+                                 + "\"wallMs\": %.2f, \"fxBusyMs\": %.2f, \"maxStallMs\": %.2f, "
+                                 + "\"parses\": %d, \"astUpdates\": %d, \"resultUpdates\": %d}",
+                             name, latencies.size(), meanMillis(), percentileMillis(50), percentileMillis(95), percentileMillis(100),
+                             toMillis(wallNanos), toMillis(fxBusyNanos), toMillis(maxStallNanos),
+                             numParses, numAstUpdates, numResultUpdates);
+    }
+
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
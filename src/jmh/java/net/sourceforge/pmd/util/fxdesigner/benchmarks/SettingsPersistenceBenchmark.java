@@ -0,0 +1,91 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsPersistenceUtil;
+import net.sourceforge.pmd.util.fxdesigner.util.beans.testdata.SomeBean;
+import net.sourceforge.pmd.util.fxdesigner.util.beans.testdata.SomeSequenceBean;
+
+
+/**
+ * Saving and restoring a large session, with the same shape as one
+ * with 50 rule editors with 100 test cases each.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettingsPersistenceBenchmark {
+
+    private SomeSequenceBean<SomeSequenceBean<SomeBean>> session;
+    private File persisted;
+    private File scratch;
+
+
+    @Setup
+    public void setup() throws IOException {
+        session = new SomeSequenceBean<>();
+        session.setName("session");
+        for (int i = 0; i < 50; i++) {
+            SomeSequenceBean<SomeBean> tab = new SomeSequenceBean<>();
+            tab.setName("tab" + i);
+            for (int j = 0; j < 100; j++) {
+                SomeBean test = new SomeBean();
+                test.setI(j);
+                test.setStr("class Foo" + i + "_" + j + " {}");
+                tab.getItems().add(test);
+            }
+            session.getItems().add(tab);
+        }
+
+        persisted = Files.createTempFile("pmd-designer-bench", ".xml").toFile();
+        scratch = Files.createTempFile("pmd-designer-bench", ".xml").toFile();
+        SettingsPersistenceUtil.persistProperties(session, persisted);
+    }
+
+
+    @TearDown
+    public void tearDown() {
+        persisted.delete();
+        scratch.delete();
+    }
+
+
+    @Benchmark
+    public File persist() throws IOException {
+        SettingsPersistenceUtil.persistProperties(session, scratch);
+        return scratch;
+    }
+
+
+    @Benchmark
+    public SomeSequenceBean<SomeSequenceBean<SomeBean>> restore() {
+        SomeSequenceBean<SomeSequenceBean<SomeBean>> restored = new SomeSequenceBean<>();
+        SettingsPersistenceUtil.restoreProperties(restored, persisted);
+        return restored;
+    }
+}
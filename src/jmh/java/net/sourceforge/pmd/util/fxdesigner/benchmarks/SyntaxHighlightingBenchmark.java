@@ -0,0 +1,83 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.fxmisc.richtext.model.StyleSpans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sourceforge.pmd.util.fxdesigner.util.codearea.AvailableSyntaxHighlighters;
+
+
+/**
+ * Syntax highlighting of a large source, for each of the available
+ * highlighters. Highlighters that share a lexer (eg the XML dialects)
+ * are measured separately anyway, so that a change to one of them is
+ * caught.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SyntaxHighlightingBenchmark {
+
+    @Param
+    public AvailableSyntaxHighlighters highlighter;
+
+    private String source;
+
+
+    @Setup
+    public void setup() {
+        source = BenchmarkInputs.read(inputFor(highlighter));
+    }
+
+
+    @Benchmark
+    public StyleSpans<Collection<String>> computeHighlighting() {
+        return highlighter.computeHighlighting(source);
+    }
+
+
+    private static String inputFor(AvailableSyntaxHighlighters highlighter) {
+        switch (highlighter) {
+        case JAVA:
+            return BenchmarkInputs.LARGE_JAVA;
+        case SCALA:
+        case KOTLIN:
+            return BenchmarkInputs.LARGE_SCALA;
+        case APEX:
+            return BenchmarkInputs.LARGE_APEX;
+        case XML:
+        case XSL:
+        case WSDL:
+        case POM:
+            return BenchmarkInputs.LARGE_TEST_XML;
+        case XPATH:
+            return BenchmarkInputs.XPATH_QUERIES;
+        case MODELICA:
+            return BenchmarkInputs.LARGE_MODELICA;
+        default:
+            throw new IllegalArgumentException("No input for " + highlighter);
+        }
+    }
+}
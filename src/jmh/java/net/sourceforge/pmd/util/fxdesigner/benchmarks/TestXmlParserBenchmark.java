@@ -0,0 +1,52 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sourceforge.pmd.util.fxdesigner.model.ObservableRuleBuilder;
+import net.sourceforge.pmd.util.fxdesigner.model.testing.TestCollection;
+import net.sourceforge.pmd.util.fxdesigner.model.testing.TestXmlParser;
+
+
+/**
+ * Import of a test file with a few hundred test cases.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestXmlParserBenchmark {
+
+    private String xml;
+
+
+    @Setup
+    public void setup() {
+        xml = BenchmarkInputs.read(BenchmarkInputs.LARGE_TEST_XML);
+    }
+
+
+    @Benchmark
+    public TestCollection parseXmlTests() throws Exception {
+        return TestXmlParser.parseXmlTests(xml, new ObservableRuleBuilder());
+    }
+}
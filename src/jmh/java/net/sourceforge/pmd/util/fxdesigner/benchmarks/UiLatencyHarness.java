@@ -0,0 +1,428 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.benchmarks;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.reactfx.EventStream;
+import org.reactfx.Subscription;
+import org.reactfx.value.Val;
+
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.util.fxdesigner.Designer;
+import net.sourceforge.pmd.util.fxdesigner.XPathRuleEditorController;
+import net.sourceforge.pmd.util.fxdesigner.app.ApplicationComponent;
+import net.sourceforge.pmd.util.fxdesigner.app.DesignerParams;
+import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
+import net.sourceforge.pmd.util.fxdesigner.app.DesignerRootImpl;
+import net.sourceforge.pmd.util.fxdesigner.app.NodeSelectionSource.NodeSelectionEvent;
+import net.sourceforge.pmd.util.fxdesigner.app.services.ASTManager;
+import net.sourceforge.pmd.util.fxdesigner.util.controls.MutableTabPane;
+import net.sourceforge.pmd.util.fxdesigner.util.controls.NodeEditionCodeArea;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.scene.Parent;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Stage;
+
+
+/**
+ * Drives the whole designer through a scripted scenario, and measures
+ * the latency of the reactive pipelines end to end: from a keystroke,
+ * selection or tab switch, until its results are highlighted and
+ * rendered by the next pulse. The number of parses, AST updates and
+ * XPath result updates, and the time the FX thread was busy, are recorded
+ * for each phase of the scenario.
+ *
+ * <p>By default this runs on the headless Monocle platform, rendering
+ * in software, so it doesn't need a display or a GPU. Run it with
+ * <pre>
+ *     mvn -Pbenchmarks clean test-compile exec:exec@ui-latency
+ * </pre>
+ * Options are passed as {@code --name=value} program arguments:
+ * <ul>
+ *     <li>{@code iterations}: number of steps per phase (default 20)</li>
+ *     <li>{@code classes}: size of the edited source, in classes of ~130 lines (default 6)</li>
+ *     <li>{@code json}: file to which the report is written as JSON</li>
+ * </ul>
+ *
+ * <p>The settings of the designer are read from and written to a scratch
+ * directory, so the scenario always starts from a blank state.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class UiLatencyHarness {
+
+    private static final long STEP_TIMEOUT_SECONDS = 60;
+    /** Interval between the keystrokes of a burst, ~ a fast typist. */
+    private static final long KEYSTROKE_INTERVAL_MILLIS = 40;
+    private static final int KEYSTROKES_PER_BURST = 4;
+    /** Pause between two steps, so that deferred work of a step doesn't overlap the next. */
+    private static final long PAUSE_MILLIS = 150;
+
+    private static final String METHODS = "//MethodDeclaration";
+    private static final String FIELDS = "//FieldDeclaration";
+    private static final List<String> TAB_QUERIES = Arrays.asList(METHODS, "//LocalVariableDeclaration", "//IfStatement");
+
+    private static volatile int exitCode = 1;
+
+    private final DesignerRoot root;
+    private final Stage stage;
+    private final Map<String, String> options;
+    private final FxThreadProbe probe = new FxThreadProbe();
+
+    // only accessed on the FX thread
+    private NodeEditionCodeArea area;
+    private MutableTabPane<XPathRuleEditorController> tabs;
+    private ASTManager astManager;
+    /** Fetched once, each call to {@link ASTManager#compilationUnitProperty()} creates a new pinned Val. */
+    private Val<Node> compilationUnit;
+    private long numAstUpdates;
+    private long numResultUpdates;
+    private int lastEditPosition;
+
+
+    private UiLatencyHarness(DesignerRoot root, Stage stage, Map<String, String> options) {
+        this.root = root;
+        this.stage = stage;
+        this.options = options;
+    }
+
+
+    public static void main(String[] args) throws IOException {
+        // a headless platform that renders in software,
+        // pass eg -Dglass.platform=gtk to watch the scenario
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+        System.setProperty("user.home", Files.createTempDirectory("pmd-designer-harness").toString());
+
+        Application.launch(HarnessApp.class, args);
+        System.exit(exitCode);
+    }
+
+
+    private static void setDefault(String property, String value) {
+        if (System.getProperty(property) == null) {
+            System.setProperty(property, value);
+        }
+    }
+
+
+    private void run() throws Exception {
+        probe.start();
+        awaitUi();
+
+        XPathRuleEditorController editor = onFx(() -> {
+            compilationUnit.changes().subscribe(ch -> numAstUpdates++);
+            area.currentRuleResultsProperty().changes().subscribe(ch -> numResultUpdates++);
+            return tabs.currentFocusedController().getValue();
+        });
+
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "20"));
+        String source = BenchmarkInputs.generateJava(Integer.parseInt(options.getOrDefault("classes", "6")), 8);
+
+        onFx(() -> {
+            editor.xpathExpressionProperty().setValue(METHODS);
+            return null;
+        });
+
+        List<PhaseReport> reports = new ArrayList<>();
+
+        reports.add(phase("load", 1, i -> measure(() -> {
+            area.replaceText(source);
+            return resultsUpToDate(METHODS);
+        })));
+
+        reports.add(phase("typing", iterations, i -> {
+            onFx(() -> {
+                area.moveTo(nextEditPosition());
+                return null;
+            });
+            for (int k = 1; k < KEYSTROKES_PER_BURST; k++) {
+                onFx(this::typeSpace);
+                Thread.sleep(KEYSTROKE_INTERVAL_MILLIS);
+            }
+            // the latency is measured from the last keystroke
+            return measure(() -> {
+                typeSpace();
+                return resultsUpToDate(METHODS);
+            });
+        }));
+
+        reports.add(phase("xpath-edit", iterations, i -> {
+            // ends with the methods
+            String query = i % 2 == iterations % 2 ? FIELDS : METHODS;
+            return measure(() -> {
+                editor.xpathExpressionProperty().setValue(query);
+                return resultsUpToDate(query);
+            });
+        }));
+
+        List<Node> selectable = onFx(() -> new ArrayList<>(area.currentRuleResultsProperty().getValue()));
+        ApplicationComponent origin = () -> root;
+        reports.add(phase("selection", iterations, i -> measure(() -> {
+            Node node = selectable.get(i * 7 % selectable.size());
+            root.getService(DesignerRoot.NODE_SELECTION_CHANNEL).pushEvent(origin, NodeSelectionEvent.of(node));
+            // the dispatcher delivers the event in a task that's already queued
+            CompletableFuture<Void> delivered = new CompletableFuture<>();
+            Platform.runLater(() -> delivered.complete(null));
+            return delivered;
+        })));
+
+        for (String query : TAB_QUERIES.subList(1, TAB_QUERIES.size())) {
+            measure(() -> {
+                tabs.addTabWithNewController().xpathExpressionProperty().setValue(query);
+                return resultsUpToDate(query);
+            });
+        }
+        reports.add(phase("tab-switch", iterations, i -> measure(() -> {
+            int idx = (i + 1) % TAB_QUERIES.size();
+            tabs.getSelectionModel().select(idx);
+            XPathRuleEditorController focused = tabs.getControllers().get(idx);
+            return when(() -> !focused.currentResultsProperty().getValue().isEmpty()
+                            && Objects.equals(area.currentRuleResultsProperty().getValue(), focused.currentResultsProperty().getValue()),
+                        area.currentRuleResultsProperty().changes());
+        })));
+
+        probe.stop();
+        report(reports);
+        exitCode = 0;
+    }
+
+
+    private void report(List<PhaseReport> reports) throws Exception {
+        StringBuilder sb = new StringBuilder("\nUI latency (keystroke/selection/tab switch -> results rendered):\n");
+        sb.append(PhaseReport.header()).append('\n');
+        reports.forEach(r -> sb.append(r).append('\n'));
+        onFx(() -> sb.append("\nSelection dispatcher: ").append(root.getService(DesignerRoot.NODE_SELECTION_DISPATCHER))
+                     .append("\nParse delay: ").append(astManager.parseDelay())
+                     .append('\n'));
+        System.out.println(sb);
+
+        String json = options.get("json");
+        if (json != null) {
+            String content = reports.stream().map(PhaseReport::toJson).collect(Collectors.joining(",\n  ", "[\n  ", "\n]\n"));
+            Files.write(Paths.get(json), content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+
+    /** Waits until the main components are in the scene. */
+    @SuppressWarnings("unchecked")
+    private void awaitUi() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STEP_TIMEOUT_SECONDS);
+        while (!onFx(() -> {
+            Parent sceneRoot = stage.getScene().getRoot();
+            area = find(sceneRoot, NodeEditionCodeArea.class);
+            tabs = find(sceneRoot, MutableTabPane.class);
+            astManager = root.getService(DesignerRoot.AST_MANAGER);
+            return area != null && tabs != null && astManager != null && tabs.currentFocusedController().isPresent();
+        })) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("The UI didn't show up");
+            }
+            Thread.sleep(50);
+        }
+        onFx(() -> compilationUnit = astManager.compilationUnitProperty());
+    }
+
+
+    private PhaseReport phase(String name, int numSteps, Step step) throws Exception {
+        PhaseReport report = new PhaseReport(name);
+        long[] before = counters();
+        long busyBefore = probe.getBusyNanos();
+        probe.getAndResetMaxStallNanos();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < numSteps; i++) {
+            report.addLatency(step.run(i));
+            Thread.sleep(PAUSE_MILLIS);
+        }
+
+        long[] after = counters();
+        report.setTotals(System.nanoTime() - start,
+                         probe.getBusyNanos() - busyBefore,
+                         probe.getAndResetMaxStallNanos(),
+                         after[0] - before[0],
+                         after[1] - before[1],
+                         after[2] - before[2]);
+        return report;
+    }
+
+
+    private long[] counters() throws Exception {
+        return onFx(() -> new long[] {astManager.parseDelay().getNumRecords(), numAstUpdates, numResultUpdates});
+    }
+
+
+    /**
+     * Runs an action on the FX thread, and returns the time until the
+     * work it started is done and rendered. The action returns a future
+     * that must be completed on the FX thread when the work is done.
+     */
+    private static long measure(Supplier<CompletableFuture<?>> action) throws Exception {
+        CompletableFuture<Long> end = new CompletableFuture<>();
+        long start = onFx(() -> {
+            long now = System.nanoTime();
+            action.get().thenRun(() -> afterNextPulse(() -> end.complete(System.nanoTime())));
+            return now;
+        });
+        return end.get(STEP_TIMEOUT_SECONDS, TimeUnit.SECONDS) - start;
+    }
+
+
+    /** Completes when the results of the given query are highlighted for the current text. */
+    private CompletableFuture<Void> resultsUpToDate(String query) {
+        String text = area.getText();
+        String nodeName = query.substring(2);
+        return when(() -> {
+            Node ast = compilationUnit.getValue();
+            List<Node> results = area.currentRuleResultsProperty().getValue();
+            return ast != null
+                && ast.getTextDocument().getText().contentEquals(text)
+                && !results.isEmpty()
+                && results.get(0).getRoot() == ast
+                && results.get(0).getXPathNodeName().equals(nodeName);
+        }, area.currentRuleResultsProperty().changes());
+    }
+
+
+    private int nextEditPosition() {
+        String text = area.getText();
+        int next = text.indexOf("int y =", lastEditPosition + 1);
+        lastEditPosition = next < 0 ? text.indexOf("int y =") : next;
+        return lastEditPosition;
+    }
+
+
+    private Void typeSpace() {
+        Event.fireEvent(area, new KeyEvent(KeyEvent.KEY_TYPED, " ", "", KeyCode.UNDEFINED, false, false, false, false));
+        return null;
+    }
+
+
+    /** Completes when the condition is true, it's checked again on each of the triggers. */
+    private static CompletableFuture<Void> when(BooleanSupplier condition, EventStream<?> triggers) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (condition.getAsBoolean()) {
+            result.complete(null);
+            return result;
+        }
+        Subscription[] sub = new Subscription[1];
+        sub[0] = triggers.subscribe(t -> {
+            if (!result.isDone() && condition.getAsBoolean()) {
+                result.complete(null);
+                sub[0].unsubscribe();
+            }
+        });
+        return result;
+    }
+
+
+    /** Runs the action once the next pulse, which renders the scene, is over. */
+    private static void afterNextPulse(Runnable action) {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                // queued behind the rest of the pulse
+                Platform.runLater(action);
+            }
+        }.start();
+    }
+
+
+    private static <T> T onFx(Callable<T> action) throws Exception {
+        FutureTask<T> task = new FutureTask<>(action);
+        Platform.runLater(task);
+        return task.get(STEP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+
+    private static <T> T find(javafx.scene.Node node, Class<T> type) {
+        if (type.isInstance(node)) {
+            return type.cast(node);
+        } else if (node instanceof Parent) {
+            for (javafx.scene.Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                T found = find(child, type);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+
+    @FunctionalInterface
+    private interface Step {
+
+        /** Runs the i-th step, returns its latency in nanos. */
+        long run(int i) throws Exception;
+    }
+
+
+    /** Starts the designer and runs the scenario. */
+    public static final class HarnessApp extends Application {
+
+        @Override
+        public void start(Stage stage) throws Exception {
+            DesignerRoot root = new DesignerRootImpl(stage, new DesignerParams(), getHostServices());
+
+            // the designer closes the error stream when it's not in developer mode
+            PrintStream err = System.err;
+            System.setErr(new PrintStream(new FilterOutputStream(err) {
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            }, true));
+            try {
+                new Designer().start(stage, root);
+            } finally {
+                System.setErr(err);
+            }
+
+            UiLatencyHarness harness = new UiLatencyHarness(root, stage, getParameters().getNamed());
+            Thread thread = new Thread(() -> {
+                try {
+                    harness.run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                } finally {
+                    Platform.runLater(() -> {
+                        root.shutdownServices();
+                        Platform.exit();
+                    });
+                }
+            }, "Designer-ui-harness");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.lang.rule.xpath.XPathVersion;
+import net.sourceforge.pmd.util.fxdesigner.model.XPathEvaluationException;
+import net.sourceforge.pmd.util.fxdesigner.model.XPathEvaluator;
+
+
+/**
+ * Evaluation of XPath queries on a large Java AST, as done on every
+ * change to the query or to the source in the XPath rule editor.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XPathEvaluationBenchmark {
+
+    @Param({
+        // a simple descendant axis
+        "//MethodDeclaration",
+        // predicates on attributes
+        "//MethodDeclaration[@Arity = 2]//LocalVariableDeclaration[@Final = false()]",
+        // ancestor axis and counts, costly on deep trees
+        "//IfStatement[count(ancestor::*) > 8][not(ancestor::TryStatement)]",
+        // a query that uses a function of the language
+        "//FieldDeclaration[pmd-java:modifiers() = 'private']",
+    })
+    public String query;
+
+    private Node root;
+
+
+    @Setup
+    public void setup() {
+        root = BenchmarkInputs.parse("java", BenchmarkInputs.read(BenchmarkInputs.LARGE_JAVA));
+    }
+
+
+    @Benchmark
+    public List<Node> evaluateQuery() throws XPathEvaluationException {
+        return XPathEvaluator.evaluateQuery(root, XPathVersion.DEFAULT, query, Collections.emptyMap(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util.codearea;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.fxmisc.richtext.model.StyleSpans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sourceforge.pmd.util.fxdesigner.benchmarks.BenchmarkInputs;
+
+
+/**
+ * Compares the JFlex lexers with the {@linkplain RegexSyntaxHighlighters regex grammars}
+ * they replaced, on inputs of a few MB:
+ * <ul>
+ * <li>{@code repeated}: the usual input of the language, repeated;
+ * <li>{@code long-literal}: the same, with a long literal in the middle.
+ * The regex grammars overflow the stack on those and abandon highlighting,
+ * the time to overflow is what's measured for them.
+ * </ul>
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HighlighterComparisonBenchmark {
+
+    private static final int MIN_INPUT_LENGTH = 2 << 20;
+    private static final int LITERAL_LENGTH = 100_000;
+
+    @Param({"java", "apex", "modelica", "xpath", "xml"})
+    public String language;
+
+    @Param({"regex", "lexer"})
+    public String engine;
+
+    @Param({"repeated", "long-literal"})
+    public String shape;
+
+    private SyntaxHighlighter highlighter;
+    private String source;
+
+
+    @Setup
+    public void setup() {
+        highlighter = "regex".equals(engine)
+                      ? RegexSyntaxHighlighters.forLanguage(language)
+                      : AvailableSyntaxHighlighters.valueOf(language.toUpperCase(Locale.ROOT));
+
+        String input = BenchmarkInputs.read(inputFor(language));
+        String repeated = StringUtils.repeat(input, "\n", MIN_INPUT_LENGTH / input.length() + 1);
+        if ("long-literal".equals(shape)) {
+            int middle = repeated.indexOf('\n', repeated.length() / 2) + 1;
+            repeated = repeated.substring(0, middle) + longLiteral(language) + "\n" + repeated.substring(middle);
+        }
+        source = repeated;
+    }
+
+
+    @Benchmark
+    public StyleSpans<Collection<String>> computeHighlighting() {
+        return highlighter.computeHighlighting(source);
+    }
+
+
+    private static String inputFor(String language) {
+        switch (language) {
+        case "java":
+            return BenchmarkInputs.LARGE_JAVA;
+        case "apex":
+            return BenchmarkInputs.LARGE_APEX;
+        case "modelica":
+            return BenchmarkInputs.LARGE_MODELICA;
+        case "xpath":
+            return BenchmarkInputs.XPATH_QUERIES;
+        case "xml":
+            return BenchmarkInputs.LARGE_TEST_XML;
+        default:
+            throw new IllegalArgumentException("No input for " + language);
+        }
+    }
+
+
+    /** A literal that makes the regex of the language recurse once per char or escape. */
+    private static String longLiteral(String language) {
+        switch (language) {
+        case "java":
+        case "modelica":
+            return "\"" + StringUtils.repeat("\\t", LITERAL_LENGTH / 2) + "\"";
+        case "apex":
+            return "'" + StringUtils.repeat("\\t", LITERAL_LENGTH / 2) + "'";
+        case "xpath":
+            return "'" + StringUtils.repeat('a', LITERAL_LENGTH) + "'";
+        case "xml":
+            return "<literal value=\"" + StringUtils.repeat('a', LITERAL_LENGTH) + "\"/>";
+        default:
+            throw new IllegalArgumentException("No literal for " + language);
+        }
+    }
+}
@@ -26,6 +26,9 @@ import org.fxmisc.richtext.model.StyleSpansBuilder;
  * specific CSS class to every found token. The whole text also receives a style class named after the language of the
  * tokenizer (e.g. "xml" or "java"). Styling of each class is then done in stylesheets.
  *
+ * <p>The designer now uses {@link LexerBasedHighlighter}s, this is only
+ * kept as the baseline of {@link HighlighterComparisonBenchmark}.
+ *
  * @author Clément Fournier
  * @since 6.0.0
  */
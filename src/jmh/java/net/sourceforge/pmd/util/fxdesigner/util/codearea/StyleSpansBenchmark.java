@@ -0,0 +1,104 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util.codearea;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.fxmisc.richtext.model.StyleSpans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.util.fxdesigner.benchmarks.BenchmarkInputs;
+
+
+/**
+ * Building the style spans of the highlighting layers, and overlaying
+ * them the way {@link HighlightLayerCodeArea} does when it repaints
+ * the code area. The nodes are those of a large Java AST, which are
+ * deeply nested.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StyleSpansBenchmark {
+
+    /**
+     * Names of the nodes that are highlighted, eg only the blocks (a few
+     * thousand, all nested), all the statements and blocks, or {@code *}
+     * for every node, which is what the query {@code //*} highlights.
+     */
+    @Param({"Block", "Block|ForStatement|IfStatement|TryStatement|WhileStatement|ExpressionStatement", "*"})
+    public String nodeNames;
+
+    private UniformStyleCollection collection;
+    private List<StyleSpans<Collection<String>>> layers;
+
+
+    @Setup
+    public void setup() {
+        String source = BenchmarkInputs.read(BenchmarkInputs.LARGE_JAVA);
+        Node root = BenchmarkInputs.parse("java", source);
+
+        Set<String> names = new HashSet<>(Arrays.asList(nodeNames.split("\\|")));
+        List<NodeStyleSpan> spans = new ArrayList<>();
+        List<NodeStyleSpan> methods = new ArrayList<>();
+        root.descendantsOrSelf().crossFindBoundaries().forEach(n -> {
+            if (names.contains("*") || names.contains(n.getXPathNodeName())) {
+                spans.add(NodeStyleSpan.fromNode(n, null));
+            }
+            if ("MethodDeclaration".equals(n.getXPathNodeName())) {
+                methods.add(NodeStyleSpan.fromNode(n, null));
+            }
+        });
+
+        collection = new UniformStyleCollection(Collections.singleton("xpath-highlight"), spans);
+
+        // same layers as in the source editor: syntax highlighting,
+        // XPath results, and another highlight (eg the focus node)
+        layers = Arrays.asList(
+            AvailableSyntaxHighlighters.JAVA.computeHighlighting(source),
+            collection.buildSpans(),
+            new UniformStyleCollection(Collections.singleton("focus-highlight"), methods).buildSpans()
+        );
+    }
+
+
+    @Benchmark
+    public StyleSpans<Collection<String>> buildSpans() {
+        return collection.buildSpans();
+    }
+
+
+    @Benchmark
+    public StyleSpans<Collection<String>> overlayLayers() {
+        StyleSpans<Collection<String>> base = layers.get(0);
+        return layers.stream()
+                     .skip(1)
+                     .reduce(base, (acc, elt) -> acc.overlay(elt, SyntaxHighlightingCodeArea::additiveOverlay));
+    }
+}
@@ -0,0 +1,2404 @@
+package bench
+
+object Large {
+
+  // method 0
+  def method0(xs: List[Int], s: String): Int = {
+    val base = s.length + 0
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 1
+  def method1(xs: List[Int], s: String): Int = {
+    val base = s.length + 1
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 2
+  def method2(xs: List[Int], s: String): Int = {
+    val base = s.length + 2
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 3
+  def method3(xs: List[Int], s: String): Int = {
+    val base = s.length + 3
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 4
+  def method4(xs: List[Int], s: String): Int = {
+    val base = s.length + 4
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 5
+  def method5(xs: List[Int], s: String): Int = {
+    val base = s.length + 5
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 6
+  def method6(xs: List[Int], s: String): Int = {
+    val base = s.length + 6
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 7
+  def method7(xs: List[Int], s: String): Int = {
+    val base = s.length + 7
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 8
+  def method8(xs: List[Int], s: String): Int = {
+    val base = s.length + 8
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 9
+  def method9(xs: List[Int], s: String): Int = {
+    val base = s.length + 9
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 10
+  def method10(xs: List[Int], s: String): Int = {
+    val base = s.length + 10
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 11
+  def method11(xs: List[Int], s: String): Int = {
+    val base = s.length + 11
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 12
+  def method12(xs: List[Int], s: String): Int = {
+    val base = s.length + 12
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 13
+  def method13(xs: List[Int], s: String): Int = {
+    val base = s.length + 13
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 14
+  def method14(xs: List[Int], s: String): Int = {
+    val base = s.length + 14
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 15
+  def method15(xs: List[Int], s: String): Int = {
+    val base = s.length + 15
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 16
+  def method16(xs: List[Int], s: String): Int = {
+    val base = s.length + 16
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 17
+  def method17(xs: List[Int], s: String): Int = {
+    val base = s.length + 17
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 18
+  def method18(xs: List[Int], s: String): Int = {
+    val base = s.length + 18
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 19
+  def method19(xs: List[Int], s: String): Int = {
+    val base = s.length + 19
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 20
+  def method20(xs: List[Int], s: String): Int = {
+    val base = s.length + 20
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 21
+  def method21(xs: List[Int], s: String): Int = {
+    val base = s.length + 21
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 22
+  def method22(xs: List[Int], s: String): Int = {
+    val base = s.length + 22
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 23
+  def method23(xs: List[Int], s: String): Int = {
+    val base = s.length + 23
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 24
+  def method24(xs: List[Int], s: String): Int = {
+    val base = s.length + 24
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 25
+  def method25(xs: List[Int], s: String): Int = {
+    val base = s.length + 25
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 26
+  def method26(xs: List[Int], s: String): Int = {
+    val base = s.length + 26
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 27
+  def method27(xs: List[Int], s: String): Int = {
+    val base = s.length + 27
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 28
+  def method28(xs: List[Int], s: String): Int = {
+    val base = s.length + 28
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 29
+  def method29(xs: List[Int], s: String): Int = {
+    val base = s.length + 29
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 30
+  def method30(xs: List[Int], s: String): Int = {
+    val base = s.length + 30
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 31
+  def method31(xs: List[Int], s: String): Int = {
+    val base = s.length + 31
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 32
+  def method32(xs: List[Int], s: String): Int = {
+    val base = s.length + 32
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 33
+  def method33(xs: List[Int], s: String): Int = {
+    val base = s.length + 33
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 34
+  def method34(xs: List[Int], s: String): Int = {
+    val base = s.length + 34
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 35
+  def method35(xs: List[Int], s: String): Int = {
+    val base = s.length + 35
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 36
+  def method36(xs: List[Int], s: String): Int = {
+    val base = s.length + 36
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 37
+  def method37(xs: List[Int], s: String): Int = {
+    val base = s.length + 37
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 38
+  def method38(xs: List[Int], s: String): Int = {
+    val base = s.length + 38
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 39
+  def method39(xs: List[Int], s: String): Int = {
+    val base = s.length + 39
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 40
+  def method40(xs: List[Int], s: String): Int = {
+    val base = s.length + 40
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 41
+  def method41(xs: List[Int], s: String): Int = {
+    val base = s.length + 41
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 42
+  def method42(xs: List[Int], s: String): Int = {
+    val base = s.length + 42
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 43
+  def method43(xs: List[Int], s: String): Int = {
+    val base = s.length + 43
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 44
+  def method44(xs: List[Int], s: String): Int = {
+    val base = s.length + 44
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 45
+  def method45(xs: List[Int], s: String): Int = {
+    val base = s.length + 45
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 46
+  def method46(xs: List[Int], s: String): Int = {
+    val base = s.length + 46
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 47
+  def method47(xs: List[Int], s: String): Int = {
+    val base = s.length + 47
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 48
+  def method48(xs: List[Int], s: String): Int = {
+    val base = s.length + 48
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 49
+  def method49(xs: List[Int], s: String): Int = {
+    val base = s.length + 49
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 50
+  def method50(xs: List[Int], s: String): Int = {
+    val base = s.length + 50
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 51
+  def method51(xs: List[Int], s: String): Int = {
+    val base = s.length + 51
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 52
+  def method52(xs: List[Int], s: String): Int = {
+    val base = s.length + 52
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 53
+  def method53(xs: List[Int], s: String): Int = {
+    val base = s.length + 53
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 54
+  def method54(xs: List[Int], s: String): Int = {
+    val base = s.length + 54
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 55
+  def method55(xs: List[Int], s: String): Int = {
+    val base = s.length + 55
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 56
+  def method56(xs: List[Int], s: String): Int = {
+    val base = s.length + 56
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 57
+  def method57(xs: List[Int], s: String): Int = {
+    val base = s.length + 57
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 58
+  def method58(xs: List[Int], s: String): Int = {
+    val base = s.length + 58
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 59
+  def method59(xs: List[Int], s: String): Int = {
+    val base = s.length + 59
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 60
+  def method60(xs: List[Int], s: String): Int = {
+    val base = s.length + 60
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 61
+  def method61(xs: List[Int], s: String): Int = {
+    val base = s.length + 61
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 62
+  def method62(xs: List[Int], s: String): Int = {
+    val base = s.length + 62
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 63
+  def method63(xs: List[Int], s: String): Int = {
+    val base = s.length + 63
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 64
+  def method64(xs: List[Int], s: String): Int = {
+    val base = s.length + 64
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 65
+  def method65(xs: List[Int], s: String): Int = {
+    val base = s.length + 65
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 66
+  def method66(xs: List[Int], s: String): Int = {
+    val base = s.length + 66
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 67
+  def method67(xs: List[Int], s: String): Int = {
+    val base = s.length + 67
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 68
+  def method68(xs: List[Int], s: String): Int = {
+    val base = s.length + 68
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 69
+  def method69(xs: List[Int], s: String): Int = {
+    val base = s.length + 69
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 70
+  def method70(xs: List[Int], s: String): Int = {
+    val base = s.length + 70
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 71
+  def method71(xs: List[Int], s: String): Int = {
+    val base = s.length + 71
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 72
+  def method72(xs: List[Int], s: String): Int = {
+    val base = s.length + 72
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 73
+  def method73(xs: List[Int], s: String): Int = {
+    val base = s.length + 73
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 74
+  def method74(xs: List[Int], s: String): Int = {
+    val base = s.length + 74
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 75
+  def method75(xs: List[Int], s: String): Int = {
+    val base = s.length + 75
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 76
+  def method76(xs: List[Int], s: String): Int = {
+    val base = s.length + 76
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 77
+  def method77(xs: List[Int], s: String): Int = {
+    val base = s.length + 77
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 78
+  def method78(xs: List[Int], s: String): Int = {
+    val base = s.length + 78
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 79
+  def method79(xs: List[Int], s: String): Int = {
+    val base = s.length + 79
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 80
+  def method80(xs: List[Int], s: String): Int = {
+    val base = s.length + 80
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 81
+  def method81(xs: List[Int], s: String): Int = {
+    val base = s.length + 81
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 82
+  def method82(xs: List[Int], s: String): Int = {
+    val base = s.length + 82
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 83
+  def method83(xs: List[Int], s: String): Int = {
+    val base = s.length + 83
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 84
+  def method84(xs: List[Int], s: String): Int = {
+    val base = s.length + 84
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 85
+  def method85(xs: List[Int], s: String): Int = {
+    val base = s.length + 85
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 86
+  def method86(xs: List[Int], s: String): Int = {
+    val base = s.length + 86
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 87
+  def method87(xs: List[Int], s: String): Int = {
+    val base = s.length + 87
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 88
+  def method88(xs: List[Int], s: String): Int = {
+    val base = s.length + 88
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 89
+  def method89(xs: List[Int], s: String): Int = {
+    val base = s.length + 89
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 90
+  def method90(xs: List[Int], s: String): Int = {
+    val base = s.length + 90
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 91
+  def method91(xs: List[Int], s: String): Int = {
+    val base = s.length + 91
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 92
+  def method92(xs: List[Int], s: String): Int = {
+    val base = s.length + 92
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 93
+  def method93(xs: List[Int], s: String): Int = {
+    val base = s.length + 93
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 94
+  def method94(xs: List[Int], s: String): Int = {
+    val base = s.length + 94
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 95
+  def method95(xs: List[Int], s: String): Int = {
+    val base = s.length + 95
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 96
+  def method96(xs: List[Int], s: String): Int = {
+    val base = s.length + 96
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 97
+  def method97(xs: List[Int], s: String): Int = {
+    val base = s.length + 97
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 98
+  def method98(xs: List[Int], s: String): Int = {
+    val base = s.length + 98
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 99
+  def method99(xs: List[Int], s: String): Int = {
+    val base = s.length + 99
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 100
+  def method100(xs: List[Int], s: String): Int = {
+    val base = s.length + 100
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 101
+  def method101(xs: List[Int], s: String): Int = {
+    val base = s.length + 101
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 102
+  def method102(xs: List[Int], s: String): Int = {
+    val base = s.length + 102
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 103
+  def method103(xs: List[Int], s: String): Int = {
+    val base = s.length + 103
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 104
+  def method104(xs: List[Int], s: String): Int = {
+    val base = s.length + 104
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 105
+  def method105(xs: List[Int], s: String): Int = {
+    val base = s.length + 105
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 106
+  def method106(xs: List[Int], s: String): Int = {
+    val base = s.length + 106
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 107
+  def method107(xs: List[Int], s: String): Int = {
+    val base = s.length + 107
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 108
+  def method108(xs: List[Int], s: String): Int = {
+    val base = s.length + 108
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 109
+  def method109(xs: List[Int], s: String): Int = {
+    val base = s.length + 109
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 110
+  def method110(xs: List[Int], s: String): Int = {
+    val base = s.length + 110
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 111
+  def method111(xs: List[Int], s: String): Int = {
+    val base = s.length + 111
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 112
+  def method112(xs: List[Int], s: String): Int = {
+    val base = s.length + 112
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 113
+  def method113(xs: List[Int], s: String): Int = {
+    val base = s.length + 113
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 114
+  def method114(xs: List[Int], s: String): Int = {
+    val base = s.length + 114
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 115
+  def method115(xs: List[Int], s: String): Int = {
+    val base = s.length + 115
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 116
+  def method116(xs: List[Int], s: String): Int = {
+    val base = s.length + 116
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 117
+  def method117(xs: List[Int], s: String): Int = {
+    val base = s.length + 117
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 118
+  def method118(xs: List[Int], s: String): Int = {
+    val base = s.length + 118
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 119
+  def method119(xs: List[Int], s: String): Int = {
+    val base = s.length + 119
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 120
+  def method120(xs: List[Int], s: String): Int = {
+    val base = s.length + 120
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 121
+  def method121(xs: List[Int], s: String): Int = {
+    val base = s.length + 121
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 122
+  def method122(xs: List[Int], s: String): Int = {
+    val base = s.length + 122
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 123
+  def method123(xs: List[Int], s: String): Int = {
+    val base = s.length + 123
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 124
+  def method124(xs: List[Int], s: String): Int = {
+    val base = s.length + 124
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 125
+  def method125(xs: List[Int], s: String): Int = {
+    val base = s.length + 125
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 126
+  def method126(xs: List[Int], s: String): Int = {
+    val base = s.length + 126
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 127
+  def method127(xs: List[Int], s: String): Int = {
+    val base = s.length + 127
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 128
+  def method128(xs: List[Int], s: String): Int = {
+    val base = s.length + 128
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 129
+  def method129(xs: List[Int], s: String): Int = {
+    val base = s.length + 129
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 130
+  def method130(xs: List[Int], s: String): Int = {
+    val base = s.length + 130
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 131
+  def method131(xs: List[Int], s: String): Int = {
+    val base = s.length + 131
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 132
+  def method132(xs: List[Int], s: String): Int = {
+    val base = s.length + 132
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 133
+  def method133(xs: List[Int], s: String): Int = {
+    val base = s.length + 133
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 134
+  def method134(xs: List[Int], s: String): Int = {
+    val base = s.length + 134
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 135
+  def method135(xs: List[Int], s: String): Int = {
+    val base = s.length + 135
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 136
+  def method136(xs: List[Int], s: String): Int = {
+    val base = s.length + 136
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 137
+  def method137(xs: List[Int], s: String): Int = {
+    val base = s.length + 137
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 138
+  def method138(xs: List[Int], s: String): Int = {
+    val base = s.length + 138
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 139
+  def method139(xs: List[Int], s: String): Int = {
+    val base = s.length + 139
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 140
+  def method140(xs: List[Int], s: String): Int = {
+    val base = s.length + 140
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 141
+  def method141(xs: List[Int], s: String): Int = {
+    val base = s.length + 141
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 142
+  def method142(xs: List[Int], s: String): Int = {
+    val base = s.length + 142
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 143
+  def method143(xs: List[Int], s: String): Int = {
+    val base = s.length + 143
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 144
+  def method144(xs: List[Int], s: String): Int = {
+    val base = s.length + 144
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 145
+  def method145(xs: List[Int], s: String): Int = {
+    val base = s.length + 145
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 146
+  def method146(xs: List[Int], s: String): Int = {
+    val base = s.length + 146
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 147
+  def method147(xs: List[Int], s: String): Int = {
+    val base = s.length + 147
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 148
+  def method148(xs: List[Int], s: String): Int = {
+    val base = s.length + 148
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 149
+  def method149(xs: List[Int], s: String): Int = {
+    val base = s.length + 149
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 150
+  def method150(xs: List[Int], s: String): Int = {
+    val base = s.length + 150
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 151
+  def method151(xs: List[Int], s: String): Int = {
+    val base = s.length + 151
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 152
+  def method152(xs: List[Int], s: String): Int = {
+    val base = s.length + 152
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 153
+  def method153(xs: List[Int], s: String): Int = {
+    val base = s.length + 153
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 154
+  def method154(xs: List[Int], s: String): Int = {
+    val base = s.length + 154
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 155
+  def method155(xs: List[Int], s: String): Int = {
+    val base = s.length + 155
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 156
+  def method156(xs: List[Int], s: String): Int = {
+    val base = s.length + 156
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 157
+  def method157(xs: List[Int], s: String): Int = {
+    val base = s.length + 157
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 158
+  def method158(xs: List[Int], s: String): Int = {
+    val base = s.length + 158
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 159
+  def method159(xs: List[Int], s: String): Int = {
+    val base = s.length + 159
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 160
+  def method160(xs: List[Int], s: String): Int = {
+    val base = s.length + 160
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 161
+  def method161(xs: List[Int], s: String): Int = {
+    val base = s.length + 161
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 162
+  def method162(xs: List[Int], s: String): Int = {
+    val base = s.length + 162
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 163
+  def method163(xs: List[Int], s: String): Int = {
+    val base = s.length + 163
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 164
+  def method164(xs: List[Int], s: String): Int = {
+    val base = s.length + 164
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 165
+  def method165(xs: List[Int], s: String): Int = {
+    val base = s.length + 165
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 166
+  def method166(xs: List[Int], s: String): Int = {
+    val base = s.length + 166
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 167
+  def method167(xs: List[Int], s: String): Int = {
+    val base = s.length + 167
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 168
+  def method168(xs: List[Int], s: String): Int = {
+    val base = s.length + 168
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 169
+  def method169(xs: List[Int], s: String): Int = {
+    val base = s.length + 169
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 170
+  def method170(xs: List[Int], s: String): Int = {
+    val base = s.length + 170
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 171
+  def method171(xs: List[Int], s: String): Int = {
+    val base = s.length + 171
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 172
+  def method172(xs: List[Int], s: String): Int = {
+    val base = s.length + 172
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 173
+  def method173(xs: List[Int], s: String): Int = {
+    val base = s.length + 173
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 174
+  def method174(xs: List[Int], s: String): Int = {
+    val base = s.length + 174
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 175
+  def method175(xs: List[Int], s: String): Int = {
+    val base = s.length + 175
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 176
+  def method176(xs: List[Int], s: String): Int = {
+    val base = s.length + 176
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 177
+  def method177(xs: List[Int], s: String): Int = {
+    val base = s.length + 177
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 178
+  def method178(xs: List[Int], s: String): Int = {
+    val base = s.length + 178
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 179
+  def method179(xs: List[Int], s: String): Int = {
+    val base = s.length + 179
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 180
+  def method180(xs: List[Int], s: String): Int = {
+    val base = s.length + 180
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 181
+  def method181(xs: List[Int], s: String): Int = {
+    val base = s.length + 181
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 182
+  def method182(xs: List[Int], s: String): Int = {
+    val base = s.length + 182
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 183
+  def method183(xs: List[Int], s: String): Int = {
+    val base = s.length + 183
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 184
+  def method184(xs: List[Int], s: String): Int = {
+    val base = s.length + 184
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 185
+  def method185(xs: List[Int], s: String): Int = {
+    val base = s.length + 185
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 186
+  def method186(xs: List[Int], s: String): Int = {
+    val base = s.length + 186
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 187
+  def method187(xs: List[Int], s: String): Int = {
+    val base = s.length + 187
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 188
+  def method188(xs: List[Int], s: String): Int = {
+    val base = s.length + 188
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 189
+  def method189(xs: List[Int], s: String): Int = {
+    val base = s.length + 189
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 190
+  def method190(xs: List[Int], s: String): Int = {
+    val base = s.length + 190
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 191
+  def method191(xs: List[Int], s: String): Int = {
+    val base = s.length + 191
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 192
+  def method192(xs: List[Int], s: String): Int = {
+    val base = s.length + 192
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 193
+  def method193(xs: List[Int], s: String): Int = {
+    val base = s.length + 193
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 194
+  def method194(xs: List[Int], s: String): Int = {
+    val base = s.length + 194
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 195
+  def method195(xs: List[Int], s: String): Int = {
+    val base = s.length + 195
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 196
+  def method196(xs: List[Int], s: String): Int = {
+    val base = s.length + 196
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 197
+  def method197(xs: List[Int], s: String): Int = {
+    val base = s.length + 197
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 198
+  def method198(xs: List[Int], s: String): Int = {
+    val base = s.length + 198
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 199
+  def method199(xs: List[Int], s: String): Int = {
+    val base = s.length + 199
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 200
+  def method200(xs: List[Int], s: String): Int = {
+    val base = s.length + 200
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 201
+  def method201(xs: List[Int], s: String): Int = {
+    val base = s.length + 201
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 202
+  def method202(xs: List[Int], s: String): Int = {
+    val base = s.length + 202
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 203
+  def method203(xs: List[Int], s: String): Int = {
+    val base = s.length + 203
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 204
+  def method204(xs: List[Int], s: String): Int = {
+    val base = s.length + 204
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 205
+  def method205(xs: List[Int], s: String): Int = {
+    val base = s.length + 205
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 206
+  def method206(xs: List[Int], s: String): Int = {
+    val base = s.length + 206
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 207
+  def method207(xs: List[Int], s: String): Int = {
+    val base = s.length + 207
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 208
+  def method208(xs: List[Int], s: String): Int = {
+    val base = s.length + 208
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 209
+  def method209(xs: List[Int], s: String): Int = {
+    val base = s.length + 209
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 210
+  def method210(xs: List[Int], s: String): Int = {
+    val base = s.length + 210
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 211
+  def method211(xs: List[Int], s: String): Int = {
+    val base = s.length + 211
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 212
+  def method212(xs: List[Int], s: String): Int = {
+    val base = s.length + 212
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 213
+  def method213(xs: List[Int], s: String): Int = {
+    val base = s.length + 213
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 214
+  def method214(xs: List[Int], s: String): Int = {
+    val base = s.length + 214
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 215
+  def method215(xs: List[Int], s: String): Int = {
+    val base = s.length + 215
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 216
+  def method216(xs: List[Int], s: String): Int = {
+    val base = s.length + 216
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 217
+  def method217(xs: List[Int], s: String): Int = {
+    val base = s.length + 217
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 218
+  def method218(xs: List[Int], s: String): Int = {
+    val base = s.length + 218
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 219
+  def method219(xs: List[Int], s: String): Int = {
+    val base = s.length + 219
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 220
+  def method220(xs: List[Int], s: String): Int = {
+    val base = s.length + 220
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 221
+  def method221(xs: List[Int], s: String): Int = {
+    val base = s.length + 221
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 222
+  def method222(xs: List[Int], s: String): Int = {
+    val base = s.length + 222
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 223
+  def method223(xs: List[Int], s: String): Int = {
+    val base = s.length + 223
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 224
+  def method224(xs: List[Int], s: String): Int = {
+    val base = s.length + 224
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 225
+  def method225(xs: List[Int], s: String): Int = {
+    val base = s.length + 225
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 226
+  def method226(xs: List[Int], s: String): Int = {
+    val base = s.length + 226
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 227
+  def method227(xs: List[Int], s: String): Int = {
+    val base = s.length + 227
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 228
+  def method228(xs: List[Int], s: String): Int = {
+    val base = s.length + 228
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 229
+  def method229(xs: List[Int], s: String): Int = {
+    val base = s.length + 229
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 230
+  def method230(xs: List[Int], s: String): Int = {
+    val base = s.length + 230
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 231
+  def method231(xs: List[Int], s: String): Int = {
+    val base = s.length + 231
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 232
+  def method232(xs: List[Int], s: String): Int = {
+    val base = s.length + 232
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 233
+  def method233(xs: List[Int], s: String): Int = {
+    val base = s.length + 233
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 234
+  def method234(xs: List[Int], s: String): Int = {
+    val base = s.length + 234
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 235
+  def method235(xs: List[Int], s: String): Int = {
+    val base = s.length + 235
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 236
+  def method236(xs: List[Int], s: String): Int = {
+    val base = s.length + 236
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 237
+  def method237(xs: List[Int], s: String): Int = {
+    val base = s.length + 237
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 238
+  def method238(xs: List[Int], s: String): Int = {
+    val base = s.length + 238
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 239
+  def method239(xs: List[Int], s: String): Int = {
+    val base = s.length + 239
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 240
+  def method240(xs: List[Int], s: String): Int = {
+    val base = s.length + 240
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 241
+  def method241(xs: List[Int], s: String): Int = {
+    val base = s.length + 241
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 242
+  def method242(xs: List[Int], s: String): Int = {
+    val base = s.length + 242
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 243
+  def method243(xs: List[Int], s: String): Int = {
+    val base = s.length + 243
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 244
+  def method244(xs: List[Int], s: String): Int = {
+    val base = s.length + 244
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 245
+  def method245(xs: List[Int], s: String): Int = {
+    val base = s.length + 245
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 246
+  def method246(xs: List[Int], s: String): Int = {
+    val base = s.length + 246
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 247
+  def method247(xs: List[Int], s: String): Int = {
+    val base = s.length + 247
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 248
+  def method248(xs: List[Int], s: String): Int = {
+    val base = s.length + 248
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 249
+  def method249(xs: List[Int], s: String): Int = {
+    val base = s.length + 249
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 250
+  def method250(xs: List[Int], s: String): Int = {
+    val base = s.length + 250
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 251
+  def method251(xs: List[Int], s: String): Int = {
+    val base = s.length + 251
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 252
+  def method252(xs: List[Int], s: String): Int = {
+    val base = s.length + 252
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 253
+  def method253(xs: List[Int], s: String): Int = {
+    val base = s.length + 253
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 254
+  def method254(xs: List[Int], s: String): Int = {
+    val base = s.length + 254
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 255
+  def method255(xs: List[Int], s: String): Int = {
+    val base = s.length + 255
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 256
+  def method256(xs: List[Int], s: String): Int = {
+    val base = s.length + 256
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 257
+  def method257(xs: List[Int], s: String): Int = {
+    val base = s.length + 257
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 258
+  def method258(xs: List[Int], s: String): Int = {
+    val base = s.length + 258
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 259
+  def method259(xs: List[Int], s: String): Int = {
+    val base = s.length + 259
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 260
+  def method260(xs: List[Int], s: String): Int = {
+    val base = s.length + 260
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 261
+  def method261(xs: List[Int], s: String): Int = {
+    val base = s.length + 261
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 262
+  def method262(xs: List[Int], s: String): Int = {
+    val base = s.length + 262
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 263
+  def method263(xs: List[Int], s: String): Int = {
+    val base = s.length + 263
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 264
+  def method264(xs: List[Int], s: String): Int = {
+    val base = s.length + 264
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 265
+  def method265(xs: List[Int], s: String): Int = {
+    val base = s.length + 265
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 266
+  def method266(xs: List[Int], s: String): Int = {
+    val base = s.length + 266
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 267
+  def method267(xs: List[Int], s: String): Int = {
+    val base = s.length + 267
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 268
+  def method268(xs: List[Int], s: String): Int = {
+    val base = s.length + 268
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 269
+  def method269(xs: List[Int], s: String): Int = {
+    val base = s.length + 269
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 270
+  def method270(xs: List[Int], s: String): Int = {
+    val base = s.length + 270
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 271
+  def method271(xs: List[Int], s: String): Int = {
+    val base = s.length + 271
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 272
+  def method272(xs: List[Int], s: String): Int = {
+    val base = s.length + 272
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 273
+  def method273(xs: List[Int], s: String): Int = {
+    val base = s.length + 273
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 274
+  def method274(xs: List[Int], s: String): Int = {
+    val base = s.length + 274
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 275
+  def method275(xs: List[Int], s: String): Int = {
+    val base = s.length + 275
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 276
+  def method276(xs: List[Int], s: String): Int = {
+    val base = s.length + 276
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 277
+  def method277(xs: List[Int], s: String): Int = {
+    val base = s.length + 277
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 278
+  def method278(xs: List[Int], s: String): Int = {
+    val base = s.length + 278
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 279
+  def method279(xs: List[Int], s: String): Int = {
+    val base = s.length + 279
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 280
+  def method280(xs: List[Int], s: String): Int = {
+    val base = s.length + 280
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 281
+  def method281(xs: List[Int], s: String): Int = {
+    val base = s.length + 281
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 282
+  def method282(xs: List[Int], s: String): Int = {
+    val base = s.length + 282
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 283
+  def method283(xs: List[Int], s: String): Int = {
+    val base = s.length + 283
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 284
+  def method284(xs: List[Int], s: String): Int = {
+    val base = s.length + 284
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 285
+  def method285(xs: List[Int], s: String): Int = {
+    val base = s.length + 285
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 286
+  def method286(xs: List[Int], s: String): Int = {
+    val base = s.length + 286
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 287
+  def method287(xs: List[Int], s: String): Int = {
+    val base = s.length + 287
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 288
+  def method288(xs: List[Int], s: String): Int = {
+    val base = s.length + 288
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 289
+  def method289(xs: List[Int], s: String): Int = {
+    val base = s.length + 289
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 290
+  def method290(xs: List[Int], s: String): Int = {
+    val base = s.length + 290
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 291
+  def method291(xs: List[Int], s: String): Int = {
+    val base = s.length + 291
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 292
+  def method292(xs: List[Int], s: String): Int = {
+    val base = s.length + 292
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 293
+  def method293(xs: List[Int], s: String): Int = {
+    val base = s.length + 293
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 294
+  def method294(xs: List[Int], s: String): Int = {
+    val base = s.length + 294
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 295
+  def method295(xs: List[Int], s: String): Int = {
+    val base = s.length + 295
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 296
+  def method296(xs: List[Int], s: String): Int = {
+    val base = s.length + 296
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 297
+  def method297(xs: List[Int], s: String): Int = {
+    val base = s.length + 297
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 298
+  def method298(xs: List[Int], s: String): Int = {
+    val base = s.length + 298
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+
+  // method 299
+  def method299(xs: List[Int], s: String): Int = {
+    val base = s.length + 299
+    xs.filter(_ % 2 == 0).map(x => x * base).foldLeft(0) { (acc, x) =>
+      if (acc > 100) acc / 2 else acc + x
+    }
+  }
+}
@@ -0,0 +1,6286 @@
+package bench;
+
+import java.util.List;
+
+public class LargeClass {
+
+    static class Inner0 {
+        private int count0;
+        private final List<String> names0 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count0;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names0 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count0;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names0 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count0;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names0 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count0;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names0 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count0;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names0 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count0;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names0 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count0;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names0 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count0;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names0 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner1 {
+        private int count1;
+        private final List<String> names1 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count1;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names1 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count1;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names1 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count1;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names1 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count1;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names1 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count1;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names1 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count1;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names1 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count1;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names1 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count1;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names1 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner2 {
+        private int count2;
+        private final List<String> names2 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count2;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names2 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count2;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names2 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count2;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names2 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count2;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names2 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count2;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names2 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count2;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names2 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count2;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names2 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count2;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names2 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner3 {
+        private int count3;
+        private final List<String> names3 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count3;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names3 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count3;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names3 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count3;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names3 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count3;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names3 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count3;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names3 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count3;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names3 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count3;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names3 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count3;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names3 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner4 {
+        private int count4;
+        private final List<String> names4 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count4;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names4 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count4;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names4 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count4;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names4 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count4;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names4 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count4;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names4 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count4;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names4 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count4;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names4 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count4;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names4 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner5 {
+        private int count5;
+        private final List<String> names5 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count5;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names5 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count5;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names5 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count5;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names5 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count5;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names5 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count5;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names5 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count5;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names5 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count5;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names5 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count5;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names5 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner6 {
+        private int count6;
+        private final List<String> names6 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count6;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names6 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count6;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names6 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count6;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names6 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count6;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names6 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count6;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names6 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count6;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names6 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count6;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names6 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count6;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names6 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner7 {
+        private int count7;
+        private final List<String> names7 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count7;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names7 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count7;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names7 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count7;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names7 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count7;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names7 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count7;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names7 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count7;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names7 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count7;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names7 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count7;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names7 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner8 {
+        private int count8;
+        private final List<String> names8 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count8;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names8 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count8;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names8 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count8;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names8 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count8;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names8 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count8;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names8 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count8;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names8 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count8;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names8 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count8;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names8 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner9 {
+        private int count9;
+        private final List<String> names9 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count9;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names9 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count9;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names9 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count9;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names9 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count9;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names9 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count9;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names9 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count9;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names9 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count9;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names9 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count9;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names9 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner10 {
+        private int count10;
+        private final List<String> names10 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count10;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names10 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count10;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names10 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count10;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names10 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count10;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names10 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count10;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names10 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count10;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names10 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count10;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names10 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count10;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names10 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner11 {
+        private int count11;
+        private final List<String> names11 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count11;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names11 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count11;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names11 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count11;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names11 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count11;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names11 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count11;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names11 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count11;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names11 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count11;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names11 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count11;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names11 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner12 {
+        private int count12;
+        private final List<String> names12 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count12;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names12 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count12;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names12 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count12;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names12 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count12;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names12 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count12;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names12 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count12;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names12 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count12;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names12 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count12;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names12 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner13 {
+        private int count13;
+        private final List<String> names13 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count13;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names13 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count13;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names13 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count13;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names13 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count13;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names13 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count13;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names13 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count13;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names13 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count13;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names13 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count13;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names13 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner14 {
+        private int count14;
+        private final List<String> names14 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count14;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names14 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count14;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names14 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count14;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names14 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count14;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names14 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count14;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names14 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count14;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names14 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count14;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names14 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count14;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names14 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner15 {
+        private int count15;
+        private final List<String> names15 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count15;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names15 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count15;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names15 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count15;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names15 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count15;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names15 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count15;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names15 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count15;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names15 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count15;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names15 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count15;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names15 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner16 {
+        private int count16;
+        private final List<String> names16 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count16;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names16 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count16;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names16 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count16;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names16 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count16;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names16 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count16;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names16 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count16;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names16 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count16;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names16 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count16;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names16 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner17 {
+        private int count17;
+        private final List<String> names17 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count17;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names17 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count17;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names17 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count17;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names17 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count17;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names17 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count17;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names17 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count17;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names17 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count17;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names17 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count17;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names17 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner18 {
+        private int count18;
+        private final List<String> names18 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count18;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names18 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count18;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names18 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count18;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names18 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count18;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names18 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count18;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names18 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count18;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names18 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count18;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names18 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count18;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names18 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner19 {
+        private int count19;
+        private final List<String> names19 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count19;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names19 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count19;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names19 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count19;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names19 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count19;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names19 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count19;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names19 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count19;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names19 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count19;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names19 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count19;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names19 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner20 {
+        private int count20;
+        private final List<String> names20 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count20;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names20 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count20;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names20 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count20;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names20 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count20;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names20 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count20;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names20 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count20;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names20 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count20;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names20 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count20;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names20 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner21 {
+        private int count21;
+        private final List<String> names21 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count21;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names21 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count21;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names21 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count21;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names21 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count21;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names21 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count21;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names21 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count21;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names21 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count21;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names21 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count21;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names21 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner22 {
+        private int count22;
+        private final List<String> names22 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count22;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names22 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count22;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names22 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count22;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names22 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count22;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names22 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count22;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names22 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count22;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names22 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count22;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names22 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count22;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names22 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner23 {
+        private int count23;
+        private final List<String> names23 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count23;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names23 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count23;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names23 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count23;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names23 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count23;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names23 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count23;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names23 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count23;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names23 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count23;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names23 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count23;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names23 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner24 {
+        private int count24;
+        private final List<String> names24 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count24;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names24 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count24;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names24 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count24;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names24 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count24;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names24 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count24;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names24 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count24;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names24 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count24;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names24 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count24;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names24 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner25 {
+        private int count25;
+        private final List<String> names25 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count25;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names25 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count25;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names25 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count25;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names25 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count25;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names25 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count25;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names25 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count25;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names25 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count25;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names25 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count25;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names25 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner26 {
+        private int count26;
+        private final List<String> names26 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count26;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names26 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count26;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names26 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count26;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names26 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count26;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names26 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count26;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names26 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count26;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names26 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count26;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names26 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count26;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names26 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner27 {
+        private int count27;
+        private final List<String> names27 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count27;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names27 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count27;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names27 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count27;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names27 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count27;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names27 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count27;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names27 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count27;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names27 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count27;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names27 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count27;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names27 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner28 {
+        private int count28;
+        private final List<String> names28 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count28;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names28 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count28;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names28 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count28;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names28 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count28;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names28 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count28;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names28 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count28;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names28 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count28;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names28 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count28;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names28 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner29 {
+        private int count29;
+        private final List<String> names29 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count29;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names29 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count29;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names29 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count29;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names29 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count29;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names29 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count29;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names29 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count29;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names29 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count29;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names29 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count29;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names29 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner30 {
+        private int count30;
+        private final List<String> names30 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count30;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names30 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count30;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names30 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count30;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names30 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count30;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names30 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count30;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names30 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count30;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names30 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count30;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names30 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count30;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names30 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner31 {
+        private int count31;
+        private final List<String> names31 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count31;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names31 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count31;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names31 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count31;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names31 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count31;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names31 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count31;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names31 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count31;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names31 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count31;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names31 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count31;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names31 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner32 {
+        private int count32;
+        private final List<String> names32 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count32;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names32 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count32;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names32 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count32;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names32 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count32;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names32 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count32;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names32 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count32;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names32 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count32;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names32 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count32;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names32 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner33 {
+        private int count33;
+        private final List<String> names33 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count33;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names33 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count33;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names33 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count33;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names33 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count33;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names33 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count33;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names33 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count33;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names33 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count33;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names33 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count33;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names33 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner34 {
+        private int count34;
+        private final List<String> names34 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count34;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names34 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count34;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names34 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count34;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names34 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count34;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names34 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count34;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names34 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count34;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names34 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count34;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names34 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count34;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names34 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner35 {
+        private int count35;
+        private final List<String> names35 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count35;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names35 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count35;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names35 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count35;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names35 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count35;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names35 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count35;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names35 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count35;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names35 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count35;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names35 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count35;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names35 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner36 {
+        private int count36;
+        private final List<String> names36 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count36;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names36 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count36;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names36 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count36;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names36 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count36;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names36 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count36;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names36 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count36;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names36 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count36;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names36 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count36;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names36 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner37 {
+        private int count37;
+        private final List<String> names37 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count37;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names37 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count37;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names37 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count37;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names37 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count37;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names37 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count37;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names37 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count37;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names37 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count37;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names37 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count37;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names37 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner38 {
+        private int count38;
+        private final List<String> names38 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count38;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names38 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count38;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names38 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count38;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names38 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count38;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names38 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count38;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names38 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count38;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names38 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count38;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names38 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count38;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names38 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+
+    static class Inner39 {
+        private int count39;
+        private final List<String> names39 = null;
+
+        /** Method 0. */
+        public int method0(int x, String s) {
+            int y = x + 0;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count39;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names39 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 1. */
+        public int method1(int x, String s) {
+            int y = x + 1;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count39;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names39 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 2. */
+        public int method2(int x, String s) {
+            int y = x + 2;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count39;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names39 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 3. */
+        public int method3(int x, String s) {
+            int y = x + 3;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count39;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names39 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 4. */
+        public int method4(int x, String s) {
+            int y = x + 4;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count39;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names39 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 5. */
+        public int method5(int x, String s) {
+            int y = x + 5;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count39;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names39 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 6. */
+        public int method6(int x, String s) {
+            int y = x + 6;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count39;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names39 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+
+        /** Method 7. */
+        public int method7(int x, String s) {
+            int y = x + 7;
+            for (int i = 0; i < x; i++) {
+                if (i % 2 == 0) {
+                    try {
+                        y += s.length() * i + count39;
+                    } catch (RuntimeException e) {
+                        y--;
+                    }
+                } else {
+                    while (y > 100) {
+                        y = y / 2 - (names39 == null ? 0 : 1);
+                    }
+                }
+            }
+            return y;
+        }
+    }
+}
@@ -5,15 +5,20 @@
 package net.sourceforge.pmd.util.fxdesigner;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.reactfx.Subscription;
+import org.reactfx.util.FxTimer;
+
 import net.sourceforge.pmd.PMDVersion;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerParams;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRootImpl;
+import net.sourceforge.pmd.util.fxdesigner.app.services.StartupTracer;
 import net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil;
 
 import javafx.application.Application;
@@ -51,6 +56,8 @@ public class Designer extends Application {
         return DesignerVersion.getPmdCoreMinVersion();
     }
     
+    private static final Duration STARTUP_TRACE_TIMEOUT = Duration.ofSeconds(10);
+
     private long initStartTimeMillis;
     private DesignerRoot designerRoot;
 
@@ -78,6 +85,8 @@ public class Designer extends Application {
 
         System.out.println(stage.getTitle() + " initializing... ");
 
+        StartupTracer tracer = owner.getService(DesignerRoot.STARTUP_TRACER);
+
         FXMLLoader loader = new FXMLLoader(DesignerUtil.getFxml("designer"));
 
         MainDesignerController mainController = new MainDesignerController(owner);
@@ -108,12 +117,24 @@ public class Designer extends Application {
             e.consume(); // don't close the window yet, will be closed by Platform#exit
         });
 
-        Parent root = loader.load();
-        Scene scene = new Scene(root);
+        Subscription fxmlLoad = tracer.phase("FXML load: designer");
+        Parent root;
+        try {
+            root = loader.load();
+        } finally {
+            fxmlLoad.unsubscribe();
+        }
 
-        stage.setScene(scene);
+        tracer.trace("Show stage", () -> {
+            Scene scene = new Scene(root);
+            stage.setScene(scene);
+            stage.show();
+        });
 
-        stage.show();
+        // the timeline is printed when the source has been parsed and highlighted once,
+        // or after a timeout if that never happens (eg the source is empty)
+        tracer.finishAfter(StartupTracer.FIRST_PARSE, StartupTracer.FIRST_HIGHLIGHT);
+        FxTimer.runLater(STARTUP_TRACE_TIMEOUT, tracer::finish);
 
         if (!owner.isDeveloperMode()) {
             // only close after initialization succeeded.
@@ -13,16 +13,20 @@ import static net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry.plain
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.StringUtils;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.reactfx.Subscription;
 import org.reactfx.value.Var;
@@ -31,13 +35,21 @@ import net.sourceforge.pmd.lang.Language;
 import net.sourceforge.pmd.lang.LanguageVersion;
 import net.sourceforge.pmd.util.fxdesigner.app.AbstractController;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
+import net.sourceforge.pmd.util.fxdesigner.app.services.ASTManager;
+import net.sourceforge.pmd.util.fxdesigner.app.services.StartupTracer;
+import net.sourceforge.pmd.util.fxdesigner.model.ProjectScan;
+import net.sourceforge.pmd.util.fxdesigner.model.VersionedXPathQuery;
+import net.sourceforge.pmd.util.fxdesigner.model.XPathEvaluationException;
 import net.sourceforge.pmd.util.fxdesigner.popups.EventLogController;
+import net.sourceforge.pmd.util.fxdesigner.popups.PerformanceOverlayController;
+import net.sourceforge.pmd.util.fxdesigner.popups.ProjectScanController;
 import net.sourceforge.pmd.util.fxdesigner.popups.SimplePopups;
 import net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry;
 import net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil;
 import net.sourceforge.pmd.util.fxdesigner.util.LimitedSizeStack;
 import net.sourceforge.pmd.util.fxdesigner.util.ResourceUtil;
 import net.sourceforge.pmd.util.fxdesigner.util.SoftReferenceCache;
+import net.sourceforge.pmd.util.fxdesigner.util.autocomplete.XPathCompletionSource;
 import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsPersistenceUtil.PersistentProperty;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.DynamicWidthChoicebox;
 
@@ -54,6 +66,7 @@ import javafx.scene.control.SingleSelectionModel;
 import javafx.scene.control.SplitPane;
 import javafx.scene.control.Tab;
 import javafx.scene.control.Tooltip;
+import javafx.stage.DirectoryChooser;
 import javafx.stage.FileChooser;
 
 
@@ -66,6 +79,12 @@ import javafx.stage.FileChooser;
 @SuppressWarnings("PMD.UnusedPrivateField")
 public class MainDesignerController extends AbstractController {
 
+    private static final ExecutorService FILE_LOADER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "Designer-file-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
 
     /* Menu bar */
     // help
@@ -83,6 +102,8 @@ public class MainDesignerController extends AbstractController {
     private MenuItem setupAuxclasspathMenuItem;
     @FXML
     public MenuItem openEventLogMenuItem;
+    @FXML
+    private MenuItem performanceOverlayMenuItem;
 
     // file
     @FXML
@@ -90,6 +111,8 @@ public class MainDesignerController extends AbstractController {
     @FXML
     private MenuItem openFileMenuItem;
     @FXML
+    private MenuItem scanDirectoryMenuItem;
+    @FXML
     private MenuItem saveMenuItem;
     @FXML
     private Menu openRecentMenu;
@@ -119,15 +142,18 @@ public class MainDesignerController extends AbstractController {
 
     // we cache it but if it's not used the FXML is not created, etc
     private final SoftReferenceCache<EventLogController> eventLogController;
+    private final SoftReferenceCache<PerformanceOverlayController> performanceOverlayController;
     @FXML
     private DynamicWidthChoicebox<Language> languageChoicebox;
 
     // Other fields
     private final Deque<File> recentFiles = new LimitedSizeStack<>(5);
+    private int largeFileThresholdKb = 2048;
 
     public MainDesignerController(@NamedArg("designerRoot") DesignerRoot designerRoot) {
         super(designerRoot);
         eventLogController = new SoftReferenceCache<>(() -> new EventLogController(designerRoot));
+        performanceOverlayController = new SoftReferenceCache<>(() -> new PerformanceOverlayController(designerRoot));
 
         designerRoot.registerService(DesignerRoot.APP_GLOBAL_LANGUAGE, globalLanguage.orElseConst(defaultLanguage()));
     }
@@ -136,10 +162,16 @@ public class MainDesignerController extends AbstractController {
 
     @Override
     protected void beforeParentInit() {
-        getDesignerRoot().getService(DesignerRoot.PERSISTENCE_MANAGER).restoreSettings(this);
+        StartupTracer tracer = getService(DesignerRoot.STARTUP_TRACER);
+        tracer.trace("Settings restore", () -> getService(DesignerRoot.PERSISTENCE_MANAGER).restoreSettings(this));
+
+        // the node names are needed as soon as the user types in an XPath editor
+        Language restoredLanguage = globalLanguage.getOrElse(defaultLanguage());
+        tracer.warmUp("Node name catalog: " + restoredLanguage.getId(), () -> XPathCompletionSource.forLanguage(restoredLanguage));
 
         licenseMenuItem.setOnAction(e -> showLicensePopup());
         openFileMenuItem.setOnAction(e -> onOpenFileClicked());
+        scanDirectoryMenuItem.setOnAction(e -> onScanDirectoryClicked());
         openRecentMenu.setOnAction(e -> updateRecentFilesMenu());
         openRecentMenu.setOnShowing(e -> updateRecentFilesMenu());
         saveMenuItem.setOnAction(e -> getService(DesignerRoot.PERSISTENCE_MANAGER).persistSettings(this));
@@ -157,6 +189,8 @@ public class MainDesignerController extends AbstractController {
         openEventLogMenuItem.textProperty().bind(
             getLogger().numNewLogEntriesProperty().map(i -> "Event _Log (" + (i > 0 ? i : "no") + " new)")
         );
+        performanceOverlayMenuItem.setVisible(isDeveloperMode());
+        performanceOverlayMenuItem.setOnAction(e -> performanceOverlayController.get().showPopup());
 
         initLanguageChoicebox();
 
@@ -215,42 +249,102 @@ public class MainDesignerController extends AbstractController {
         loadSourceFromFile(file);
     }
 
+    private void onScanDirectoryClicked() {
+        VersionedXPathQuery query = getService(DesignerRoot.LATEST_XPATH).latestMessage().getValue();
+        if (query == null || StringUtils.isBlank(query.getExpression())) {
+            SimplePopups.showActionFeedback(languageChoicebox, AlertType.INFORMATION, "Write an XPath query first");
+            return;
+        }
+
+        DirectoryChooser chooser = new DirectoryChooser();
+        chooser.setTitle("Run the rule on the files of a directory");
+        File dir = chooser.showDialog(getMainStage());
+        if (dir == null) {
+            return;
+        }
+
+        ASTManager astManager = getService(DesignerRoot.AST_MANAGER);
+        Language language = getGlobalLanguage();
+        // the version selected for the editor
+        LanguageVersion version = astManager.languageVersionProperty()
+                                            .filter(v -> v.getLanguage().equals(language))
+                                            .getOrElse(language.getDefaultVersion());
+        ProjectScan scan;
+        try {
+            scan = new ProjectScan(getService(DesignerRoot.LANGUAGE_PROCESSOR_POOL),
+                                   astManager.classLoaderProperty().getOrElse(MainDesignerController.class.getClassLoader()),
+                                   version,
+                                   query,
+                                   astManager.ruleProperties().getOrElse(Collections.emptyMap()),
+                                   ProjectScan.DEFAULT_MEMORY_BUDGET);
+        } catch (XPathEvaluationException e) {
+            SimplePopups.showActionFeedback(languageChoicebox, AlertType.ERROR, "Invalid rule properties: " + e.getCause().getMessage());
+            return;
+        }
+        new ProjectScanController(getDesignerRoot()).showAndStart(dir.toPath(), scan);
+    }
+
     private void loadSourceFromFile(File file) {
-        if (file != null) {
+        if (file == null) {
+            return;
+        }
+
+        long size = file.length();
+        if (size > getLargeFileThresholdKb() * 1024L) {
+            SimplePopups.showActionFeedback(
+                languageChoicebox,
+                AlertType.WARNING,
+                "Large file (" + size / 1024 + " KB), the editor may be slow"
+            );
+        }
+
+        // decoding a big file takes a while, don't block the UI
+        CompletableFuture.supplyAsync(() -> {
             try {
-                String source = ResourceUtil.readToString(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8);
-                sourceEditorController.setText(source);
-                LanguageVersion guess = getLanguageVersionFromExtension(file.getName());
-                if (guess == null) {
-
-                    if (!isXmlDialect(getGlobalLanguage())) {
-                        // if we're a xml language, assume the file is some xml dialect too,
-                        //   otherwise go back to plain text
-                        sourceEditorController.setLanguageVersion(plainTextLanguage().getDefaultVersion());
-                    }
-
-                    if (getSupportedLanguages().count() > 1) {
-                        SimplePopups.showActionFeedback(
-                            languageChoicebox,
-                            AlertType.INFORMATION,
-                            "Pick a language?"
-                        );
-                    }
-                } else if (!Objects.equals(guess, sourceEditorController.getLanguageVersion())) {
-                    // guess the language from the extension
-                    sourceEditorController.setLanguageVersion(guess);
-                    SimplePopups.showActionFeedback(
-                        languageChoicebox,
-                        AlertType.CONFIRMATION,
-                        "Set language to " + guess.getLanguage().getName()
-                    );
-                }
-
-                recentFiles.push(file);
+                return ResourceUtil.readFile(file.toPath(), StandardCharsets.UTF_8);
             } catch (IOException e) {
-                e.printStackTrace();
+                throw new UncheckedIOException(e);
+            }
+        }, FILE_LOADER).whenComplete((source, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                error.printStackTrace();
+                SimplePopups.showActionFeedback(languageChoicebox, AlertType.ERROR, "Could not load " + file.getName());
+            } else {
+                onSourceLoaded(file, source);
+            }
+        }));
+    }
+
+    private void onSourceLoaded(File file, String source) {
+        // set the language first, so that the source is only parsed once
+        LanguageVersion guess = getLanguageVersionFromExtension(file.getName());
+        if (guess == null) {
+
+            if (!isXmlDialect(getGlobalLanguage())) {
+                // if we're a xml language, assume the file is some xml dialect too,
+                //   otherwise go back to plain text
+                sourceEditorController.setLanguageVersion(plainTextLanguage().getDefaultVersion());
+            }
+
+            if (getSupportedLanguages().count() > 1) {
+                SimplePopups.showActionFeedback(
+                    languageChoicebox,
+                    AlertType.INFORMATION,
+                    "Pick a language?"
+                );
             }
+        } else if (!Objects.equals(guess, sourceEditorController.getLanguageVersion())) {
+            // guess the language from the extension
+            sourceEditorController.setLanguageVersion(guess);
+            SimplePopups.showActionFeedback(
+                languageChoicebox,
+                AlertType.CONFIRMATION,
+                "Set language to " + guess.getLanguage().getName()
+            );
         }
+
+        sourceEditorController.loadText(source);
+        recentFiles.push(file);
     }
 
 
@@ -302,6 +396,23 @@ public class MainDesignerController extends AbstractController {
     }
 
 
+    /**
+     * Files bigger than this, in KB, are loaded with a warning. This is
+     * independent from the large-file mode of the editor, which depends
+     * on the number of chars of the text, see
+     * {@link net.sourceforge.pmd.util.fxdesigner.util.codearea.SyntaxHighlightingCodeArea#largeFileThresholdProperty()}.
+     */
+    @PersistentProperty
+    public int getLargeFileThresholdKb() {
+        return largeFileThresholdKb;
+    }
+
+
+    public void setLargeFileThresholdKb(int largeFileThresholdKb) {
+        this.largeFileThresholdKb = largeFileThresholdKb;
+    }
+
+
     @PersistentProperty
     public boolean isMaximized() {
         return getMainStage().isMaximized();
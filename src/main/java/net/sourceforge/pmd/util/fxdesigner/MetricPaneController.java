@@ -4,10 +4,23 @@
 
 package net.sourceforge.pmd.util.fxdesigner;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.reactfx.EventStream;
 import org.reactfx.EventStreams;
 import org.reactfx.value.Val;
 import org.reactfx.value.Var;
@@ -15,18 +28,21 @@ import org.reactfx.value.Var;
 import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.lang.metrics.LanguageMetricsProvider;
 import net.sourceforge.pmd.lang.metrics.Metric;
-import net.sourceforge.pmd.lang.metrics.MetricOptions;
+import net.sourceforge.pmd.lang.metrics.MetricsUtil;
 import net.sourceforge.pmd.util.fxdesigner.app.AbstractController;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.app.NodeSelectionSource;
 import net.sourceforge.pmd.util.fxdesigner.model.MetricResult;
 import net.sourceforge.pmd.util.fxdesigner.util.DataHolder;
+import net.sourceforge.pmd.util.fxdesigner.util.SlicedComputation;
+import net.sourceforge.pmd.util.fxdesigner.util.controls.ControlUtil;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.ToolbarTitledPane;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListView;
+import javafx.scene.control.ToggleButton;
 
 
 /**
@@ -43,9 +59,26 @@ public class MetricPaneController extends AbstractController implements NodeSele
     private ToolbarTitledPane metricsTitledPane;
     @FXML
     private ListView<MetricResult<?>> metricResultsListView;
+    @FXML
+    private ToggleButton heatmapToggle;
 
     private final Var<Integer> numAvailableMetrics = Var.newSimpleVar(0);
 
+    /**
+     * Results of the metrics for a node. Nodes are only reachable as long
+     * as their AST is, so the results for outdated ASTs are collected.
+     */
+    private final Map<Node, List<MetricResult<?>>> resultsCache = new WeakHashMap<>();
+    private @Nullable SlicedComputation currentComputation;
+
+    /** Root for which the heatmap was computed, null if it's not up to date. */
+    private @Nullable Node heatmapRoot;
+    private ObservableList<MetricResult<?>> heatmapItems = FXCollections.observableArrayList();
+
+    private Val<Node> compilationUnit;
+    private Val<Boolean> isShowing;
+    private @Nullable Node focusNode;
+
 
     public MetricPaneController(DesignerRoot designerRoot) {
         super(designerRoot);
@@ -54,10 +87,32 @@ public class MetricPaneController extends AbstractController implements NodeSele
 
     @Override
     protected void beforeParentInit() {
-        initNodeSelectionHandling(getDesignerRoot(), EventStreams.never(), false);
+        EventStream<NodeSelectionEvent> heatmapSelection =
+            EventStreams.valuesOf(metricResultsListView.getSelectionModel().selectedItemProperty())
+                        .filter(it -> it != null && it.getNode() != null)
+                        .map(it -> NodeSelectionEvent.of(it.getNode()));
+
+        initNodeSelectionHandling(getDesignerRoot(), heatmapSelection, false);
 
         metricsTitledPane.titleProperty().bind(numAvailableMetrics().map(i -> "Metrics\t(" + (i == 0 ? "none" : i) + " available)"));
 
+        // metrics are only computed when the panel is visible
+        isShowing = ControlUtil.isShowingProperty(metricsTitledPane);
+        isShowing.values().subscribe(showing -> {
+            if (showing) {
+                refreshResults();
+            } else {
+                cancelComputation();
+            }
+        });
+        EventStreams.valuesOf(heatmapToggle.selectedProperty()).subscribe(heatmap -> refreshResults());
+        // the heatmap only depends on the AST, not on the selection
+        compilationUnit = getService(DesignerRoot.AST_MANAGER).compilationUnitProperty();
+        compilationUnit.values().subscribe(root -> {
+            if (heatmapToggle.isSelected()) {
+                refreshResults();
+            }
+        });
     }
 
 
@@ -69,13 +124,12 @@ public class MetricPaneController extends AbstractController implements NodeSele
      */
     @Override
     public void setFocusNode(final Node node, DataHolder options) {
-
-        ObservableList<MetricResult<?>> metrics = evaluateAllMetrics(node);
-        metricResultsListView.setItems(metrics);
-
-        numAvailableMetrics.setValue((int) metrics.stream()
-                                                  .map(MetricResult::getValue)
-                                                  .count());
+        focusNode = node;
+        // cheap, and done even when not showing, because the metrics tab is disabled when there are none
+        numAvailableMetrics.setValue(node == null ? 0 : supportedMetrics(node).size());
+        if (!heatmapToggle.isSelected()) {
+            refreshResults();
+        }
     }
 
 
@@ -84,24 +138,116 @@ public class MetricPaneController extends AbstractController implements NodeSele
     }
 
 
-    private ObservableList<MetricResult<?>> evaluateAllMetrics(Node n) {
-        LanguageMetricsProvider provider = n.getAstInfo().getLanguageProcessor().services().getLanguageMetricsProvider();
-        if (provider == null) {
-            return FXCollections.emptyObservableList();
+    private void refreshResults() {
+        if (!isShowing.getOrElse(false)) {
+            return;
         }
-        List<MetricResult<?>> results = new ArrayList<>();
-        for (Metric<?, ?> metric : provider.getMetrics()) {
-            MetricResult<?> result = computeMetric(metric, n);
-            if (result != null) {
-                results.add(result);
+
+        if (heatmapToggle.isSelected()) {
+            Node root = compilationUnit.getValue();
+            if (root == null) {
+                cancelComputation();
+                metricResultsListView.setItems(FXCollections.emptyObservableList());
+            } else if (root != heatmapRoot) {
+                cancelComputation();
+                computeHeatmap(root);
+            } else if (metricResultsListView.getItems() != heatmapItems) {
+                // up to date or being computed, keep the scroll position
+                metricResultsListView.setItems(heatmapItems);
             }
+            return;
+        }
+
+        cancelComputation();
+        if (focusNode == null) {
+            metricResultsListView.setItems(FXCollections.emptyObservableList());
+        } else {
+            computeNodeMetrics(focusNode);
+        }
+    }
+
+
+    private void cancelComputation() {
+        if (currentComputation != null && !currentComputation.isDone()) {
+            currentComputation.cancel();
+            // an interrupted heatmap is computed again when needed
+            heatmapRoot = null;
         }
-        return FXCollections.observableArrayList(results);
     }
 
 
-    private <R extends Number> MetricResult<R> computeMetric(Metric<?, R> metric, Node node) {
-        @Nullable R result = Metric.compute(metric, node, MetricOptions.emptyOptions());
+    /** Computes the metrics of one node, adding the results as they come. */
+    private void computeNodeMetrics(Node node) {
+        List<MetricResult<?>> cached = resultsCache.get(node);
+        if (cached != null) {
+            metricResultsListView.setItems(FXCollections.observableArrayList(cached));
+            return;
+        } else if (supportedMetrics(node).isEmpty()) {
+            metricResultsListView.setItems(FXCollections.emptyObservableList());
+            return;
+        }
+
+        ObservableList<MetricResult<?>> items = FXCollections.observableArrayList();
+        metricResultsListView.setItems(items);
+
+        currentComputation = SlicedComputation.start(
+            new BottomUpMetrics(node, (n, result) -> {
+                if (n == node) {
+                    items.add(result);
+                }
+            }, () -> { }),
+            this::logInternalException
+        );
+    }
+
+
+    /**
+     * Computes all the metrics for all the nodes of the file. The results
+     * are then sorted by decreasing value relative to the max value of the
+     * same metric.
+     */
+    private void computeHeatmap(Node root) {
+        heatmapRoot = root;
+        heatmapItems = FXCollections.observableArrayList();
+        metricResultsListView.setItems(heatmapItems);
+
+        ObservableList<MetricResult<?>> items = heatmapItems;
+        Map<Node, List<MetricResult<?>>> byNode = new LinkedHashMap<>();
+        Map<Metric<?, ?>, Double> maxValues = new HashMap<>();
+
+        BottomUpMetrics steps = new BottomUpMetrics(root, (node, r) -> {
+            maxValues.merge(r.getKey(), Math.abs(r.getValue().doubleValue()), Math::max);
+            byNode.computeIfAbsent(node, n -> new ArrayList<>()).add(r);
+        }, () -> {
+            List<MetricResult<?>> heatmap = new ArrayList<>();
+            byNode.forEach((node, results) -> {
+                for (MetricResult<?> r : results) {
+                    double max = maxValues.get(r.getKey());
+                    heatmap.add(r.locatedOn(node, max == 0 ? 0 : Math.abs(r.getValue().doubleValue()) / max));
+                }
+            });
+            heatmap.sort(Comparator.comparingDouble((MetricResult<?> r) -> r.getHeat()).reversed());
+            items.setAll(heatmap);
+        });
+
+        currentComputation = SlicedComputation.start(steps, this::logInternalException);
+    }
+
+
+    private static List<Metric<?, ?>> supportedMetrics(Node n) {
+        LanguageMetricsProvider provider = n.getAstInfo().getLanguageProcessor().services().getLanguageMetricsProvider();
+        if (provider == null) {
+            return Collections.emptyList();
+        }
+        return provider.getMetrics().stream().filter(m -> m.supports(n)).collect(Collectors.toList());
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private static <R extends Number> MetricResult<R> computeMetric(Metric<?, R> metric, Node node) {
+        // memoized on the node, so that the metrics of its parents can reuse it.
+        // The metric supports the node, so the cast is safe
+        @Nullable R result = MetricsUtil.computeMetric((Metric<Node, R>) metric, node);
         if (result != null) {
             return new MetricResult<>(metric, result);
         }
@@ -113,4 +259,82 @@ public class MetricPaneController extends AbstractController implements NodeSele
     public String getDebugName() {
         return "metric-panel";
     }
+
+
+    /**
+     * Steps that compute the metrics of all the nodes of a subtree,
+     * including its root. Each step handles a single node, or computes a
+     * single metric on a single node, and results are cached per node.
+     *
+     * <p>Nodes are processed bottom-up: metrics of a node, eg the WMC of
+     * a class, are often aggregated from the metrics of the nodes below
+     * it, which {@link MetricsUtil} memoizes on those nodes. So the cost
+     * of a step is bounded by the size of a member rather than that of
+     * the whole class.
+     */
+    private final class BottomUpMetrics implements BooleanSupplier {
+
+        private final Iterator<? extends Node> traversal;
+        /** Nodes that support some metrics, the last one found is on top. */
+        private final Deque<Node> pending = new ArrayDeque<>();
+        private final BiConsumer<Node, MetricResult<?>> onResult;
+        private final Runnable onDone;
+
+        private @Nullable Node current;
+        private Iterator<Metric<?, ?>> currentMetrics = Collections.emptyIterator();
+        private List<MetricResult<?>> currentResults = new ArrayList<>();
+
+
+        /**
+         * @param root     Root of the subtree
+         * @param onResult Called with each result, in the order they're computed
+         * @param onDone   Called when all metrics have been computed
+         */
+        BottomUpMetrics(Node root, BiConsumer<Node, MetricResult<?>> onResult, Runnable onDone) {
+            this.traversal = root.descendantsOrSelf().crossFindBoundaries().iterator();
+            this.onResult = onResult;
+            this.onDone = onDone;
+        }
+
+
+        @Override
+        public boolean getAsBoolean() {
+            if (traversal.hasNext()) {
+                // collect the nodes in pre-order, they're then popped children first
+                Node node = traversal.next();
+                if (!supportedMetrics(node).isEmpty()) {
+                    pending.push(node);
+                }
+                return true;
+            } else if (currentMetrics.hasNext()) {
+                MetricResult<?> result = computeMetric(currentMetrics.next(), current);
+                if (result != null) {
+                    currentResults.add(result);
+                    onResult.accept(current, result);
+                }
+                return true;
+            }
+
+            if (current != null) {
+                resultsCache.put(current, currentResults);
+            }
+            current = pending.poll();
+            if (current == null) {
+                onDone.run();
+                return false;
+            }
+
+            List<MetricResult<?>> cached = resultsCache.get(current);
+            if (cached != null) {
+                Node node = current;
+                cached.forEach(r -> onResult.accept(node, r));
+                currentResults = cached;
+                currentMetrics = Collections.emptyIterator();
+            } else {
+                currentResults = new ArrayList<>();
+                currentMetrics = supportedMetrics(current).iterator();
+            }
+            return true;
+        }
+    }
 }
@@ -6,7 +6,6 @@ package net.sourceforge.pmd.util.fxdesigner;
 
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 
 import org.reactfx.EventStreams;
@@ -22,10 +21,14 @@ import net.sourceforge.pmd.util.designerbindings.DesignerBindings.DefaultDesigne
 import net.sourceforge.pmd.util.fxdesigner.app.AbstractController;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.app.NodeSelectionSource;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics.CacheCounters;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics;
+import net.sourceforge.pmd.util.fxdesigner.model.AttributeSnapshot;
 import net.sourceforge.pmd.util.fxdesigner.util.DataHolder;
-import net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil;
 import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsPersistenceUtil.PersistentProperty;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.AttributeNameTableCell;
+import net.sourceforge.pmd.util.fxdesigner.util.controls.AttributeValueTableCell;
+import net.sourceforge.pmd.util.fxdesigner.util.controls.ControlUtil;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -81,7 +84,12 @@ public class NodeDetailPaneController extends AbstractController implements Node
             .subscribe(show -> setFocusNode(currentSelection.getValue(), new DataHolder()));
 
 
-        attrValueColumn.setCellValueFactory(param -> Val.constant(DesignerUtil.attrToXpathString(param.getValue())));
+        // values are computed only for the rows that are displayed
+        attrValueColumn.setCellValueFactory(param -> {
+            Attribute attr = param.getValue();
+            return AttributeSnapshot.of(attr.getParent()).xpathValueProperty(attr);
+        });
+        attrValueColumn.setCellFactory(col -> new AttributeValueTableCell());
         attrNameColumn.setCellValueFactory(param -> Val.constant("@" + param.getValue().getName()));
         attrNameColumn.setCellFactory(col -> new AttributeNameTableCell());
 
@@ -90,6 +98,12 @@ public class NodeDetailPaneController extends AbstractController implements Node
         attrValueColumn.setGraphic(valueColGraphic);
     }
 
+    @Override
+    public Val<Boolean> selectionVisibilityProperty() {
+        return ControlUtil.isShowingProperty(xpathAttributesTableView);
+    }
+
+
     @Override
     public void setFocusNode(final Node node, DataHolder options) {
         xpathAttributesTableView.setItems(getAttributes(node));
@@ -113,22 +127,13 @@ public class NodeDetailPaneController extends AbstractController implements Node
         }
 
         ObservableList<Attribute> result = FXCollections.observableArrayList();
-        Iterator<Attribute> attributeAxisIterator = node.getXPathAttributesIterator();
-        while (attributeAxisIterator.hasNext()) {
-            Attribute attribute = attributeAxisIterator.next();
-
+        CacheCounters lookups = getService(DesignerRoot.PERFORMANCE_METRICS).cache(PerformanceMetrics.ATTRIBUTE_SNAPSHOTS);
+        for (Attribute attribute : AttributeSnapshot.of(node, lookups).getAttributes()) {
             if (!(isHideCommonAttributes() && IGNORABLE_ATTRIBUTES.contains(attribute.getName()))) {
-
-                try {
-                    result.add(attribute);
-                } catch (Exception ignored) {
-                    // some attributes throw eg numberformat exceptions
-                }
-
+                result.add(attribute);
             }
         }
 
-        result.sort(Comparator.comparing(Attribute::getName));
         xpathAttributesTableView.setPlaceholder(new Label("No available attributes"));
         return result;
     }
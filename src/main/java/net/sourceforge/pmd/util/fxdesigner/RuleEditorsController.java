@@ -87,8 +87,10 @@ public class RuleEditorsController extends AbstractController {
                 // add at least one tab
                 mutableTabPane.addTabWithNewController();
             } else {
+                // The editors are only initialized when their tab is first selected,
+                // so that restoring many tabs doesn't load all their UI upfront
                 for (ObservableXPathRuleBuilder builder : ruleSpecs) {
-                    mutableTabPane.addTabWithController(new XPathRuleEditorController(newScope(), builder));
+                    mutableTabPane.addLazyTab(new XPathRuleEditorController(newScope(), builder));
                 }
             }
 
@@ -6,19 +6,26 @@ package net.sourceforge.pmd.util.fxdesigner;
 
 import static net.sourceforge.pmd.util.fxdesigner.util.AstTraversalUtil.parentIterator;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.reactfx.EventStream;
 import org.reactfx.EventStreams;
 import org.reactfx.SuspendableEventStream;
+import org.reactfx.value.Val;
 
 import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.lang.symboltable.NameDeclaration;
+import net.sourceforge.pmd.lang.symboltable.Scope;
+import net.sourceforge.pmd.lang.symboltable.ScopedNode;
 import net.sourceforge.pmd.util.fxdesigner.app.AbstractController;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.app.NodeSelectionSource;
 import net.sourceforge.pmd.util.fxdesigner.util.DataHolder;
 import net.sourceforge.pmd.util.fxdesigner.util.DesignerIteratorUtil;
+import net.sourceforge.pmd.util.fxdesigner.util.controls.ControlUtil;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.ScopeHierarchyTreeCell;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.ScopeHierarchyTreeItem;
 
@@ -43,6 +50,9 @@ public class ScopesPanelController extends AbstractController implements NodeSel
 
     private SuspendableEventStream<TreeItem<Object>> myScopeItemSelectionEvents;
 
+    private final Map<Scope, ScopeHierarchyTreeItem> hierarchyCache = new IdentityHashMap<>();
+    private Node hierarchyCacheRoot;
+
 
     public ScopesPanelController(DesignerRoot designerRoot) {
         super(designerRoot);
@@ -69,6 +79,12 @@ public class ScopesPanelController extends AbstractController implements NodeSel
     }
 
 
+    @Override
+    public Val<Boolean> selectionVisibilityProperty() {
+        return ControlUtil.isShowingProperty(scopeHierarchyTreeView);
+    }
+
+
     @Override
     public void setFocusNode(final Node node, DataHolder options) {
         if (node == null) {
@@ -79,7 +95,10 @@ public class ScopesPanelController extends AbstractController implements NodeSel
         // current selection
         TreeItem<Object> previousSelection = scopeHierarchyTreeView.getSelectionModel().getSelectedItem();
 
-        ScopeHierarchyTreeItem rootScope = ScopeHierarchyTreeItem.buildAscendantHierarchy(node);
+        ScopeHierarchyTreeItem rootScope = getHierarchy(node);
+        if (rootScope == scopeHierarchyTreeView.getRoot()) {
+            return; // same scope, the selection is still valid
+        }
         scopeHierarchyTreeView.setRoot(rootScope);
 
 
@@ -96,6 +115,23 @@ public class ScopesPanelController extends AbstractController implements NodeSel
     }
 
 
+    /**
+     * Returns the ascendant hierarchy of the scope of the node. Hierarchies
+     * are memoized per scope, as long as the AST doesn't change.
+     */
+    private @Nullable ScopeHierarchyTreeItem getHierarchy(Node node) {
+        if (node.getRoot() != hierarchyCacheRoot) {
+            hierarchyCache.clear();
+            hierarchyCacheRoot = node.getRoot();
+        }
+        Scope scope = node instanceof ScopedNode ? ((ScopedNode) node).getScope() : null;
+        if (scope == null) {
+            return null;
+        }
+        return hierarchyCache.computeIfAbsent(scope, s -> ScopeHierarchyTreeItem.buildAscendantHierarchy(node));
+    }
+
+
     @Override
     public String getDebugName() {
         return "scopes-panel";
@@ -10,9 +10,7 @@ import static net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil.sanitizeExce
 import static net.sourceforge.pmd.util.fxdesigner.util.reactfx.ReactfxUtil.latestValue;
 
 import java.io.File;
-import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -28,7 +26,6 @@ import org.reactfx.value.SuspendableVar;
 import org.reactfx.value.Val;
 import org.reactfx.value.Var;
 
-import net.sourceforge.pmd.internal.util.ClasspathClassLoader; // NOPMD
 import net.sourceforge.pmd.lang.Language;
 import net.sourceforge.pmd.lang.LanguageVersion;
 import net.sourceforge.pmd.lang.ast.Node;
@@ -86,17 +83,11 @@ public class SourceEditorController extends AbstractController {
     private final LiveTestCase defaultTestCase = new LiveTestCase();
     /** Contains the loaded *user-defined* test case. */
     private final SuspendableVar<LiveTestCase> currentlyOpenTestCase = Var.suspendable(Var.newSimpleVar(null));
-    private static final Duration AST_REFRESH_DELAY = Duration.ofMillis(100);
     private final ASTManager astManager;
     private final Var<List<File>> auxclasspathFiles = Var.newSimpleVar(emptyList());
-    private final Val<ClassLoader> auxclasspathClassLoader = auxclasspathFiles.<ClassLoader>map(fileList -> {
-        try {
-            return new ClasspathClassLoader(fileList, SourceEditorController.class.getClassLoader());
-        } catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        }
-    }).orElseConst(SourceEditorController.class.getClassLoader());
+    private final Val<ClassLoader> auxclasspathClassLoader =
+        auxclasspathFiles.map(fileList -> getService(DesignerRoot.AUXCLASSPATH_MANAGER).getClassLoader(fileList))
+                         .orElseConst(SourceEditorController.class.getClassLoader());
 
     @FXML
     private Button searchButton;
@@ -257,9 +248,9 @@ public class SourceEditorController extends AbstractController {
 
 
         Var<String> areaText = Var.fromVal(
-            latestValue(nodeEditionCodeArea.plainTextChanges()
-                                           .successionEnds(AST_REFRESH_DELAY)
-                                           .map(it -> nodeEditionCodeArea.getText())),
+            latestValue(astManager.parseDelay()
+                                  .successionEnds(nodeEditionCodeArea.plainTextChanges())
+                                  .map(it -> nodeEditionCodeArea.getText())),
             text -> nodeEditionCodeArea.replaceText(text)
         );
 
@@ -400,6 +391,16 @@ public class SourceEditorController extends AbstractController {
     }
 
 
+    /**
+     * Replaces the text of the editor and parses it right away. The
+     * parser gets the given string, instead of a copy of the text
+     * of the editor once it has settled.
+     */
+    public void loadText(String text) {
+        astManager.sourceCodeProperty().setValue(text);
+    }
+
+
     public Val<String> textProperty() {
         return Val.wrap(nodeEditionCodeArea.textProperty());
     }
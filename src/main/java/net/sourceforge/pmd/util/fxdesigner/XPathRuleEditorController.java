@@ -54,12 +54,14 @@ import net.sourceforge.pmd.util.fxdesigner.util.autocomplete.XPathAutocompletePr
 import net.sourceforge.pmd.util.fxdesigner.util.autocomplete.XPathCompletionSource;
 import net.sourceforge.pmd.util.fxdesigner.util.codearea.SyntaxHighlightingCodeArea;
 import net.sourceforge.pmd.util.fxdesigner.util.codearea.syntaxhighlighting.XPathSyntaxHighlighter;
+import net.sourceforge.pmd.util.fxdesigner.util.controls.ControlUtil;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.HelpfulPlaceholder;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.PopOverWrapper;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.PropertyCollectionView;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.TitleOwner;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.ToolbarTitledPane;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.XpathViolationListCell;
+import net.sourceforge.pmd.util.fxdesigner.util.reactfx.AdaptiveDelay;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -96,12 +98,16 @@ import javafx.stage.StageStyle;
 public final class XPathRuleEditorController extends AbstractController implements NodeSelectionSource, TitleOwner, CloseableService {
 
     private static final String NO_MATCH_MESSAGE = "No match in text";
+    /** Delay before evaluating the query after it's edited, until an evaluation has been timed. */
     private static final Duration XPATH_REFRESH_DELAY = Duration.ofMillis(100);
+    private static final Duration MIN_XPATH_REFRESH_DELAY = Duration.ofMillis(30);
+    private static final Duration MAX_XPATH_REFRESH_DELAY = Duration.ofMillis(1000);
     private static final Pattern SAXON_MISSING_PROPERTY_EXTRACTOR = Pattern.compile("Undeclared variable in XPath expression: \\$(\\w+)");
     private final SoftReferenceCache<ExportXPathWizardController> exportWizard;
     private final ObservableXPathRuleBuilder ruleBuilder;
     private final Var<ObservableList<Node>> myXpathResults = Var.newSimpleVar(null);
     private final Var<List<Node>> currentResults = Var.newSimpleVar(Collections.emptyList());
+    private final AdaptiveDelay xpathRefreshDelay = new AdaptiveDelay(XPATH_REFRESH_DELAY, MIN_XPATH_REFRESH_DELAY, MAX_XPATH_REFRESH_DELAY);
     private final PopOverWrapper<ObservableXPathRuleBuilder> propertiesPopover;
 
     @FXML
@@ -123,6 +129,7 @@ public final class XPathRuleEditorController extends AbstractController implemen
     // ui property
     private Var<XPathVersion> xpathVersionUIProperty = Var.newSimpleVar(XPathVersion.DEFAULT);
     private SuspendableEventStream<TextAwareNodeWrapper> selectionEvents;
+    private Subscription selectionHandling = Subscription.EMPTY;
 
     public XPathRuleEditorController(DesignerRoot root) {
         this(root, new ObservableXPathRuleBuilder());
@@ -157,7 +164,7 @@ public final class XPathRuleEditorController extends AbstractController implemen
         exportXpathToRuleButton.setOnAction(e -> showExportXPathToRuleWizard());
 
         // this is the source of xpath results
-        getRuleBuilder().modificationsTicks().successionEnds(XPATH_REFRESH_DELAY)
+        xpathRefreshDelay.successionEnds(getRuleBuilder().modificationsTicks())
                         .map(tick -> new VersionedXPathQuery(
                                  getRuleBuilder().getXpathVersion(),
                                  getRuleBuilder().getXpathExpression(),
@@ -168,12 +175,18 @@ public final class XPathRuleEditorController extends AbstractController implemen
 
         new MyXpathSubscriber(getDesignerRoot()).init(getService(DesignerRoot.AST_MANAGER));
 
+        xpathRefreshDelay.delayProperty()
+                         .changes()
+                         .subscribe(ch -> logInternalDebugInfo(() -> "XPath refresh delay changed to " + ch.getNewValue().toMillis() + "ms",
+                                                               xpathRefreshDelay::toString));
+
 
         selectionEvents = EventStreams.valuesOf(xpathResultListView.getSelectionModel().selectedItemProperty()).suppressible();
 
-        initNodeSelectionHandling(getDesignerRoot(),
-                                  selectionEvents.filter(Objects::nonNull).map(TextAwareNodeWrapper::getNode).map(NodeSelectionEvent::of),
-                                  false);
+        // the tab may be closed, then the dispatcher must forget this controller
+        selectionHandling = connectNodeSelection(getDesignerRoot(),
+                                                 selectionEvents.filter(Objects::nonNull).map(TextAwareNodeWrapper::getNode).map(NodeSelectionEvent::of),
+                                                 false);
 
         violationsTitledPane.titleProperty().bind(currentResults.map(List::size).map(n -> "Matched nodes (" + n + ")"));
 
@@ -186,6 +199,12 @@ public final class XPathRuleEditorController extends AbstractController implemen
         expressionTitledPane.errorTypeProperty().setValue("XPath syntax error");
     }
 
+    @Override
+    public Val<Boolean> selectionVisibilityProperty() {
+        return ControlUtil.isShowingProperty(xpathResultListView);
+    }
+
+
     @Override
     public void setFocusNode(Node node, DataHolder options) {
         Optional<TextAwareNodeWrapper> firstResult = xpathResultListView.getItems().stream()
@@ -288,6 +307,7 @@ public final class XPathRuleEditorController extends AbstractController implemen
 
     @Override
     public void close() {
+        selectionHandling.unsubscribe();
         xpathExpressionArea.setSyntaxHighlighter(null);
     }
 
@@ -425,5 +445,10 @@ public final class XPathRuleEditorController extends AbstractController implemen
             updateResults(true, false, Collections.emptyList(), sanitizeExceptionMessage(e));
             logUserException(e, Category.XPATH_EVALUATION_EXCEPTION);
         }
+
+        @Override
+        public void recordEvaluationTime(long nanos) {
+            xpathRefreshDelay.record(nanos);
+        }
     }
 }
@@ -9,6 +9,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.ResourceBundle;
 
+import org.reactfx.Subscription;
+
 import net.sourceforge.pmd.util.fxdesigner.app.services.AppServiceDescriptor;
 import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsOwner;
 
@@ -63,11 +65,16 @@ public abstract class AbstractController implements Initializable, SettingsOwner
 
     @Override
     public final void initialize(URL url, ResourceBundle resourceBundle) {
-        beforeParentInit();
-        for (AbstractController child : getChildren()) {
-            child.afterParentInit();
+        Subscription phase = getService(DesignerRoot.STARTUP_TRACER).phase("Init controller: " + getDebugName());
+        try {
+            beforeParentInit();
+            for (AbstractController child : getChildren()) {
+                child.afterParentInit();
+            }
+            afterChildrenInit();
+        } finally {
+            phase.unsubscribe();
         }
-        afterChildrenInit();
     }
 
 
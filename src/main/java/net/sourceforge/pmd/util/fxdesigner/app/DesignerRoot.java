@@ -12,11 +12,16 @@ import net.sourceforge.pmd.lang.Language;
 import net.sourceforge.pmd.util.fxdesigner.app.NodeSelectionSource.NodeSelectionEvent;
 import net.sourceforge.pmd.util.fxdesigner.app.services.ASTManager;
 import net.sourceforge.pmd.util.fxdesigner.app.services.AppServiceDescriptor;
+import net.sourceforge.pmd.util.fxdesigner.app.services.AuxclasspathManager;
 import net.sourceforge.pmd.util.fxdesigner.app.services.CloseableService;
 import net.sourceforge.pmd.util.fxdesigner.app.services.EventLogger;
+import net.sourceforge.pmd.util.fxdesigner.app.services.FxStallDetector;
 import net.sourceforge.pmd.util.fxdesigner.app.services.GlobalDiskManager;
+import net.sourceforge.pmd.util.fxdesigner.app.services.LanguageProcessorPool;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics;
 import net.sourceforge.pmd.util.fxdesigner.app.services.PersistenceManager;
 import net.sourceforge.pmd.util.fxdesigner.app.services.RichTextMapper;
+import net.sourceforge.pmd.util.fxdesigner.app.services.StartupTracer;
 import net.sourceforge.pmd.util.fxdesigner.app.services.TestCreatorService;
 import net.sourceforge.pmd.util.fxdesigner.model.VersionedXPathQuery;
 import net.sourceforge.pmd.util.fxdesigner.model.export.TreeRendererRegistry;
@@ -47,12 +52,27 @@ public interface DesignerRoot {
 
     AppServiceDescriptor<GlobalDiskManager> DISK_MANAGER = new AppServiceDescriptor<>(GlobalDiskManager.class);
 
+    /** Traces the startup phases, and runs initialization work in the background. */
+    AppServiceDescriptor<StartupTracer> STARTUP_TRACER = new AppServiceDescriptor<>(StartupTracer.class);
+
+    /** Records the durations of the work of the app, displayed by the performance overlay in developer mode. */
+    AppServiceDescriptor<PerformanceMetrics> PERFORMANCE_METRICS = new AppServiceDescriptor<>(PerformanceMetrics.class);
+    /** Logs the stalls of the FX thread, in developer mode. */
+    AppServiceDescriptor<FxStallDetector> FX_STALL_DETECTOR = new AppServiceDescriptor<>(FxStallDetector.class);
+
+    /** Language processors shared by the main editor and the test cases. */
+    AppServiceDescriptor<LanguageProcessorPool> LANGUAGE_PROCESSOR_POOL = new AppServiceDescriptor<>(LanguageProcessorPool.class);
+    /** Creates and retires the classloaders of the auxclasspath. */
+    AppServiceDescriptor<AuxclasspathManager> AUXCLASSPATH_MANAGER = new AppServiceDescriptor<>(AuxclasspathManager.class);
+
     // Those are local to one edit session
 
     /** Maps a node to its rich text representation. */
     AppServiceDescriptor<RichTextMapper> RICH_TEXT_MAPPER = new AppServiceDescriptor<>(RichTextMapper.class);
     /** Channel used to transmit node selection events to all interested components. */
     AppServiceDescriptor<MessageChannel<NodeSelectionEvent>> NODE_SELECTION_CHANNEL = new AppServiceDescriptor<>(MessageChannel.class);
+    /** Delivers node selection events to the components, batched per pulse. */
+    AppServiceDescriptor<NodeSelectionDispatcher> NODE_SELECTION_DISPATCHER = new AppServiceDescriptor<>(NodeSelectionDispatcher.class);
     /** AST manager of the current code. */
     AppServiceDescriptor<ASTManager> AST_MANAGER = new AppServiceDescriptor<>(ASTManager.class);
 
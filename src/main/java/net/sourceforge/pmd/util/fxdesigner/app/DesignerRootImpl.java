@@ -7,18 +7,25 @@ package net.sourceforge.pmd.util.fxdesigner.app;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.reactfx.Subscription;
 import org.reactfx.value.Val;
 import org.reactfx.value.Var;
 
 import net.sourceforge.pmd.util.fxdesigner.app.services.AppServiceDescriptor;
+import net.sourceforge.pmd.util.fxdesigner.app.services.AuxclasspathManager;
 import net.sourceforge.pmd.util.fxdesigner.app.services.CloseableService;
 import net.sourceforge.pmd.util.fxdesigner.app.services.EventLoggerImpl;
+import net.sourceforge.pmd.util.fxdesigner.app.services.FxStallDetector;
 import net.sourceforge.pmd.util.fxdesigner.app.services.GlobalDiskManagerImpl;
+import net.sourceforge.pmd.util.fxdesigner.app.services.LanguageProcessorPool;
 import net.sourceforge.pmd.util.fxdesigner.app.services.LogEntry;
 import net.sourceforge.pmd.util.fxdesigner.app.services.LogEntry.Category;
 import net.sourceforge.pmd.util.fxdesigner.app.services.OnDiskPersistenceManager;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics;
+import net.sourceforge.pmd.util.fxdesigner.app.services.StartupTracer;
 import net.sourceforge.pmd.util.fxdesigner.app.services.TestCreatorService;
 import net.sourceforge.pmd.util.fxdesigner.model.export.TreeRendererRegistry;
+import net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry;
 
 import javafx.application.HostServices;
 import javafx.scene.input.KeyCode;
@@ -47,7 +54,27 @@ public final class DesignerRootImpl implements DesignerRoot {
         this.mainStage = mainStage;
         this.developerMode = params.isDeveloperMode();
 
-        registerService(LOGGER, new EventLoggerImpl(this));
+        EventLoggerImpl logger = new EventLoggerImpl(this);
+        registerService(LOGGER, logger);
+
+        StartupTracer tracer = new StartupTracer(developerMode);
+        registerService(STARTUP_TRACER, tracer);
+        Subscription registration = tracer.phase("Service registration");
+
+        PerformanceMetrics metrics = new PerformanceMetrics();
+        registerService(PERFORMANCE_METRICS, metrics);
+        FxStallDetector stallDetector = new FxStallDetector(this);
+        registerService(FX_STALL_DETECTOR, stallDetector);
+        if (developerMode) {
+            metrics.startFxQueueSampling();
+            stallDetector.start();
+        }
+
+        // independent of the rest, the language modules are loaded while the UI is built
+        tracer.warmUp("Language registry", () -> {
+            AuxLanguageRegistry.warmUp();
+            return null;
+        });
 
         // vetoed by any other key press, so that eg CTRL+V repeatedly vetoes it
         mainStage.addEventHandler(KeyEvent.KEY_PRESSED, e -> isCtrlDown.setValue(
@@ -60,14 +87,24 @@ public final class DesignerRootImpl implements DesignerRoot {
 
         params.processDefaults(diskManager.defaultAppStateFile());
 
+        if (developerMode) {
+            // traces fill the log quickly, keep the evicted ones around
+            logger.spillEvictedEntriesTo(diskManager.getSettingsDirectory().resolve("event-log.txt"));
+        }
+
         registerService(HOST_SERVICES, hostServices);
+        registerService(LANGUAGE_PROCESSOR_POOL, new LanguageProcessorPool());
+        registerService(AUXCLASSPATH_MANAGER, new AuxclasspathManager(this, diskManager.getSettingsDirectory().resolve("jar-index")));
         registerService(PERSISTENCE_MANAGER, new OnDiskPersistenceManager(this, params.getPersistedInputFile(), params.getPersistedOutputFile()));
         registerService(NODE_SELECTION_CHANNEL, new MessageChannel<>(Category.SELECTION_EVENT_TRACING));
+        registerService(NODE_SELECTION_DISPATCHER, new NodeSelectionDispatcher(metrics.histogram(PerformanceMetrics.SELECTION_DISPATCH)::record));
         registerService(LATEST_XPATH, new MessageChannel<>(Category.SELECTION_EVENT_TRACING));
         registerService(TEST_LOADER, new MessageChannel<>(Category.TEST_LOADING_EVENT));
         registerService(TEST_CREATOR, new TestCreatorService());
         registerService(TREE_RENDERER_REGISTRY, new TreeRendererRegistry(this));
         registerService(IS_NODE_BEING_DRAGGED, Var.newSimpleVar(false));
+
+        registration.unsubscribe();
     }
 
 
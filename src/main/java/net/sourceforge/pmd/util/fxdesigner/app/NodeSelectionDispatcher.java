@@ -0,0 +1,194 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.app;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import org.reactfx.Subscription;
+import org.reactfx.value.Val;
+
+import net.sourceforge.pmd.util.fxdesigner.app.NodeSelectionSource.NodeSelectionEvent;
+
+import javafx.application.Platform;
+
+
+/**
+ * Delivers node selection events to the {@link NodeSelectionSource}s
+ * of the app. Events are not delivered immediately, but on the next
+ * run of the FX thread, in a single batch for all listeners. If several
+ * events are dispatched to a listener before that, only the latest
+ * is delivered.
+ *
+ * <p>Listeners that are not visible don't handle events. The latest
+ * event they received is delivered when they become visible again.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class NodeSelectionDispatcher {
+
+    private final Map<NodeSelectionSource, Val<Boolean>> visibility = new HashMap<>();
+    /** Events waiting for the next flush. */
+    private final Map<NodeSelectionSource, Pending> pending = new LinkedHashMap<>();
+    /** Events waiting for their listener to become visible. */
+    private final Map<NodeSelectionSource, Pending> deferred = new HashMap<>();
+    private final LongConsumer latencyRecorder;
+    private boolean flushScheduled;
+
+    private long numDelivered;
+    private long numDropped;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+
+    public NodeSelectionDispatcher() {
+        this(latency -> { });
+    }
+
+
+    /**
+     * @param latencyRecorder Called on the FX thread with the latency of each delivered event, in nanos
+     */
+    public NodeSelectionDispatcher(LongConsumer latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+
+    /**
+     * Registers a listener. Events dispatched to it are handled only
+     * while its visibility is true.
+     *
+     * @return A subscription that unregisters the listener
+     */
+    public synchronized Subscription register(NodeSelectionSource listener, Val<Boolean> isVisible) {
+        visibility.put(listener, isVisible);
+        Subscription sub = isVisible.values().filter(Boolean::booleanValue).subscribe(v -> onBecameVisible(listener));
+        return () -> {
+            sub.unsubscribe();
+            synchronized (this) {
+                visibility.remove(listener);
+                pending.remove(listener);
+                deferred.remove(listener);
+            }
+        };
+    }
+
+
+    /**
+     * Schedules the delivery of an event to a listener. Replaces
+     * the event that is pending for the listener, if any.
+     */
+    public synchronized void dispatch(NodeSelectionSource listener, NodeSelectionEvent event) {
+        enqueue(listener, new Pending(event, System.nanoTime()));
+    }
+
+
+    private void enqueue(NodeSelectionSource listener, Pending event) {
+        if (pending.put(listener, event) != null) {
+            numDropped++;
+        }
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Platform.runLater(this::flush);
+        }
+    }
+
+
+    private synchronized void onBecameVisible(NodeSelectionSource listener) {
+        Pending event = deferred.remove(listener);
+        if (event != null) {
+            enqueue(listener, event);
+        }
+    }
+
+
+    private void flush() {
+        List<Map.Entry<NodeSelectionSource, Pending>> batch;
+        synchronized (this) {
+            flushScheduled = false;
+            batch = new ArrayList<>(pending.entrySet());
+            pending.clear();
+        }
+
+        for (Map.Entry<NodeSelectionSource, Pending> entry : batch) {
+            NodeSelectionSource listener = entry.getKey();
+            Pending event = entry.getValue();
+            long latency = System.nanoTime() - event.dispatchNanos;
+
+            synchronized (this) {
+                Val<Boolean> isVisible = visibility.get(listener);
+                if (isVisible == null) {
+                    continue; // unregistered
+                } else if (!isVisible.getOrElse(true)) {
+                    if (deferred.put(listener, event) != null) {
+                        numDropped++;
+                    }
+                    continue;
+                }
+                numDelivered++;
+                totalLatencyNanos += latency;
+                maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+            }
+            latencyRecorder.accept(latency);
+
+            try {
+                listener.setFocusNode(event.event.selected, event.event.options);
+            } catch (Exception e) {
+                listener.logInternalException(e);
+                // don't rethrow so that an error by one source doesn't affect others
+            }
+        }
+    }
+
+
+    /** Number of events handled by a listener. */
+    public synchronized long getNumDelivered() {
+        return numDelivered;
+    }
+
+
+    /** Number of events that were superseded before their listener handled them. */
+    public synchronized long getNumDropped() {
+        return numDropped;
+    }
+
+
+    /** Mean time between the dispatch of an event and its delivery, in milliseconds. */
+    public synchronized double getMeanLatencyMillis() {
+        return numDelivered == 0 ? 0 : (double) totalLatencyNanos / numDelivered / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+
+    /** Max time between the dispatch of an event and its delivery, in milliseconds. */
+    public synchronized double getMaxLatencyMillis() {
+        return (double) maxLatencyNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+
+    @Override
+    public synchronized String toString() {
+        return String.format("NodeSelectionDispatcher{delivered=%d, dropped=%d, meanLatency=%.2fms, maxLatency=%.2fms}",
+                             numDelivered, numDropped, getMeanLatencyMillis(), getMaxLatencyMillis());
+    }
+
+
+    private static final class Pending {
+
+        private final NodeSelectionEvent event;
+        private final long dispatchNanos;
+
+
+        Pending(NodeSelectionEvent event, long dispatchNanos) {
+            this.event = event;
+            this.dispatchNanos = dispatchNanos;
+        }
+    }
+}
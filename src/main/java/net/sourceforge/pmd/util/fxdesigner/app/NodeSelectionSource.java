@@ -7,6 +7,7 @@ package net.sourceforge.pmd.util.fxdesigner.app;
 import java.util.Objects;
 
 import org.reactfx.EventStream;
+import org.reactfx.Subscription;
 import org.reactfx.value.Val;
 
 import net.sourceforge.pmd.lang.ast.Node;
@@ -14,10 +15,9 @@ import net.sourceforge.pmd.util.fxdesigner.XPathRuleEditorController;
 import net.sourceforge.pmd.util.fxdesigner.util.DataHolder;
 import net.sourceforge.pmd.util.fxdesigner.util.DataHolder.DataKey;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.AstTreeView;
+import net.sourceforge.pmd.util.fxdesigner.util.controls.ControlUtil;
 import net.sourceforge.pmd.util.fxdesigner.util.reactfx.ReactfxUtil;
 
-import javafx.application.Platform;
-
 
 /**
  * A control or controller that somehow displays nodes in a form that the user can select.
@@ -54,6 +54,8 @@ public interface NodeSelectionSource extends ApplicationComponent {
 
     /**
      * Initialises this component. Must be called by the component somewhere.
+     * The selection handling lasts as long as the app, components that
+     * are closed before should use {@link #connectNodeSelection(DesignerRoot, EventStream, boolean)}.
      *
      * @param root                  Instance of the app. Should be the same as {@link #getDesignerRoot()},
      *                              but the parameter here is to make it clear that {@link #getDesignerRoot()}
@@ -68,18 +70,44 @@ public interface NodeSelectionSource extends ApplicationComponent {
     default Val<Node> initNodeSelectionHandling(DesignerRoot root,
                                                 EventStream<? extends NodeSelectionEvent> mySelectionEvents,
                                                 boolean alwaysHandleSelection) {
+        connectNodeSelection(root, mySelectionEvents, alwaysHandleSelection);
         MessageChannel<NodeSelectionEvent> channel = root.getService(DesignerRoot.NODE_SELECTION_CHANNEL);
-        mySelectionEvents.subscribe(n -> channel.pushEvent(this, n));
-        EventStream<NodeSelectionEvent> selection = channel.messageStream(alwaysHandleSelection, this);
-        selection.subscribe(evt -> {
-            try {
-                Platform.runLater(() -> setFocusNode(evt.selected, evt.options));
-            } catch (Exception e) {
-                logInternalException(e);
-                // don't rethrow so that an error by one source doesn't affect others
-            }
-        });
-        return ReactfxUtil.latestValue(selection.map(it -> it.selected));
+        return ReactfxUtil.latestValue(channel.messageStream(alwaysHandleSelection, this).map(it -> it.selected));
+    }
+
+
+    /**
+     * Initialises the selection handling of a component that may be
+     * closed before the app. The parameters are those of {@link #initNodeSelectionHandling(DesignerRoot, EventStream, boolean)}.
+     *
+     * @return A subscription that stops the selection handling, and
+     * lets the app forget about this component. It must be unsubscribed
+     * when the component is closed.
+     */
+    default Subscription connectNodeSelection(DesignerRoot root,
+                                              EventStream<? extends NodeSelectionEvent> mySelectionEvents,
+                                              boolean alwaysHandleSelection) {
+        MessageChannel<NodeSelectionEvent> channel = root.getService(DesignerRoot.NODE_SELECTION_CHANNEL);
+        NodeSelectionDispatcher dispatcher = root.getService(DesignerRoot.NODE_SELECTION_DISPATCHER);
+        Subscription pushes = mySelectionEvents.subscribe(n -> channel.pushEvent(this, n));
+        Subscription registration = dispatcher.register(this, selectionVisibilityProperty());
+        Subscription dispatches = channel.messageStream(alwaysHandleSelection, this)
+                                         .subscribe(evt -> dispatcher.dispatch(this, evt));
+        return pushes.and(registration).and(dispatches);
+    }
+
+
+    /**
+     * Whether this component is visible to the user. Selection events
+     * are not handled while it's not, only the latest one is handled when
+     * it becomes visible again. By default, a component that is a JavaFX
+     * node is visible when it's {@linkplain ControlUtil#isShowingProperty(javafx.scene.Node) showing},
+     * other components are always visible.
+     */
+    default Val<Boolean> selectionVisibilityProperty() {
+        return this instanceof javafx.scene.Node
+               ? ControlUtil.isShowingProperty((javafx.scene.Node) this)
+               : Val.constant(true);
     }
 
 
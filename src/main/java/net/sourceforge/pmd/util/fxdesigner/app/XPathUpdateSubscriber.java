@@ -15,6 +15,7 @@ import org.reactfx.Subscription;
 
 import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.util.fxdesigner.app.services.ASTManager;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics;
 import net.sourceforge.pmd.util.fxdesigner.model.VersionedXPathQuery;
 import net.sourceforge.pmd.util.fxdesigner.model.XPathEvaluationException;
 import net.sourceforge.pmd.util.fxdesigner.model.XPathEvaluator;
@@ -56,11 +57,15 @@ public abstract class XPathUpdateSubscriber implements ApplicationComponent {
 
 
                 try {
+                    long start = System.nanoTime();
                     List<Node> results = XPathEvaluator.evaluateQuery(compil,
                                                                       query.getVersion(),
                                                                       query.getExpression(),
                                                                       props,
                                                                       query.getDefinedProperties());
+                    long elapsed = System.nanoTime() - start;
+                    root.getService(DesignerRoot.PERFORMANCE_METRICS).histogram(PerformanceMetrics.XPATH_EVALUATION).record(elapsed);
+                    recordEvaluationTime(elapsed);
 
                     handleXPathSuccess(results);
                 } catch (XPathEvaluationException e) {
@@ -99,6 +104,12 @@ public abstract class XPathUpdateSubscriber implements ApplicationComponent {
 
     public abstract void handleXPathError(Exception e);
 
+
+    /** Called with the time a successful evaluation took. Does nothing by default. */
+    public void recordEvaluationTime(long nanos) {
+        // do nothing
+    }
+
     public void unsubscribe() {
         subscription.unsubscribe();
         subscription = Subscription.EMPTY;
@@ -18,6 +18,7 @@ import net.sourceforge.pmd.util.fxdesigner.SourceEditorController;
 import net.sourceforge.pmd.util.fxdesigner.app.ApplicationComponent;
 import net.sourceforge.pmd.util.fxdesigner.model.ParseAbortedException;
 import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsOwner;
+import net.sourceforge.pmd.util.fxdesigner.util.reactfx.AdaptiveDelay;
 
 
 /**
@@ -58,4 +59,11 @@ public interface ASTManager extends ApplicationComponent, SettingsOwner {
 
     Var<Map<String, String>> ruleProperties();
 
+
+    /**
+     * Delay to wait for after an edit before refreshing the AST. It
+     * adapts to the time it takes to parse this document.
+     */
+    AdaptiveDelay parseDelay();
+
 }
@@ -5,27 +5,23 @@
 package net.sourceforge.pmd.util.fxdesigner.app.services;
 
 import static net.sourceforge.pmd.util.fxdesigner.util.reactfx.ReactfxUtil.latestValue;
-import static net.sourceforge.pmd.util.fxdesigner.util.reactfx.VetoableEventStream.vetoableNull;
 
 import java.time.Duration;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.reactfx.Subscription;
 import org.reactfx.value.SuspendableVar;
 import org.reactfx.value.Val;
 import org.reactfx.value.Var;
 
-import net.sourceforge.pmd.lang.JvmLanguagePropertyBundle;
-import net.sourceforge.pmd.lang.Language;
 import net.sourceforge.pmd.lang.LanguageProcessor;
 import net.sourceforge.pmd.lang.LanguageProcessorRegistry;
-import net.sourceforge.pmd.lang.LanguagePropertyBundle;
-import net.sourceforge.pmd.lang.LanguageRegistry;
 import net.sourceforge.pmd.lang.LanguageVersion;
 import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.lang.ast.Parser.ParserTask;
@@ -36,10 +32,14 @@ import net.sourceforge.pmd.lang.document.TextDocument;
 import net.sourceforge.pmd.util.fxdesigner.SourceEditorController;
 import net.sourceforge.pmd.util.fxdesigner.app.ApplicationComponent;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
+import net.sourceforge.pmd.util.fxdesigner.app.services.LanguageProcessorPool.Lease;
 import net.sourceforge.pmd.util.fxdesigner.app.services.LogEntry.Category;
 import net.sourceforge.pmd.util.fxdesigner.model.ParseAbortedException;
 import net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry;
 import net.sourceforge.pmd.util.fxdesigner.util.Tuple3;
+import net.sourceforge.pmd.util.fxdesigner.util.reactfx.AdaptiveDelay;
+import net.sourceforge.pmd.util.fxdesigner.util.reactfx.ReactfxUtil;
+import net.sourceforge.pmd.util.fxdesigner.util.reactfx.VetoableEventStream;
 import net.sourceforge.pmd.util.log.PmdReporter;
 
 
@@ -53,6 +53,14 @@ public class ASTManagerImpl implements ASTManager {
 
     public static final PmdReporter NOOP_REPORTER = PmdReporter.quiet();
 
+    /** Delay before refreshing the AST, until a parse has been timed. */
+    private static final Duration INITIAL_PARSE_DELAY = Duration.ofMillis(100);
+    private static final Duration MIN_PARSE_DELAY = Duration.ofMillis(30);
+    private static final Duration MAX_PARSE_DELAY = Duration.ofMillis(1000);
+    /** Bounds of the period during which a null compilation unit can be vetoed by a valid one. */
+    private static final Duration MIN_NULL_VETO_PERIOD = Duration.ofMillis(200);
+    private static final Duration MAX_NULL_VETO_PERIOD = Duration.ofMillis(2000);
+
     private final DesignerRoot designerRoot;
 
     private final Var<ClassLoader> auxclasspathClassLoader = Var.newSimpleVar(null);
@@ -76,11 +84,16 @@ public class ASTManagerImpl implements ASTManager {
 
     private final Var<Map<String, String>> ruleProperties = Var.newSimpleVar(Collections.emptyMap());
 
+    private final AdaptiveDelay parseDelay = new AdaptiveDelay(INITIAL_PARSE_DELAY, MIN_PARSE_DELAY, MAX_PARSE_DELAY);
+
+    private final Subscription refreshSubscription;
+    private @Nullable Lease registryLease;
+
     public ASTManagerImpl(DesignerRoot owner) {
         this.designerRoot = owner;
 
         // Refresh the AST anytime the text, classloader, or language version changes
-        sourceCode.values()
+        refreshSubscription = sourceCode.values()
                   .or(auxclasspathClassLoader.values())
                   .or(languageVersionProperty().values())
                   .map(tick -> new Tuple3<>(getSourceCode(), getLanguageVersion(), classLoaderProperty().getValue()))
@@ -104,7 +117,13 @@ public class ASTManagerImpl implements ASTManager {
 
                       Node updated;
                       try {
-                          updated = refreshAST(this, source, version, refreshRegistry(version, classLoader)).orElse(null);
+                          LanguageProcessorRegistry registry = refreshRegistry(version, classLoader);
+                          PerformanceMetrics metrics = getService(DesignerRoot.PERFORMANCE_METRICS);
+                          long start = System.nanoTime();
+                          updated = refreshAST(this, source, version, registry).orElse(null);
+                          long elapsed = System.nanoTime() - start;
+                          parseDelay.record(elapsed);
+                          metrics.histogram(PerformanceMetrics.PARSE).record(elapsed);
                           currentException.setValue(null);
                       } catch (ParseAbortedException e) {
                           updated = null;
@@ -116,7 +135,15 @@ public class ASTManagerImpl implements ASTManager {
                       }
 
                       compilationUnit.setValue(updated);
+                      if (updated != null) {
+                          getService(DesignerRoot.STARTUP_TRACER).milestone(StartupTracer.FIRST_PARSE);
+                      }
                   });
+
+        parseDelay.delayProperty()
+                  .changes()
+                  .subscribe(ch -> logInternalDebugInfo(() -> "Parse delay changed to " + ch.getNewValue().toMillis() + "ms",
+                                                        parseDelay::toString));
     }
 
 
@@ -199,13 +226,31 @@ public class ASTManagerImpl implements ASTManager {
     @Override
     public Val<Node> compilationUnitProperty() {
         // veto null events to ignore null compilation units if they're
-        // followed by a valid one quickly
-        Val<Node> nodeVal = latestValue(vetoableNull(compilationUnit.values(), Duration.ofMillis(500)));
+        // followed by a valid one quickly, ie within a few parse delays
+        Val<Node> nodeVal = latestValue(
+            VetoableEventStream.vetoableFrom(compilationUnit.values(),
+                                             Objects::isNull,
+                                             (a, b) -> b != null,
+                                             (a, b) -> null,
+                                             ReactfxUtil.timerFactory(this::nullVetoPeriod))
+        );
         nodeVal.pin();
         return nodeVal;
     }
 
 
+    private Duration nullVetoPeriod() {
+        long millis = 4 * parseDelay.getDelay().toMillis();
+        return Duration.ofMillis(Math.max(MIN_NULL_VETO_PERIOD.toMillis(), Math.min(MAX_NULL_VETO_PERIOD.toMillis(), millis)));
+    }
+
+
+    @Override
+    public AdaptiveDelay parseDelay() {
+        return parseDelay;
+    }
+
+
     @Override
     public Var<ParseAbortedException> currentExceptionProperty() {
         return currentException;
@@ -213,40 +258,33 @@ public class ASTManagerImpl implements ASTManager {
 
 
     private LanguageProcessorRegistry refreshRegistry(LanguageVersion version, ClassLoader classLoader) {
-        LanguageProcessorRegistry current = lpRegistry.getValue();
-        if (current == null) {
-            Map<Language, LanguagePropertyBundle> langProperties = new HashMap<>();
-            LanguagePropertyBundle bundle = version.getLanguage().newPropertyBundle();
-            bundle.setLanguageVersion(version.getVersion());
-            if (bundle instanceof JvmLanguagePropertyBundle) {
-                ((JvmLanguagePropertyBundle) bundle).setClassLoader(classLoader);
-            }
-
-            langProperties.put(version.getLanguage(), bundle);
-
-            LanguageRegistry languages =
-                AuxLanguageRegistry.supportedLangs()
-                                   .getDependenciesOf(version.getLanguage());
-
-            LanguageProcessorRegistry newRegistry =
-                LanguageProcessorRegistry.create(languages,
-                                                 langProperties,
-                                                 NOOP_REPORTER);
-            lpRegistry.setValue(newRegistry);
-            return newRegistry;
+        Lease current = registryLease;
+        if (current != null && current.isFor(version, classLoader)) {
+            return current.getRegistry();
         }
 
-        // already created, need to check that the version is the same
-        if (!current.getLanguages().getLanguages().contains(version.getLanguage())
-            || !current.getProcessor(version.getLanguage()).getLanguageVersion().equals(version)) {
-            // current is invalid, recreate it
-            current.close();
-            lpRegistry.setValue(null);
-            return refreshRegistry(version, classLoader);
+        // acquire before releasing, so that a registry shared with
+        // other managers is not closed in between
+        Lease newLease = getService(DesignerRoot.LANGUAGE_PROCESSOR_POOL).acquire(version, classLoader);
+        if (current != null) {
+            current.release();
         }
+        registryLease = newLease;
+        lpRegistry.setValue(newLease.getRegistry());
+        return newLease.getRegistry();
+    }
 
-        // the current one is fine
-        return current;
+
+    /**
+     * Stops updating the compilation unit and gives back the language
+     * processors to the pool. This manager shouldn't be used afterwards.
+     */
+    public void close() {
+        refreshSubscription.unsubscribe();
+        if (registryLease != null) {
+            registryLease.release();
+            registryLease = null;
+        }
     }
 
 
@@ -0,0 +1,182 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.app.services;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import net.sourceforge.pmd.internal.util.ClasspathClassLoader; // NOPMD
+import net.sourceforge.pmd.util.fxdesigner.app.ApplicationComponent;
+import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
+
+
+/**
+ * Creates the classloaders for the auxclasspath of the editor. A new
+ * classloader is only created when the list of files, or one of the
+ * files, changes. Superseded classloaders are closed once the language
+ * processors that use them are not needed anymore.
+ *
+ * <p>Class lookups are first checked against a {@link JarIndex}, so that
+ * classes that are in none of the jars are not searched in each of them.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class AuxclasspathManager implements CloseableService, ApplicationComponent {
+
+    private final DesignerRoot designerRoot;
+    private final JarIndex jarIndex;
+
+    private @Nullable ClasspathState current;
+
+
+    /**
+     * @param designerRoot   Root of the app
+     * @param indexDirectory Directory in which the jar indices are persisted
+     */
+    public AuxclasspathManager(DesignerRoot designerRoot, @Nullable Path indexDirectory) {
+        this.designerRoot = designerRoot;
+        this.jarIndex = new JarIndex(indexDirectory, designerRoot.getService(DesignerRoot.PERFORMANCE_METRICS).cache(PerformanceMetrics.JAR_INDEX));
+    }
+
+
+    /**
+     * Returns a classloader for the given auxclasspath. If the files
+     * have not changed since the last call, the same classloader is
+     * returned. Otherwise the previous one is retired.
+     *
+     * @param files Entries of the auxclasspath
+     *
+     * @return The classloader, or null if it couldn't be created
+     */
+    public synchronized @Nullable ClassLoader getClassLoader(List<File> files) {
+        ClassLoader parent = AuxclasspathManager.class.getClassLoader();
+        if (files.isEmpty()) {
+            retireCurrent();
+            return parent;
+        }
+
+        List<Long> stamps = stampsOf(files);
+        if (current != null && current.files.equals(files) && current.stamps.equals(stamps)) {
+            return current.classLoader;
+        }
+
+        retireCurrent();
+        try {
+            current = new ClasspathState(files, stamps, new IndexedClassLoader(files, parent, jarIndex));
+            return current.classLoader;
+        } catch (IOException e) {
+            logInternalException(e);
+            return null;
+        }
+    }
+
+
+    private void retireCurrent() {
+        if (current != null) {
+            IndexedClassLoader loader = current.classLoader;
+            current = null;
+            // closed once no parser uses it anymore
+            getService(DesignerRoot.LANGUAGE_PROCESSOR_POOL).retire(loader, loader);
+        }
+    }
+
+
+    private static List<Long> stampsOf(List<File> files) {
+        List<Long> stamps = new ArrayList<>(files.size());
+        for (File f : files) {
+            stamps.add(f.lastModified());
+        }
+        return stamps;
+    }
+
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (current != null) {
+            current.classLoader.close();
+            current = null;
+        }
+    }
+
+
+    @Override
+    public DesignerRoot getDesignerRoot() {
+        return designerRoot;
+    }
+
+
+    private static final class ClasspathState {
+
+        private final List<File> files;
+        private final List<Long> stamps;
+        private final IndexedClassLoader classLoader;
+
+
+        ClasspathState(List<File> files, List<Long> stamps, IndexedClassLoader classLoader) {
+            this.files = new ArrayList<>(files);
+            this.stamps = stamps;
+            this.classLoader = classLoader;
+        }
+    }
+
+
+    /**
+     * Classloader that skips searching its jars for class files that
+     * are not in the index. Type resolution only looks up class files
+     * as resources, classes are never loaded. If some entries of the
+     * classpath cannot be indexed (eg directories), all lookups are
+     * performed.
+     */
+    private static final class IndexedClassLoader extends ClasspathClassLoader {
+
+        private final @Nullable Set<String> classEntries;
+
+
+        IndexedClassLoader(List<File> files, ClassLoader parent, JarIndex index) throws IOException {
+            super(files, parent);
+            this.classEntries = indexAll(getURLs(), index);
+        }
+
+
+        private static @Nullable Set<String> indexAll(URL[] urls, JarIndex index) {
+            Set<String> all = new HashSet<>();
+            for (URL url : urls) {
+                if (!"file".equals(url.getProtocol()) || !url.getPath().endsWith(".jar")) {
+                    return null;
+                }
+                Set<String> entries;
+                try {
+                    entries = index.classEntriesOf(new File(url.toURI()));
+                } catch (URISyntaxException e) {
+                    return null;
+                }
+                if (entries == null) {
+                    return null;
+                }
+                all.addAll(entries);
+            }
+            return all;
+        }
+
+
+        @Override
+        public URL findResource(String name) {
+            if (classEntries != null && name.endsWith(".class") && !classEntries.contains(name)) {
+                return null;
+            }
+            return super.findResource(name);
+        }
+    }
+}
@@ -10,34 +10,51 @@ import static net.sourceforge.pmd.util.fxdesigner.app.services.LogEntry.Category
 import static net.sourceforge.pmd.util.fxdesigner.app.services.LogEntry.Category.XPATH_EVALUATION_EXCEPTION;
 import static net.sourceforge.pmd.util.fxdesigner.app.services.LogEntry.Category.XPATH_OK;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.reactfx.EventSource;
 import org.reactfx.EventStream;
 import org.reactfx.EventStreams;
-import org.reactfx.collection.LiveArrayList;
+import org.reactfx.Subscription;
 import org.reactfx.collection.LiveList;
 import org.reactfx.value.Val;
+import org.reactfx.value.Var;
 
 import net.sourceforge.pmd.util.fxdesigner.app.ApplicationComponent;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.app.services.LogEntry.Category;
 import net.sourceforge.pmd.util.fxdesigner.util.reactfx.ReactfxUtil;
+import net.sourceforge.pmd.util.fxdesigner.util.reactfx.RingBufferLiveList;
 import net.sourceforge.pmd.util.fxdesigner.util.reactfx.VetoableEventStream;
 
-import com.github.oowekyala.rxstring.ReactfxExtensions;
-
 
 /**
- * Logs events. Stores the whole log in case no view was open.
+ * Logs events. Stores the most recent entries of the log in case no
+ * view was open. Older entries are evicted, and optionally spilled to
+ * a file. The file is written by a dedicated thread, never by the FX
+ * thread.
  *
  * @author Clément Fournier
  * @since 6.0.0
  */
-public class EventLoggerImpl implements ApplicationComponent, EventLogger {
+public class EventLoggerImpl implements ApplicationComponent, EventLogger, CloseableService {
 
     /**
      * Exceptions from XPath evaluation or parsing are never emitted
@@ -45,9 +62,18 @@ public class EventLoggerImpl implements ApplicationComponent, EventLogger {
      */
     private static final Duration PARSE_EXCEPTION_REDUCTION_DELAY = Duration.ofMillis(3000);
     private static final Duration EVENT_TRACING_REDUCTION_DELAY = Duration.ofMillis(200);
+    /** Max number of entries kept in memory, older ones are evicted. */
+    private static final int LOG_CAPACITY = 2000;
     private final EventSource<LogEntry> latestEvent = new EventSource<>();
-    private final LiveList<LogEntry> fullLog = new LiveArrayList<>();
+    private final RingBufferLiveList<LogEntry> fullLog = new RingBufferLiveList<>(LOG_CAPACITY);
+    private final Map<LogEntry, Subscription> unexaminedEntries = new IdentityHashMap<>();
+    private final Var<Integer> numUnexamined = Var.newSimpleVar(0);
     private final DesignerRoot designerRoot;
+    private final DateFormat spillDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+    /** Writes the spilled entries, null if they're not spilled. */
+    private @Nullable ThreadPoolExecutor spillExecutor;
+    /** Only accessed on the thread of the spill executor. */
+    private @Nullable Writer spillWriter;
 
 
     public EventLoggerImpl(DesignerRoot designerRoot) {
@@ -70,15 +96,119 @@ public class EventLoggerImpl implements ApplicationComponent, EventLogger {
 
         EventStreams.merge(reducedTraces, onlyParseException, otherExceptions, onlyXPathException)
                     .distinct()
-                    .subscribe(fullLog::add);
+                    .subscribe(this::addToLog);
+    }
+
+
+    private void addToLog(LogEntry entry) {
+        if (!entry.isWasExamined() && !unexaminedEntries.containsKey(entry)) {
+            numUnexamined.setValue(numUnexamined.getValue() + 1);
+            unexaminedEntries.put(entry, entry.wasExaminedProperty().values().filter(Boolean::booleanValue).subscribe(examined -> markExamined(entry)));
+        }
+
+        LogEntry evicted = fullLog.push(entry);
+        if (evicted != null) {
+            markExamined(evicted);
+            spill(evicted);
+        }
+    }
+
+
+    private void markExamined(LogEntry entry) {
+        Subscription sub = unexaminedEntries.remove(entry);
+        if (sub != null) {
+            sub.unsubscribe();
+            numUnexamined.setValue(numUnexamined.getValue() - 1);
+        }
+    }
+
+
+    /**
+     * Appends entries evicted from the in-memory log to the given file.
+     * Otherwise they're just dropped.
+     */
+    public void spillEvictedEntriesTo(Path file) {
+        if (spillExecutor == null) {
+            spillExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "Designer-log-spill");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        spillExecutor.execute(() -> {
+            closeSpillWriter();
+            try {
+                Files.createDirectories(file.getParent());
+                spillWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+
+    private void spill(LogEntry entry) {
+        ThreadPoolExecutor executor = spillExecutor;
+        if (executor == null) {
+            return;
+        }
+        // the properties of the entry are read here, on the FX thread
+        String text = spillDateFormat.format(entry.getTimestamp()) + " [" + entry.getCategory() + "] " + entry.messageProperty().getValue() + "\n"
+            + "    " + entry.detailsProperty().getValue().replace("\n", "\n    ") + "\n";
+        executor.execute(() -> writeSpilled(text, executor));
+    }
+
+
+    private void writeSpilled(String text, ThreadPoolExecutor executor) {
+        if (spillWriter == null) {
+            return;
+        }
+        try {
+            spillWriter.write(text);
+            // the file is there to diagnose crashes, so it must be up to date,
+            // but entries evicted in a burst are flushed together
+            if (executor.getQueue().isEmpty()) {
+                spillWriter.flush();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            closeSpillWriter();
+        }
+    }
+
+
+    private void closeSpillWriter() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            spillWriter = null;
+        }
+    }
+
+
+    @Override
+    public void close() {
+        if (spillExecutor != null) {
+            // pending entries are written before the file is closed
+            spillExecutor.execute(this::closeSpillWriter);
+            spillExecutor.shutdown();
+            try {
+                spillExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            spillExecutor = null;
+        }
     }
 
 
     /** Number of log entries that were not yet examined by the user. */
     @Override
     public Val<Integer> numNewLogEntriesProperty() {
-        return LiveList.sizeOf(ReactfxExtensions.flattenVals(fullLog.map(LogEntry::wasExaminedProperty))
-                                                .filtered(read -> !read));
+        return numUnexamined;
     }
 
 
@@ -0,0 +1,238 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.app.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import net.sourceforge.pmd.util.fxdesigner.app.ApplicationComponent;
+import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
+import net.sourceforge.pmd.util.fxdesigner.app.services.LogEntry.Category;
+
+import javafx.application.Platform;
+
+
+/**
+ * Watchdog that detects when the FX thread is stalled, ie doesn't
+ * process its events for a while. A daemon thread pings the FX thread
+ * every few millis. While a ping is overdue, the stack of the FX thread
+ * is sampled. When the FX thread finally answers, the stall is attributed
+ * to the designer code that appears the most often in the samples, and
+ * logged to the event log.
+ *
+ * <p>The samples of all stalls are aggregated as folded stacks, which
+ * can be {@linkplain #dumpFoldedStacks() exported} and rendered as a flame
+ * graph, eg by flamegraph.pl or speedscope.
+ *
+ * <p>Only started in developer mode.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class FxStallDetector implements ApplicationComponent, CloseableService {
+
+    /** The FX thread is considered stalled when a ping waits more than this. */
+    private static final long STALL_THRESHOLD_MILLIS = 100;
+    /** Interval between two pings, and between two samples of a stall. */
+    private static final long PING_INTERVAL_MILLIS = 10;
+    /** Max number of samples kept for a stall. */
+    private static final int MAX_SAMPLES_PER_STALL = 1000;
+    /** Max number of distinct stacks kept in the folded stacks. */
+    private static final int MAX_FOLDED_STACKS = 10_000;
+    /** Number of frames of the most frequent stack printed in the log. */
+    private static final int LOGGED_FRAMES = 20;
+
+    private static final String DESIGNER_PACKAGE = "net.sourceforge.pmd.util.fxdesigner.";
+    /** Designer code that only dispatches to other components. */
+    private static final List<String> GLUE_PACKAGES = Arrays.asList(DESIGNER_PACKAGE + "util.reactfx.",
+                                                                    DESIGNER_PACKAGE + "app.services.FxStallDetector");
+
+    private final DesignerRoot root;
+    private final List<StackTraceElement[]> currentSamples = new ArrayList<>();
+    private final Map<String, Long> foldedStacks = new HashMap<>();
+    private volatile boolean running;
+    private volatile Thread fxThread;
+    private boolean pingPending;
+    private long pingPostedNanos;
+    private long numStalls;
+
+
+    public FxStallDetector(DesignerRoot root) {
+        this.root = root;
+    }
+
+
+    /** Starts the watchdog thread. */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread watchdog = new Thread(this::watch, "Designer-fx-stall-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+    }
+
+
+    private void watch() {
+        while (running) {
+            synchronized (this) {
+                long now = System.nanoTime();
+                if (!pingPending) {
+                    pingPending = true;
+                    pingPostedNanos = now;
+                    Platform.runLater(this::onPingAnswered);
+                } else if (fxThread != null
+                    && now - pingPostedNanos > TimeUnit.MILLISECONDS.toNanos(STALL_THRESHOLD_MILLIS)
+                    && currentSamples.size() < MAX_SAMPLES_PER_STALL) {
+                    currentSamples.add(fxThread.getStackTrace());
+                }
+            }
+            try {
+                Thread.sleep(PING_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+
+    // on the FX thread
+    private void onPingAnswered() {
+        fxThread = Thread.currentThread();
+        long waitNanos;
+        List<StackTraceElement[]> samples;
+        synchronized (this) {
+            waitNanos = System.nanoTime() - pingPostedNanos;
+            pingPending = false;
+            samples = new ArrayList<>(currentSamples);
+            currentSamples.clear();
+            if (waitNanos > TimeUnit.MILLISECONDS.toNanos(STALL_THRESHOLD_MILLIS)) {
+                numStalls++;
+                samples.forEach(this::fold);
+            } else {
+                return;
+            }
+        }
+
+        getService(DesignerRoot.PERFORMANCE_METRICS).histogram(PerformanceMetrics.FX_STALL).record(waitNanos);
+        long millis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        Map<String, Long> culprits = samples.stream().collect(Collectors.groupingBy(FxStallDetector::attribute, Collectors.counting()));
+        String culprit = culprits.entrySet().stream().max(Entry.comparingByValue()).map(Entry::getKey).orElse("unknown code");
+
+        logInternalDebugInfo(() -> "FX thread stalled for " + millis + "ms in " + culprit,
+                             () -> describe(samples, culprits));
+    }
+
+
+    private String describe(List<StackTraceElement[]> samples, Map<String, Long> culprits) {
+        if (samples.isEmpty()) {
+            return "No stack was sampled";
+        }
+        StringBuilder sb = new StringBuilder("Samples per component (" + samples.size() + " samples, every ~"
+                                                 + PING_INTERVAL_MILLIS + "ms):\n");
+        culprits.entrySet().stream()
+                .sorted(Collections.reverseOrder(Entry.comparingByValue()))
+                .forEach(e -> sb.append(String.format("  %3d%%  %s%n", 100 * e.getValue() / samples.size(), e.getKey())));
+
+        // most frequent stack, top frames first
+        List<StackTraceElement> mostFrequent =
+            samples.stream()
+                   .collect(Collectors.groupingBy(Arrays::asList, Collectors.counting()))
+                   .entrySet().stream()
+                   .max(Entry.comparingByValue())
+                   .map(Entry::getKey)
+                   .orElse(Collections.emptyList());
+
+        sb.append("\nMost frequent stack:\n");
+        mostFrequent.stream().limit(LOGGED_FRAMES).forEach(f -> sb.append("    at ").append(f).append('\n'));
+        if (mostFrequent.size() > LOGGED_FRAMES) {
+            sb.append("    ...\n");
+        }
+        return sb.toString();
+    }
+
+
+    /**
+     * Returns the designer method responsible for the sample, ie the
+     * innermost frame of the designer that's not in some glue code. If
+     * there is none, returns the top frame.
+     */
+    private static String attribute(StackTraceElement[] sample) {
+        return Arrays.stream(sample)
+                     .filter(f -> f.getClassName().startsWith(DESIGNER_PACKAGE))
+                     .filter(f -> GLUE_PACKAGES.stream().noneMatch(f.getClassName()::startsWith))
+                     .findFirst()
+                     .map(FxStallDetector::frameName)
+                     .orElseGet(() -> sample.length == 0 ? "unknown code" : frameName(sample[0]));
+    }
+
+
+    private static String frameName(StackTraceElement frame) {
+        String className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+    }
+
+
+    private void fold(StackTraceElement[] sample) {
+        List<StackTraceElement> outermostFirst = new ArrayList<>(Arrays.asList(sample));
+        Collections.reverse(outermostFirst);
+        String key = outermostFirst.stream().map(FxStallDetector::frameName).collect(Collectors.joining(";"));
+        if (foldedStacks.size() < MAX_FOLDED_STACKS || foldedStacks.containsKey(key)) {
+            foldedStacks.merge(key, 1L, Long::sum);
+        }
+    }
+
+
+    /** Number of stalls detected since the start. */
+    public synchronized long getNumStalls() {
+        return numStalls;
+    }
+
+
+    /**
+     * Returns the stack samples of all the stalls, in the folded format
+     * used by flame graph tools: one line per distinct stack, with the
+     * frames separated by semicolons (outermost first), followed by the
+     * number of samples.
+     */
+    public synchronized String dumpFoldedStacks() {
+        return foldedStacks.entrySet().stream()
+                           .sorted(Collections.reverseOrder(Entry.comparingByValue()))
+                           .map(e -> e.getKey() + " " + e.getValue())
+                           .collect(Collectors.joining("\n", "", "\n"));
+    }
+
+
+    @Override
+    public DesignerRoot getDesignerRoot() {
+        return root;
+    }
+
+
+    @Override
+    public Category getLogCategory() {
+        return Category.FX_THREAD_STALL;
+    }
+
+
+    @Override
+    public void close() {
+        running = false;
+    }
+
+
+    @Override
+    public String toString() {
+        return "FxStallDetector{running=" + running + ", stalls=" + getNumStalls() + "}";
+    }
+}
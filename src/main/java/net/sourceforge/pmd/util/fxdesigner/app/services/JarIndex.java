@@ -0,0 +1,235 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.app.services;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics.CacheCounters;
+
+
+/**
+ * Index of the class files contained in the jars of the auxclasspath.
+ * Jars are scanned once, then their index is cached in memory and on
+ * disk, keyed by the path, modification time and size of the jar. The
+ * index is used to answer negative lookups of the type resolution
+ * without searching every jar.
+ *
+ * <p>Class files of multi-release jars that are under {@code META-INF/versions}
+ * are indexed under their unversioned name, since the jar may serve
+ * them under that name.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+final class JarIndex {
+
+    private static final String CACHE_EXTENSION = ".idx";
+    /** Changed when the content of the index changes, older files are rebuilt. */
+    private static final String CACHE_FORMAT = "v2";
+    private static final String VERSIONED_PREFIX = "META-INF/versions/";
+
+    private final @Nullable Path cacheDirectory;
+    private final CacheCounters lookups;
+    private final Map<String, JarEntries> inMemory = new ConcurrentHashMap<>();
+    private final AtomicBoolean pruned = new AtomicBoolean();
+
+
+    /**
+     * @param cacheDirectory Directory in which to persist the index, if null,
+     *                       the index is only kept in memory
+     * @param lookups        Counts the jars whose index is found in memory or on disk
+     */
+    JarIndex(@Nullable Path cacheDirectory, CacheCounters lookups) {
+        this.cacheDirectory = cacheDirectory;
+        this.lookups = lookups;
+    }
+
+
+    /**
+     * Returns the names of the class files in the given jar, eg
+     * {@code java/lang/String.class}. Returns null if the jar cannot
+     * be read.
+     */
+    @Nullable Set<String> classEntriesOf(File jar) {
+        String path = jar.getAbsolutePath();
+        long mtime = jar.lastModified();
+        long size = jar.length();
+
+        JarEntries cached = inMemory.get(path);
+        if (cached != null && cached.isUpToDate(mtime, size)) {
+            lookups.record(true);
+            return cached.classes;
+        }
+
+        if (pruned.compareAndSet(false, true)) {
+            pruneCache();
+        }
+
+        JarEntries entries = readCache(path, mtime, size);
+        lookups.record(entries != null);
+        if (entries == null) {
+            try {
+                entries = new JarEntries(mtime, size, scan(jar));
+            } catch (IOException e) {
+                return null;
+            }
+            writeCache(path, entries);
+        }
+        inMemory.put(path, entries);
+        return entries.classes;
+    }
+
+
+    private static Set<String> scan(File jar) throws IOException {
+        Set<String> classes = new HashSet<>();
+        // ZipFile only reads the central directory, not the entries
+        try (ZipFile zip = new ZipFile(jar)) {
+            for (ZipEntry entry : Collections.list(zip.entries())) {
+                if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
+                    classes.add(unversionedName(entry.getName()));
+                }
+            }
+        }
+        return Collections.unmodifiableSet(classes);
+    }
+
+
+    /** Maps {@code META-INF/versions/9/a/B.class} to {@code a/B.class}. */
+    private static String unversionedName(String entryName) {
+        if (entryName.startsWith(VERSIONED_PREFIX)) {
+            int versionEnd = entryName.indexOf('/', VERSIONED_PREFIX.length());
+            if (versionEnd > 0) {
+                return entryName.substring(versionEnd + 1);
+            }
+        }
+        return entryName;
+    }
+
+
+    /**
+     * Deletes the index files of jars that don't exist anymore, and
+     * those in an older format. This is done once per session, the
+     * first time the index is used.
+     */
+    private void pruneCache() {
+        if (cacheDirectory == null || !Files.isDirectory(cacheDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDirectory, "*" + CACHE_EXTENSION)) {
+            for (Path cacheFile : files) {
+                String jarPath = jarPathOf(cacheFile);
+                if (jarPath == null || !new File(jarPath).isFile()) {
+                    Files.deleteIfExists(cacheFile);
+                }
+            }
+        } catch (IOException e) {
+            // the cache is only an optimisation
+            e.printStackTrace();
+        }
+    }
+
+
+    /** Reads the path of the jar from the header of an index file, returns null if it has an older format. */
+    private static @Nullable String jarPathOf(Path cacheFile) throws IOException {
+        String header;
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+            header = reader.readLine();
+        }
+        if (header == null || !header.startsWith(CACHE_FORMAT + "\t")) {
+            return null;
+        }
+        // the path is followed by the mtime and size
+        int sizeStart = header.lastIndexOf('\t');
+        int mtimeStart = header.lastIndexOf('\t', sizeStart - 1);
+        return mtimeStart > CACHE_FORMAT.length() ? header.substring(CACHE_FORMAT.length() + 1, mtimeStart) : null;
+    }
+
+
+    private @Nullable JarEntries readCache(String path, long mtime, long size) {
+        Path cacheFile = cacheFile(path);
+        if (cacheFile == null || !Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try {
+            List<String> lines = Files.readAllLines(cacheFile, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !lines.get(0).equals(header(path, mtime, size))) {
+                return null; // stale
+            }
+            return new JarEntries(mtime, size, Collections.unmodifiableSet(new HashSet<>(lines.subList(1, lines.size()))));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+
+    private void writeCache(String path, JarEntries entries) {
+        Path cacheFile = cacheFile(path);
+        if (cacheFile == null) {
+            return;
+        }
+        List<String> lines = new ArrayList<>(entries.classes.size() + 1);
+        lines.add(header(path, entries.mtime, entries.size));
+        lines.addAll(entries.classes);
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Files.write(cacheFile, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // the cache is only an optimisation
+            e.printStackTrace();
+        }
+    }
+
+
+    private @Nullable Path cacheFile(String jarPath) {
+        if (cacheDirectory == null) {
+            return null;
+        }
+        String simpleName = new File(jarPath).getName();
+        return cacheDirectory.resolve(simpleName + "-" + Integer.toHexString(jarPath.hashCode()) + CACHE_EXTENSION);
+    }
+
+
+    private static String header(String path, long mtime, long size) {
+        return CACHE_FORMAT + "\t" + path + "\t" + mtime + "\t" + size;
+    }
+
+
+    private static final class JarEntries {
+
+        private final long mtime;
+        private final long size;
+        private final Set<String> classes;
+
+
+        JarEntries(long mtime, long size, Set<String> classes) {
+            this.mtime = mtime;
+            this.size = size;
+            this.classes = classes;
+        }
+
+
+        boolean isUpToDate(long mtime, long size) {
+            return this.mtime == mtime && this.size == size;
+        }
+    }
+}
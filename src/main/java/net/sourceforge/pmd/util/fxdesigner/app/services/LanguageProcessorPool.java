@@ -0,0 +1,265 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.app.services;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import net.sourceforge.pmd.lang.JvmLanguagePropertyBundle;
+import net.sourceforge.pmd.lang.Language;
+import net.sourceforge.pmd.lang.LanguageProcessorRegistry;
+import net.sourceforge.pmd.lang.LanguagePropertyBundle;
+import net.sourceforge.pmd.lang.LanguageRegistry;
+import net.sourceforge.pmd.lang.LanguageVersion;
+import net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry;
+
+
+/**
+ * Pool of initialized {@link LanguageProcessorRegistry}s, keyed by
+ * language version and auxclasspath classloader. Creating a registry
+ * is expensive (eg for Java it sets up a type system), so the main
+ * editor and the evaluation of test cases share registries instead of
+ * each creating their own.
+ *
+ * <p>Registries are reference counted through {@link Lease}s. A registry
+ * is never closed while it's leased. Registries that are not leased anymore
+ * are kept in an LRU cache of bounded size, and closed when they're evicted
+ * from it.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class LanguageProcessorPool implements CloseableService {
+
+    /** Max number of registries kept around while nobody uses them. */
+    private static final int MAX_IDLE_REGISTRIES = 4;
+
+    private final Map<Key, Entry> leased = new HashMap<>();
+    private final LinkedHashMap<Key, Entry> idle = new LinkedHashMap<>(MAX_IDLE_REGISTRIES, 0.75f, true);
+    private final Map<ClassLoader, AutoCloseable> retiredLoaders = new IdentityHashMap<>();
+    private boolean closed;
+
+
+    /**
+     * Acquires a registry for the given language version and classloader,
+     * reusing a pooled one if possible. The lease must be {@linkplain Lease#release() released}
+     * when the registry is not needed anymore.
+     *
+     * @param version     Language version to configure
+     * @param classLoader Classloader used to resolve the auxclasspath
+     */
+    public synchronized Lease acquire(LanguageVersion version, ClassLoader classLoader) {
+        if (closed) {
+            throw new IllegalStateException("Pool is closed");
+        }
+        Key key = new Key(version, classLoader);
+        Entry entry = leased.get(key);
+        if (entry == null) {
+            entry = idle.remove(key);
+            if (entry == null) {
+                entry = new Entry(key, createRegistry(version, classLoader));
+            }
+            leased.put(key, entry);
+        }
+        entry.refCount++;
+        return new Lease(entry);
+    }
+
+
+    /**
+     * Declares that the given classloader won't be used to acquire new
+     * registries. Idle registries that use it are closed immediately. The
+     * given resource is closed once the last registry using the classloader
+     * is released.
+     *
+     * @param classLoader Superseded classloader
+     * @param resource    Resource to close when the classloader is unused,
+     *                    typically the classloader itself
+     */
+    public synchronized void retire(ClassLoader classLoader, AutoCloseable resource) {
+        idle.values().removeIf(entry -> {
+            if (entry.key.classLoader == classLoader) {
+                closeQuietly(entry.registry);
+                return true;
+            }
+            return false;
+        });
+        retiredLoaders.put(classLoader, resource);
+        closeIfUnused(classLoader);
+    }
+
+
+    private void closeIfUnused(ClassLoader classLoader) {
+        if (leased.keySet().stream().noneMatch(k -> k.classLoader == classLoader)) {
+            AutoCloseable resource = retiredLoaders.remove(classLoader);
+            if (resource != null) {
+                closeQuietly(resource);
+            }
+        }
+    }
+
+
+    /** Number of registries currently open, whether leased or idle. */
+    public synchronized int size() {
+        return leased.size() + idle.size();
+    }
+
+
+    private synchronized void release(Entry entry) {
+        if (--entry.refCount > 0) {
+            return;
+        }
+        leased.remove(entry.key);
+        if (closed) {
+            closeQuietly(entry.registry);
+            return;
+        }
+        if (retiredLoaders.containsKey(entry.key.classLoader)) {
+            closeQuietly(entry.registry);
+            closeIfUnused(entry.key.classLoader);
+            return;
+        }
+        idle.put(entry.key, entry);
+
+        Iterator<Entry> lru = idle.values().iterator();
+        while (idle.size() > MAX_IDLE_REGISTRIES) {
+            Entry eldest = lru.next();
+            lru.remove();
+            closeQuietly(eldest.registry);
+        }
+    }
+
+
+    private LanguageProcessorRegistry createRegistry(LanguageVersion version, ClassLoader classLoader) {
+        Map<Language, LanguagePropertyBundle> langProperties = new HashMap<>();
+        LanguagePropertyBundle bundle = version.getLanguage().newPropertyBundle();
+        bundle.setLanguageVersion(version.getVersion());
+        if (bundle instanceof JvmLanguagePropertyBundle) {
+            ((JvmLanguagePropertyBundle) bundle).setClassLoader(classLoader);
+        }
+
+        langProperties.put(version.getLanguage(), bundle);
+
+        LanguageRegistry languages =
+            AuxLanguageRegistry.supportedLangs()
+                               .getDependenciesOf(version.getLanguage());
+
+        return LanguageProcessorRegistry.create(languages,
+                                                langProperties,
+                                                ASTManagerImpl.NOOP_REPORTER);
+    }
+
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        idle.values().forEach(entry -> closeQuietly(entry.registry));
+        idle.clear();
+        // leased registries are closed when they're released,
+        // but most leases are held until the app exits
+        leased.values().forEach(entry -> closeQuietly(entry.registry));
+        leased.clear();
+        retiredLoaders.values().forEach(LanguageProcessorPool::closeQuietly);
+        retiredLoaders.clear();
+    }
+
+
+    /**
+     * A handle on a pooled registry. The registry stays open
+     * at least until the lease is released.
+     */
+    public final class Lease {
+
+        private final Entry entry;
+        private boolean released;
+
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+
+        public LanguageProcessorRegistry getRegistry() {
+            return entry.registry;
+        }
+
+
+        /** Whether the leased registry was created for the given parameters. */
+        public boolean isFor(LanguageVersion version, ClassLoader classLoader) {
+            return entry.key.equals(new Key(version, classLoader));
+        }
+
+
+        /** Releases the lease. Subsequent calls have no effect. */
+        public void release() {
+            synchronized (LanguageProcessorPool.this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            LanguageProcessorPool.this.release(entry);
+        }
+    }
+
+
+    private static final class Entry {
+
+        private final Key key;
+        private final LanguageProcessorRegistry registry;
+        private int refCount;
+
+
+        Entry(Key key, LanguageProcessorRegistry registry) {
+            this.key = key;
+            this.registry = registry;
+        }
+    }
+
+
+    private static final class Key {
+
+        private final LanguageVersion version;
+        private final ClassLoader classLoader;
+
+
+        Key(LanguageVersion version, ClassLoader classLoader) {
+            this.version = version;
+            this.classLoader = classLoader;
+        }
+
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return version.equals(key.version) && classLoader == key.classLoader;
+        }
+
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, System.identityHashCode(classLoader));
+        }
+    }
+}
@@ -156,7 +156,8 @@ public final class LogEntry implements Comparable<LogEntry> {
         RESOURCE_MANAGEMENT("Resource manager", CategoryType.INTERNAL),
         SELECTION_EVENT_TRACING("Selection event", CategoryType.INTERNAL),
         XPATH_EVENT_FORWARDING("XPath update", CategoryType.INTERNAL),
-        TEST_LOADING_EVENT("Test loading request", CategoryType.INTERNAL);
+        TEST_LOADING_EVENT("Test loading request", CategoryType.INTERNAL),
+        FX_THREAD_STALL("FX thread stall", CategoryType.INTERNAL);
 
         public final String name;
         private final CategoryType type;
@@ -7,8 +7,11 @@ package net.sourceforge.pmd.util.fxdesigner.app.services;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import org.w3c.dom.Document;
+
 import net.sourceforge.pmd.util.fxdesigner.DesignerVersion;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsOwner;
@@ -24,11 +27,17 @@ public class OnDiskPersistenceManager implements PersistenceManager {
     private final DesignerRoot root;
     private final Path input;
     private final Path output;
+    /** Settings document parsed in the background during startup, consumed by the first restore. */
+    private CompletableFuture<Optional<Document>> prefetchedInput;
 
     public OnDiskPersistenceManager(DesignerRoot root, Path input, Path output) {
         this.root = root;
         this.input = input;
         this.output = output;
+
+        if (input != null) {
+            prefetchedInput = root.getService(DesignerRoot.STARTUP_TRACER).warmUp("Settings DOM parse", () -> SettingsPersistenceUtil.readDocument(input.toFile()));
+        }
     }
 
 
@@ -48,9 +57,16 @@ public class OnDiskPersistenceManager implements PersistenceManager {
         }
 
         try {
-            Path realInput = extraction != null ? extraction.get() : input;
-
-            SettingsPersistenceUtil.restoreProperties(settingsOwner, realInput.toFile());
+            Optional<Document> document;
+            if (extraction == null && prefetchedInput != null) {
+                document = prefetchedInput.get();
+            } else {
+                Path realInput = extraction != null ? extraction.get() : input;
+                document = SettingsPersistenceUtil.readDocument(realInput.toFile());
+            }
+            prefetchedInput = null;
+
+            document.ifPresent(doc -> SettingsPersistenceUtil.restoreProperties(settingsOwner, doc, this::logInternalException));
         } catch (Exception e) {
             // shouldn't prevent the app from opening
             // in case the file is corrupted, it will be overwritten on shutdown
@@ -0,0 +1,427 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.app.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.stream.Collectors;
+
+import javafx.application.Platform;
+
+
+/**
+ * Registry of performance metrics, meant to diagnose slowness with
+ * numbers. Components record the duration of their work in {@linkplain Histogram histograms}
+ * and count events with {@linkplain Counter counters}. Caches count their
+ * hits and misses with {@linkplain #cache(String) cache counters}. Other
+ * values, eg the heap usage or the hit rate of caches, are read when a
+ * snapshot is taken, from gauges.
+ *
+ * <p>Recording is cheap, so components record unconditionally. The
+ * metrics are displayed in developer mode only, by the performance
+ * overlay, which can also export them to CSV or JSON. In developer mode
+ * the latency of the FX event queue is also {@linkplain #startFxQueueSampling() sampled}.
+ *
+ * <p>All methods are thread-safe.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class PerformanceMetrics implements CloseableService {
+
+    public static final String PARSE = "Parse";
+    public static final String XPATH_EVALUATION = "XPath evaluation";
+    public static final String SYNTAX_HIGHLIGHTING = "Syntax highlighting";
+    public static final String RESTYLE = "Restyle";
+    public static final String FX_QUEUE_LATENCY = "FX queue latency";
+    public static final String SELECTION_DISPATCH = "Selection dispatch";
+    public static final String FX_STALL = "FX thread stall";
+
+    public static final String SNIPPET_CACHE = "Snippet cache";
+    public static final String ATTRIBUTE_SNAPSHOTS = "Attribute snapshots";
+    public static final String SYMBOL_INDEX = "Symbol index";
+    public static final String JAR_INDEX = "Jar index";
+
+    /** Interval between two samples of the FX queue latency. */
+    private static final long FX_QUEUE_SAMPLING_MILLIS = 100;
+
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private final Map<String, Counter> counters = new LinkedHashMap<>();
+    private final Map<String, DoubleSupplier> gauges = new LinkedHashMap<>();
+    private final Map<String, CacheCounters> caches = new LinkedHashMap<>();
+    private ScheduledExecutorService sampler;
+
+
+    public PerformanceMetrics() {
+        // register them early so that they're listed in this order
+        Arrays.asList(PARSE, XPATH_EVALUATION, SYNTAX_HIGHLIGHTING, RESTYLE, FX_QUEUE_LATENCY, SELECTION_DISPATCH, FX_STALL)
+              .forEach(this::histogram);
+        Arrays.asList(SNIPPET_CACHE, ATTRIBUTE_SNAPSHOTS, SYMBOL_INDEX, JAR_INDEX)
+              .forEach(this::cache);
+
+        Runtime runtime = Runtime.getRuntime();
+        gauge("Heap used (MB)", () -> toMegabytes(runtime.totalMemory() - runtime.freeMemory()));
+        gauge("Heap committed (MB)", () -> toMegabytes(runtime.totalMemory()));
+        gauge("Heap max (MB)", () -> toMegabytes(runtime.maxMemory()));
+    }
+
+
+    /** Returns the histogram with the given name, creating it if needed. */
+    public synchronized Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, n -> new Histogram());
+    }
+
+
+    /** Returns the counter with the given name, creating it if needed. */
+    public synchronized Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+
+    /**
+     * Returns the counters of the hits and misses of the cache with the
+     * given name, creating them if needed. The hit rate of the cache is
+     * reported by a gauge.
+     */
+    public synchronized CacheCounters cache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            CacheCounters cache = new CacheCounters(counter(n + " hits"), counter(n + " misses"));
+            gauge(n + " hit rate (%)", cache::getHitRate);
+            return cache;
+        });
+    }
+
+
+    /** Registers a value that is read each time a snapshot is taken. Replaces any gauge with the same name. */
+    public synchronized void gauge(String name, DoubleSupplier value) {
+        gauges.put(name, value);
+    }
+
+
+    /** Clears all histograms and counters. */
+    public synchronized void reset() {
+        histograms.values().forEach(Histogram::reset);
+        counters.values().forEach(Counter::reset);
+    }
+
+
+    /**
+     * Starts measuring the latency of the FX event queue, ie the time
+     * a runnable waits between {@link Platform#runLater(Runnable)} and
+     * its execution. A probe is posted periodically from a daemon thread,
+     * never more than one at a time.
+     */
+    public synchronized void startFxQueueSampling() {
+        if (sampler != null) {
+            return;
+        }
+        Histogram latency = histogram(FX_QUEUE_LATENCY);
+        AtomicBoolean probePending = new AtomicBoolean();
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Designer-metrics-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleWithFixedDelay(() -> {
+            if (probePending.compareAndSet(false, true)) {
+                long posted = System.nanoTime();
+                Platform.runLater(() -> {
+                    latency.record(System.nanoTime() - posted);
+                    probePending.set(false);
+                });
+            }
+        }, FX_QUEUE_SAMPLING_MILLIS, FX_QUEUE_SAMPLING_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+
+    /** Returns the current value of all metrics. */
+    public synchronized List<Reading> snapshot() {
+        List<Reading> readings = new ArrayList<>();
+        histograms.forEach((name, h) -> readings.add(h.read(name)));
+        counters.forEach((name, c) -> readings.add(new Reading(name, c.get(), Double.NaN, Double.NaN, Double.NaN, Double.NaN, c.get())));
+        gauges.forEach((name, g) -> readings.add(new Reading(name, -1, Double.NaN, Double.NaN, Double.NaN, Double.NaN, g.getAsDouble())));
+        return readings;
+    }
+
+
+    /** Exports a snapshot to CSV, one metric per line. Durations are in milliseconds. */
+    public String toCsv() {
+        return snapshot().stream()
+                         .map(r -> String.join(",",
+                                               escapeCsv(r.getName()),
+                                               r.getCount() < 0 ? "" : String.valueOf(r.getCount()),
+                                               format(r.getMeanMillis()),
+                                               format(r.getP50Millis()),
+                                               format(r.getP95Millis()),
+                                               format(r.getMaxMillis()),
+                                               format(r.getValue())))
+                         .collect(Collectors.joining("\n", "metric,count,mean_ms,p50_ms,p95_ms,max_ms,value\n", "\n"));
+    }
+
+
+    /** Exports a snapshot to JSON, as an array of objects. Durations are in milliseconds. */
+    public String toJson() {
+        return snapshot().stream()
+                         .map(r -> {
+                             StringBuilder sb = new StringBuilder("{\"metric\": \"")
+                                 .append(escapeJson(r.getName())).append('"');
+                             if (r.getCount() >= 0) {
+                                 sb.append(", \"count\": ").append(r.getCount());
+                             }
+                             if (r.isHistogram()) {
+                                 sb.append(", \"meanMs\": ").append(format(r.getMeanMillis()))
+                                   .append(", \"p50Ms\": ").append(format(r.getP50Millis()))
+                                   .append(", \"p95Ms\": ").append(format(r.getP95Millis()))
+                                   .append(", \"maxMs\": ").append(format(r.getMaxMillis()));
+                             } else {
+                                 sb.append(", \"value\": ").append(format(r.getValue()));
+                             }
+                             return sb.append('}').toString();
+                         })
+                         .collect(Collectors.joining(",\n  ", "[\n  ", "\n]\n"));
+    }
+
+
+    @Override
+    public synchronized void close() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+    }
+
+
+    @Override
+    public String toString() {
+        return toCsv();
+    }
+
+
+    private static String escapeCsv(String s) {
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+
+
+    private static String escapeJson(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (char c : s.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < ' ') {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+
+    private static String format(double d) {
+        return Double.isNaN(d) ? "" : String.format(Locale.ROOT, "%.2f", d);
+    }
+
+
+    private static double toMegabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+
+    /** A monotonic count of events. */
+    public static final class Counter {
+
+        private final LongAdder count = new LongAdder();
+
+
+        public void increment() {
+            count.increment();
+        }
+
+
+        public long get() {
+            return count.sum();
+        }
+
+
+        void reset() {
+            count.reset();
+        }
+    }
+
+
+    /** Counts the lookups of a cache, see {@link #cache(String)}. */
+    public static final class CacheCounters {
+
+        private final Counter hits;
+        private final Counter misses;
+
+
+        CacheCounters(Counter hits, Counter misses) {
+            this.hits = hits;
+            this.misses = misses;
+        }
+
+
+        /** Records a lookup, which found its value in the cache if hit is true. */
+        public void record(boolean hit) {
+            (hit ? hits : misses).increment();
+        }
+
+
+        /** Percentage of the lookups that were hits, 0 if there was none. */
+        public double getHitRate() {
+            long numHits = hits.get();
+            long total = numHits + misses.get();
+            return total == 0 ? 0 : 100.0 * numHits / total;
+        }
+    }
+
+
+    /**
+     * Distribution of durations. The count, mean and max are computed
+     * over all the recorded durations, while the percentiles are computed
+     * over the last {@value #WINDOW_SIZE} ones, so that they reflect the
+     * current behaviour of the app.
+     */
+    public static final class Histogram {
+
+        static final int WINDOW_SIZE = 512;
+
+        private final long[] window = new long[WINDOW_SIZE];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+
+        /** Records a duration. */
+        public synchronized void record(long nanos) {
+            window[(int) (count % WINDOW_SIZE)] = nanos;
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+
+        synchronized void reset() {
+            count = 0;
+            totalNanos = 0;
+            maxNanos = 0;
+        }
+
+
+        synchronized Reading read(String name) {
+            if (count == 0) {
+                return new Reading(name, 0, 0, 0, 0, 0, Double.NaN);
+            }
+            long[] recent = Arrays.copyOf(window, (int) Math.min(count, WINDOW_SIZE));
+            Arrays.sort(recent);
+            return new Reading(name,
+                               count,
+                               toMillis(totalNanos) / count,
+                               toMillis(percentile(recent, 50)),
+                               toMillis(percentile(recent, 95)),
+                               toMillis(maxNanos),
+                               Double.NaN);
+        }
+
+
+        private static long percentile(long[] sorted, int p) {
+            int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, idx)];
+        }
+    }
+
+
+    /**
+     * Value of a metric at the time of a snapshot. Histograms have
+     * durations and no value, counters and gauges have only a value.
+     * Durations are in milliseconds.
+     */
+    public static final class Reading {
+
+        private final String name;
+        private final long count;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p95Millis;
+        private final double maxMillis;
+        private final double value;
+
+
+        Reading(String name, long count, double meanMillis, double p50Millis, double p95Millis, double maxMillis, double value) {
+            this.name = name;
+            this.count = count;
+            this.meanMillis = meanMillis;
+            this.p50Millis = p50Millis;
+            this.p95Millis = p95Millis;
+            this.maxMillis = maxMillis;
+            this.value = value;
+        }
+
+
+        public String getName() {
+            return name;
+        }
+
+
+        /** Number of recorded events, or -1 for a gauge. */
+        public long getCount() {
+            return count;
+        }
+
+
+        public boolean isHistogram() {
+            return Double.isNaN(value);
+        }
+
+
+        public double getMeanMillis() {
+            return meanMillis;
+        }
+
+
+        public double getP50Millis() {
+            return p50Millis;
+        }
+
+
+        public double getP95Millis() {
+            return p95Millis;
+        }
+
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+
+        /** Value of a counter or gauge, NaN for a histogram. */
+        public double getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.app.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.reactfx.Subscription;
+
+
+/**
+ * Records the phases of the startup of the app, and runs independent
+ * initialization work off the FX thread while the UI is being built.
+ * The recorded timeline is printed once the startup is {@linkplain #finish() finished},
+ * if the app runs in developer mode.
+ *
+ * <p>Phases are only recorded until the startup is finished, so
+ * components can trace their initialization unconditionally.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class StartupTracer implements CloseableService {
+
+    /** Milestone reached when the source in the editor is first parsed successfully. */
+    public static final String FIRST_PARSE = "First parse";
+    /** Milestone reached when the source in the editor is first syntax highlighted. */
+    public static final String FIRST_HIGHLIGHT = "First highlight";
+
+    private final long originNanos = System.nanoTime();
+    private final boolean printTimeline;
+    private final List<Phase> phases = new ArrayList<>();
+    private final Set<String> pendingMilestones = new HashSet<>();
+    private final ExecutorService warmUpExecutor = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(3, Runtime.getRuntime().availableProcessors() - 1)),
+        r -> {
+            Thread thread = new Thread(r, "Designer-startup-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private boolean finished;
+
+
+    public StartupTracer(boolean printTimeline) {
+        this.printTimeline = printTimeline;
+    }
+
+
+    /**
+     * Starts recording a phase. The phase ends when the returned
+     * subscription is unsubscribed.
+     *
+     * @param name Name of the phase
+     */
+    public Subscription phase(String name) {
+        if (isFinished()) {
+            return Subscription.EMPTY;
+        }
+        long start = System.nanoTime();
+        String thread = Thread.currentThread().getName();
+        return () -> record(new Phase(name, thread, start, System.nanoTime(), false));
+    }
+
+
+    /**
+     * Runs the given action in a traced phase.
+     */
+    public void trace(String name, Runnable action) {
+        Subscription phase = phase(name);
+        try {
+            action.run();
+        } finally {
+            phase.unsubscribe();
+        }
+    }
+
+
+    /**
+     * Records an instantaneous event, eg the first parse. Only the
+     * first occurrence of a milestone is recorded. If all the milestones
+     * passed to {@link #finishAfter(String...)} have been reached, the
+     * startup is finished.
+     */
+    public void milestone(String name) {
+        long now = System.nanoTime();
+        boolean allReached;
+        synchronized (this) {
+            if (finished || phases.stream().anyMatch(p -> p.isMilestone() && p.name.equals(name))) {
+                return;
+            }
+            phases.add(new Phase(name, Thread.currentThread().getName(), now, now, true));
+            allReached = pendingMilestones.remove(name) && pendingMilestones.isEmpty();
+        }
+        if (allReached) {
+            finish();
+        }
+    }
+
+
+    /**
+     * Declares milestones that are expected to happen after the
+     * UI is shown. The startup is finished when all of them are
+     * reached, or when {@link #finish()} is called explicitly.
+     */
+    public synchronized void finishAfter(String... milestones) {
+        pendingMilestones.addAll(Arrays.asList(milestones));
+        phases.stream().filter(Phase::isMilestone).map(p -> p.name).forEach(pendingMilestones::remove);
+    }
+
+
+    /**
+     * Runs some initialization work on a background thread. The
+     * work is recorded as a phase of the startup.
+     *
+     * @param name Name of the phase
+     * @param work Work to perform, must be thread-safe
+     * @param <T>  Type of result
+     *
+     * @return A future for the result of the work
+     */
+    public <T> CompletableFuture<T> warmUp(String name, Supplier<? extends T> work) {
+        if (warmUpExecutor.isShutdown()) {
+            return CompletableFuture.completedFuture(work.get());
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            Subscription phase = phase(name);
+            try {
+                return work.get();
+            } finally {
+                phase.unsubscribe();
+            }
+        }, warmUpExecutor);
+    }
+
+
+    /**
+     * Ends the recording, and prints the timeline in developer mode.
+     * Subsequent calls have no effect.
+     */
+    public void finish() {
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+        }
+        warmUpExecutor.shutdown();
+        if (printTimeline) {
+            System.out.println(dumpTimeline());
+        }
+    }
+
+
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+
+    /** Returns a textual representation of the recorded phases, ordered by start time. */
+    public synchronized String dumpTimeline() {
+        StringBuilder sb = new StringBuilder("Startup timeline (start ms, duration ms, thread, phase):\n");
+        phases.stream()
+              .sorted(Comparator.comparingLong((Phase p) -> p.startNanos).thenComparingLong(p -> -p.endNanos))
+              .forEach(p -> sb.append(String.format("  %6d  %6s  %-32s %s%n",
+                                                    toMillis(p.startNanos - originNanos),
+                                                    p.isMilestone() ? "*" : String.valueOf(toMillis(p.endNanos - p.startNanos)),
+                                                    p.thread,
+                                                    p.name)));
+        return sb.toString();
+    }
+
+
+    private synchronized void record(Phase phase) {
+        if (!finished) {
+            phases.add(phase);
+        }
+    }
+
+
+    @Override
+    public void close() throws Exception {
+        warmUpExecutor.shutdownNow();
+        warmUpExecutor.awaitTermination(100, TimeUnit.MILLISECONDS);
+    }
+
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+
+    private static final class Phase {
+
+        private final String name;
+        private final String thread;
+        private final long startNanos;
+        private final long endNanos;
+        private final boolean milestone;
+
+
+        Phase(String name, String thread, long startNanos, long endNanos, boolean milestone) {
+            this.name = name;
+            this.thread = thread;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+            this.milestone = milestone;
+        }
+
+
+        boolean isMilestone() {
+            return milestone;
+        }
+    }
+}
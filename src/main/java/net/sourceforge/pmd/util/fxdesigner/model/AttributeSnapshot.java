@@ -0,0 +1,118 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.reactfx.value.Val;
+import org.reactfx.value.Var;
+
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.lang.rule.xpath.Attribute;
+import net.sourceforge.pmd.util.DataMap;
+import net.sourceforge.pmd.util.DataMap.SimpleDataKey;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics.CacheCounters;
+import net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil;
+
+import javafx.application.Platform;
+
+
+/**
+ * The XPath attributes of a node, with their values. The snapshot
+ * is created once per node and stored in the user data of the node,
+ * so it lives as long as the AST. Attribute values are computed lazily,
+ * the first time they're requested, and the time it took to compute
+ * them is recorded.
+ *
+ * <p>The methods of this class must be called on the FX thread.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class AttributeSnapshot {
+
+    private static final SimpleDataKey<AttributeSnapshot> SNAPSHOT_KEY = DataMap.simpleDataKey("designer.attributes");
+
+    private final List<Attribute> attributes;
+    private final Map<String, Var<String>> xpathValues = new HashMap<>();
+    private final Map<String, Long> evaluationNanos = new HashMap<>();
+
+
+    private AttributeSnapshot(Node node) {
+        List<Attribute> attrs = new ArrayList<>();
+        // creating the attributes doesn't invoke the getters
+        Iterator<Attribute> iterator = node.getXPathAttributesIterator();
+        while (iterator.hasNext()) {
+            attrs.add(iterator.next());
+        }
+        attrs.sort(Comparator.comparing(Attribute::getName));
+        this.attributes = Collections.unmodifiableList(attrs);
+    }
+
+
+    /** Attributes of the node, sorted by name. */
+    public List<Attribute> getAttributes() {
+        return attributes;
+    }
+
+
+    /**
+     * Returns the XPath representation of the value of the attribute.
+     * The value is null until it's computed. The first call schedules
+     * the computation on a later run of the FX thread, so that computing
+     * many attributes doesn't block the UI at once.
+     */
+    public Val<String> xpathValueProperty(Attribute attribute) {
+        return xpathValues.computeIfAbsent(attribute.getName(), name -> {
+            Var<String> value = Var.newSimpleVar(null);
+            Platform.runLater(() -> value.setValue(evaluate(attribute)));
+            return value;
+        });
+    }
+
+
+    /**
+     * Returns the time it took to compute the value of the attribute,
+     * in milliseconds, or -1 if it hasn't been computed yet.
+     */
+    public long getEvaluationMillis(Attribute attribute) {
+        Long nanos = evaluationNanos.get(attribute.getName());
+        return nanos == null ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+
+    private String evaluate(Attribute attribute) {
+        long start = System.nanoTime();
+        String result;
+        try {
+            result = DesignerUtil.attrToXpathString(attribute);
+        } catch (Exception e) {
+            // some attributes throw eg numberformat exceptions
+            result = "(error: " + e.getMessage() + ")";
+        }
+        evaluationNanos.put(attribute.getName(), System.nanoTime() - start);
+        return result;
+    }
+
+
+    /** Returns the snapshot of the given node, creating it if needed. */
+    public static AttributeSnapshot of(Node node) {
+        return node.getUserMap().computeIfAbsent(SNAPSHOT_KEY, () -> new AttributeSnapshot(node));
+    }
+
+
+    /** Returns the snapshot of the given node, creating it if needed, and records whether it existed. */
+    public static AttributeSnapshot of(Node node, CacheCounters lookups) {
+        lookups.record(node.getUserMap().isSet(SNAPSHOT_KEY));
+        return of(node);
+    }
+}
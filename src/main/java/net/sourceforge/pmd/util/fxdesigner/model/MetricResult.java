@@ -4,6 +4,9 @@
 
 package net.sourceforge.pmd.util.fxdesigner.model;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.lang.metrics.Metric;
 
 /**
@@ -14,11 +17,20 @@ public class MetricResult<R extends Number> {
 
     private final Metric<?, R> metric;
     private final R value;
+    private final @Nullable Node node;
+    private final double heat;
 
 
     public MetricResult(Metric<?, R> metric, R value) {
+        this(metric, value, null, 0);
+    }
+
+
+    private MetricResult(Metric<?, R> metric, R value, @Nullable Node node, double heat) {
         this.metric = metric;
         this.value = value;
+        this.node = node;
+        this.heat = heat;
     }
 
 
@@ -30,4 +42,29 @@ public class MetricResult<R extends Number> {
     public R getValue() {
         return value;
     }
+
+
+    /**
+     * Node the metric was computed on. Only set for the results
+     * of a heatmap, where results are shown for the whole file.
+     */
+    public @Nullable Node getNode() {
+        return node;
+    }
+
+
+    /**
+     * Value of the metric relative to the max value of the same metric
+     * in the file, between 0 and 1. Only meaningful if {@link #getNode()}
+     * is set.
+     */
+    public double getHeat() {
+        return heat;
+    }
+
+
+    /** Returns a copy of this result located on the given node. */
+    public MetricResult<R> locatedOn(Node node, double heat) {
+        return new MetricResult<>(metric, value, node, heat);
+    }
 }
@@ -0,0 +1,320 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import net.sourceforge.pmd.lang.LanguageProcessor;
+import net.sourceforge.pmd.lang.LanguageProcessorRegistry;
+import net.sourceforge.pmd.lang.LanguageVersion;
+import net.sourceforge.pmd.lang.ast.Parser.ParserTask;
+import net.sourceforge.pmd.lang.ast.RootNode;
+import net.sourceforge.pmd.lang.ast.SemanticErrorReporter;
+import net.sourceforge.pmd.lang.document.TextDocument;
+import net.sourceforge.pmd.lang.document.TextFile;
+import net.sourceforge.pmd.lang.rule.xpath.XPathVersion;
+import net.sourceforge.pmd.properties.PropertyDescriptor;
+import net.sourceforge.pmd.util.fxdesigner.app.services.LanguageProcessorPool;
+import net.sourceforge.pmd.util.fxdesigner.app.services.LanguageProcessorPool.Lease;
+import net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry;
+
+
+/**
+ * Runs an XPath query on all the files of a directory. Files are
+ * parsed and evaluated in parallel, on a bounded number of threads.
+ * An AST is dropped as soon as the query has been evaluated on it,
+ * and the number of files in flight is bounded by a memory budget,
+ * which is estimated from the size of the files.
+ *
+ * <p>The query and its properties are copied when the scan is created,
+ * so that the editor can change them during the scan. All the files are
+ * parsed with the same language version, the one that is selected in
+ * the editor.
+ *
+ * <p>Results are reported on the worker threads, in no particular order.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class ProjectScan {
+
+    /** Default estimate of the memory the ASTs in flight may use, in bytes. */
+    public static final long DEFAULT_MEMORY_BUDGET = 256L << 20;
+
+    /** Rough ratio between the memory used by an AST and the size of its file. */
+    private static final int AST_SIZE_FACTOR = 16;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final LanguageProcessorPool processorPool;
+    private final ClassLoader classLoader;
+    private final LanguageVersion languageVersion;
+    private final XPathVersion xpathVersion;
+    private final String expression;
+    private final Map<PropertyDescriptor<?>, Object> properties;
+    private final int parallelism;
+    /** One permit per KB of the memory budget. */
+    private final Semaphore memoryBudget;
+    private final int budgetKb;
+
+    private volatile boolean cancelled;
+    private @Nullable Thread coordinator;
+
+
+    /**
+     * @param processorPool  Pool from which to get the parsers
+     * @param classLoader    Auxclasspath classloader
+     * @param languageVersion Only files of this language are scanned, and they're parsed with this version
+     * @param query          Query to evaluate
+     * @param propertyValues Values of the properties of the query
+     * @param memoryBudget   Estimate of the memory the ASTs in flight may use, in bytes
+     *
+     * @throws XPathEvaluationException If the properties of the query are invalid
+     */
+    public ProjectScan(LanguageProcessorPool processorPool,
+                       ClassLoader classLoader,
+                       LanguageVersion languageVersion,
+                       VersionedXPathQuery query,
+                       Map<String, String> propertyValues,
+                       long memoryBudget) throws XPathEvaluationException {
+        this.processorPool = processorPool;
+        this.classLoader = classLoader;
+        this.languageVersion = languageVersion;
+        this.xpathVersion = query.getVersion();
+        this.expression = query.getExpression();
+        // the property specs are mutable and edited on the FX thread,
+        // the descriptors and values built from them are not
+        this.properties = Collections.unmodifiableMap(XPathEvaluator.resolveProperties(propertyValues, query.getDefinedProperties()));
+        this.parallelism = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        this.budgetKb = (int) Math.min(Integer.MAX_VALUE, Math.max(1, memoryBudget >> 10));
+        this.memoryBudget = new Semaphore(budgetKb);
+    }
+
+
+    /**
+     * Starts the scan in the background. This may only be called once.
+     *
+     * @param directory    Root directory of the sources
+     * @param onDiscovered Called with the number of files to scan, once they've been listed
+     * @param onResult     Called when a file has been processed
+     * @param onDone       Called at the end of the scan, even if it was cancelled
+     */
+    public synchronized void start(Path directory, IntConsumer onDiscovered, Consumer<FileResult> onResult, Runnable onDone) {
+        if (coordinator != null) {
+            throw new IllegalStateException("Scan already started");
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run(directory, onDiscovered, onResult);
+            } finally {
+                onDone.run();
+            }
+        }, "Designer-project-scan");
+        thread.setDaemon(true);
+        coordinator = thread;
+        thread.start();
+    }
+
+
+    /** Stops the scan. Files that are being processed are finished, the others are skipped. */
+    public synchronized void cancel() {
+        cancelled = true;
+        if (coordinator != null) {
+            coordinator.interrupt();
+        }
+    }
+
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+
+    private void run(Path directory, IntConsumer onDiscovered, Consumer<FileResult> onResult) {
+        List<Path> files = new ArrayList<>();
+        List<FileResult> unreadable = new ArrayList<>();
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile() && isInLanguage(file)) {
+                        files.add(file);
+                    }
+                    return cancelled ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+                }
+
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    // an unreadable directory or file doesn't prevent scanning the others
+                    unreadable.add(new FileResult(file, -1, 0, 0, exc.toString()));
+                    return cancelled ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            onResult.accept(new FileResult(directory, -1, 0, 0, e.toString()));
+            return;
+        }
+        // the unreadable paths are counted as scanned files, they have a row
+        onDiscovered.accept(files.size() + unreadable.size());
+        unreadable.forEach(onResult);
+        if (files.isEmpty()) {
+            return;
+        }
+
+        Lease lease = processorPool.acquire(languageVersion, classLoader);
+        LanguageProcessorRegistry registry = lease.getRegistry();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "Designer-project-scan-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Path file : files) {
+                if (cancelled) {
+                    break;
+                }
+                int cost = estimateCostKb(file);
+                memoryBudget.acquire(cost);
+                workers.execute(() -> {
+                    try {
+                        if (!cancelled) {
+                            onResult.accept(process(file, registry));
+                        }
+                    } finally {
+                        memoryBudget.release(cost);
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            // cancelled, the queued tasks are skipped
+        } finally {
+            workers.shutdown();
+            awaitUninterruptibly(workers);
+            // the registry is only released once no worker uses it
+            lease.release();
+        }
+    }
+
+
+    private static void awaitUninterruptibly(ExecutorService workers) {
+        boolean interrupted = false;
+        while (!workers.isTerminated()) {
+            try {
+                workers.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    private int estimateCostKb(Path file) {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            size = 0;
+        }
+        // a file bigger than the budget is still processed, alone
+        return (int) Math.min(budgetKb, Math.max(1, (size * AST_SIZE_FACTOR) >> 10));
+    }
+
+
+    private FileResult process(Path file, LanguageProcessorRegistry registry) {
+        long start = System.nanoTime();
+        RootNode root;
+        try (TextDocument doc = TextDocument.create(TextFile.forPath(file, StandardCharsets.UTF_8, languageVersion))) {
+            ParserTask task = new ParserTask(doc, SemanticErrorReporter.noop(), registry);
+            LanguageProcessor processor = registry.getProcessor(languageVersion.getLanguage());
+            root = processor.services().getParser().parse(task);
+        } catch (Exception e) {
+            return new FileResult(file, -1, System.nanoTime() - start, 0, "Parse error: " + e.getMessage());
+        }
+        long parseNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        try {
+            int matches = XPathEvaluator.evaluateQuery(root, xpathVersion, expression, properties).size();
+            return new FileResult(file, matches, parseNanos, System.nanoTime() - start, null);
+        } catch (XPathEvaluationException e) {
+            return new FileResult(file, -1, parseNanos, System.nanoTime() - start, "XPath error: " + e.getMessage());
+        }
+    }
+
+
+    private boolean isInLanguage(Path file) {
+        LanguageVersion version = AuxLanguageRegistry.getLanguageVersionFromExtension(file.getFileName().toString());
+        return version != null && version.getLanguage().equals(languageVersion.getLanguage());
+    }
+
+
+    /** Outcome of the scan of one file. */
+    public static final class FileResult {
+
+        private final Path file;
+        private final int numMatches;
+        private final long parseNanos;
+        private final long evalNanos;
+        private final @Nullable String error;
+
+
+        FileResult(Path file, int numMatches, long parseNanos, long evalNanos, @Nullable String error) {
+            this.file = file;
+            this.numMatches = numMatches;
+            this.parseNanos = parseNanos;
+            this.evalNanos = evalNanos;
+            this.error = error;
+        }
+
+
+        public Path getFile() {
+            return file;
+        }
+
+
+        /** Number of nodes matched by the query, or -1 if there was an error. */
+        public int getNumMatches() {
+            return numMatches;
+        }
+
+
+        public long getParseMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(parseNanos);
+        }
+
+
+        public long getEvalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(evalNanos);
+        }
+
+
+        public @Nullable String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.lang.ast.RootNode;
+import net.sourceforge.pmd.lang.symboltable.NameDeclaration;
+import net.sourceforge.pmd.lang.symboltable.NameOccurrence;
+import net.sourceforge.pmd.lang.symboltable.Scope;
+import net.sourceforge.pmd.lang.symboltable.ScopedNode;
+import net.sourceforge.pmd.util.DataMap;
+import net.sourceforge.pmd.util.DataMap.SimpleDataKey;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics.CacheCounters;
+
+
+/**
+ * Index of the declarations of a compilation unit, for languages
+ * that use the {@linkplain ScopedNode scope-based symbol table}. Maps
+ * the node of each declaration to the nodes that use it. The index is
+ * built once per AST, the first time it's needed, and stored in the user
+ * data of the root node. It's built on the FX thread, like everything
+ * else that reads the AST, since the lazy state of the nodes is not
+ * thread-safe. Building it only walks the scopes, which the parser
+ * has already populated.
+ *
+ * <p>The methods of this class must be called on the FX thread.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class SymbolIndex {
+
+    private static final SymbolIndex EMPTY = new SymbolIndex(Collections.emptyMap());
+
+    private static final SimpleDataKey<SymbolIndex> INDEX_KEY = DataMap.simpleDataKey("designer.symbolIndex");
+
+    private final Map<Node, List<Node>> usagesByDeclarator;
+
+
+    private SymbolIndex(Map<Node, List<Node>> usagesByDeclarator) {
+        this.usagesByDeclarator = usagesByDeclarator;
+    }
+
+
+    /**
+     * Returns the nodes that use the declaration declared by the
+     * given node, or an empty list if it doesn't declare anything.
+     */
+    public List<Node> getUsages(Node declarator) {
+        return usagesByDeclarator.getOrDefault(declarator, Collections.emptyList());
+    }
+
+
+    /**
+     * Returns the index of the given AST, building it if needed, and
+     * records whether it was already built.
+     */
+    public static SymbolIndex forAst(RootNode root, CacheCounters lookups) {
+        if (!(root instanceof ScopedNode)) {
+            return EMPTY;
+        }
+        lookups.record(root.getUserMap().isSet(INDEX_KEY));
+        return root.getUserMap().computeIfAbsent(INDEX_KEY, () -> build(root));
+    }
+
+
+    private static SymbolIndex build(RootNode root) {
+        Set<Scope> scopes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ScopedNode node : root.descendantsOrSelf().crossFindBoundaries().filterIs(ScopedNode.class)) {
+            if (node.getScope() != null) {
+                scopes.add(node.getScope());
+            }
+        }
+
+        Map<Node, List<Node>> usages = new IdentityHashMap<>();
+        for (Scope scope : scopes) {
+            for (Entry<NameDeclaration, List<NameOccurrence>> entry : scope.getDeclarations().entrySet()) {
+                List<Node> locations = usages.computeIfAbsent(entry.getKey().getNode(), k -> new ArrayList<>());
+                for (NameOccurrence occurrence : entry.getValue()) {
+                    locations.add(occurrence.getLocation());
+                }
+            }
+        }
+        return new SymbolIndex(usages);
+    }
+}
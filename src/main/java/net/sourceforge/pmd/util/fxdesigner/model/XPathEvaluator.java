@@ -82,14 +82,32 @@ public final class XPathEvaluator {
             return emptyList();
         }
 
-        try {
+        return evaluateQuery(compilationUnit, xpathVersion, xpathQuery, resolveProperties(propertyValues, properties));
+    }
 
-            Map<String, PropertyDescriptor<?>> descriptors = properties.stream().collect(Collectors.toMap(PropertyDescriptorSpec::getName, PropertyDescriptorSpec::build));
-            // Take in all set values or defaults
-            Map<PropertyDescriptor<?>, Object> allProperties =
-                    descriptors.entrySet().stream()
-                              .collect(Collectors.<Entry<String, PropertyDescriptor<?>>, PropertyDescriptor<?>, Object>toMap(
-                                      e -> e.getValue(), e -> propertyValues.containsKey(e.getKey()) ? e.getValue().serializer().fromString(propertyValues.get(e.getKey())) : e.getValue().defaultValue()));
+
+    /**
+     * Evaluates an XPath query on the compilation unit, with properties
+     * that were {@linkplain #resolveProperties(Map, List) resolved} beforehand.
+     * Performs no side effects.
+     *
+     * @param compilationUnit AST root
+     * @param xpathVersion    XPath version
+     * @param xpathQuery      XPath query
+     * @param allProperties   Values of the properties of the rule
+     *
+     * @throws XPathEvaluationException if there was an error during the evaluation. The cause is preserved
+     */
+    public static List<Node> evaluateQuery(Node compilationUnit,
+                                           XPathVersion xpathVersion,
+                                           String xpathQuery,
+                                           Map<PropertyDescriptor<?>, Object> allProperties) throws XPathEvaluationException {
+
+        if (StringUtils.isBlank(xpathQuery)) {
+            return emptyList();
+        }
+
+        try {
 
             SaxonXPathRuleQuery xpathRule =
                 new SaxonXPathRuleQuery(
@@ -106,4 +124,28 @@ public final class XPathEvaluator {
             throw new XPathEvaluationException(e);
         }
     }
+
+
+    /**
+     * Builds the descriptors of the properties of a rule, and maps
+     * them to their value, or to their default value if they have none.
+     * The specs are only read during this call.
+     *
+     * @param propertyValues Values of the properties, by name
+     * @param properties     Properties of the rule
+     *
+     * @throws XPathEvaluationException if a property or its value is invalid. The cause is preserved
+     */
+    public static Map<PropertyDescriptor<?>, Object> resolveProperties(Map<String, String> propertyValues,
+                                                                       List<PropertyDescriptorSpec> properties) throws XPathEvaluationException {
+        try {
+            Map<String, PropertyDescriptor<?>> descriptors = properties.stream().collect(Collectors.toMap(PropertyDescriptorSpec::getName, PropertyDescriptorSpec::build));
+            // Take in all set values or defaults
+            return descriptors.entrySet().stream()
+                              .collect(Collectors.<Entry<String, PropertyDescriptor<?>>, PropertyDescriptor<?>, Object>toMap(
+                                  e -> e.getValue(), e -> propertyValues.containsKey(e.getKey()) ? e.getValue().serializer().fromString(propertyValues.get(e.getKey())) : e.getValue().defaultValue()));
+        } catch (RuntimeException e) {
+            throw new XPathEvaluationException(e);
+        }
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.model.export;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.function.LongConsumer;
+
+
+/**
+ * Writer that forwards the output of a {@link LiveTreeRenderer} to
+ * another appendable, and that can interrupt the rendering. Rendering
+ * stops with an {@link InterruptedIOException} if the thread is
+ * interrupted, and with a {@link LimitReachedException} once a
+ * maximum number of chars have been written.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class ExportWriter extends Writer {
+
+    /** Number of chars between two calls to the progress callback. */
+    private static final long PROGRESS_STEP = 1 << 16;
+
+    private final Appendable out;
+    private final long limit;
+    private final LongConsumer progress;
+    private long written;
+    private long lastReported;
+
+
+    /**
+     * @param out      Destination of the output
+     * @param limit    Max number of chars to write
+     * @param progress Called with the number of chars written so far, every once in a while
+     */
+    public ExportWriter(Appendable out, long limit, LongConsumer progress) {
+        this.out = out;
+        this.limit = limit;
+        this.progress = progress;
+    }
+
+
+    public ExportWriter(Appendable out, LongConsumer progress) {
+        this(out, Long.MAX_VALUE, progress);
+    }
+
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        write(new String(cbuf, off, len));
+    }
+
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        append(str, off, off + len);
+    }
+
+
+    @Override
+    public Writer append(CharSequence csq) throws IOException {
+        CharSequence seq = csq == null ? "null" : csq;
+        return append(seq, 0, seq.length());
+    }
+
+
+    @Override
+    public Writer append(CharSequence csq, int start, int end) throws IOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Export was cancelled");
+        }
+        CharSequence seq = csq == null ? "null" : csq;
+        int len = end - start;
+        if (written + len > limit) {
+            out.append(seq, start, start + (int) (limit - written));
+            written = limit;
+            throw new LimitReachedException();
+        }
+        out.append(seq, start, end);
+        written += len;
+        if (written - lastReported >= PROGRESS_STEP) {
+            lastReported = written;
+            progress.accept(written);
+        }
+        return this;
+    }
+
+
+    @Override
+    public Writer append(char c) throws IOException {
+        return append(String.valueOf(c), 0, 1);
+    }
+
+
+    /** Number of chars written so far. */
+    public long getNumWritten() {
+        return written;
+    }
+
+
+    @Override
+    public void flush() throws IOException {
+        if (out instanceof Flushable) {
+            ((Flushable) out).flush();
+        }
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        if (out instanceof Closeable) {
+            ((Closeable) out).close();
+        }
+    }
+
+
+    /** Thrown when the max number of chars has been written. */
+    public static final class LimitReachedException extends IOException {
+
+        LimitReachedException() {
+            super("Export limit reached");
+        }
+    }
+}
@@ -17,6 +17,7 @@ import net.sourceforge.pmd.util.fxdesigner.app.ApplicationComponent;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.model.PropertyDescriptorSpec;
 import net.sourceforge.pmd.util.fxdesigner.model.testing.PropertyMapModel;
+import net.sourceforge.pmd.util.treeexport.TreeRenderer;
 import net.sourceforge.pmd.util.treeexport.TreeRendererDescriptor;
 
 public class LiveTreeRenderer implements ApplicationComponent {
@@ -65,6 +66,22 @@ public class LiveTreeRenderer implements ApplicationComponent {
     }
 
     public String dumpSubtree(Node n) throws Exception {
+        StringBuilder builder = new StringBuilder();
+        try {
+            newRenderer().renderSubtree(n, builder);
+        } catch (IOException e) {
+            logInternalException(e);
+            throw e;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Creates a renderer configured with the current properties. The
+     * renderer doesn't observe further changes to the properties, so
+     * it can be used on another thread.
+     */
+    public TreeRenderer newRenderer() {
         PropertySource bundle = descriptor.newPropertyBundle();
 
         Map<String, String> props = getLiveProperties().getNonDefault();
@@ -74,14 +91,7 @@ public class LiveTreeRenderer implements ApplicationComponent {
             setProperty(bundle, d, props.get(name));
         }
 
-        StringBuilder builder = new StringBuilder();
-        try {
-            descriptor.produceRenderer(bundle).renderSubtree(n, builder);
-        } catch (IOException e) {
-            logInternalException(e);
-            throw e;
-        }
-        return builder.toString();
+        return descriptor.produceRenderer(bundle);
     }
 
 
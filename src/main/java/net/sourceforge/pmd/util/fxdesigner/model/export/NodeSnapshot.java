@@ -0,0 +1,208 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.model.export;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.lang.document.TextRegion;
+import net.sourceforge.pmd.lang.rule.xpath.Attribute;
+import net.sourceforge.pmd.util.DataMap;
+import net.sourceforge.pmd.util.DataMap.DataKey;
+import net.sourceforge.pmd.util.treeexport.TreeRenderer;
+
+
+/**
+ * Copy of a subtree of an AST, which a {@link TreeRenderer} can render
+ * on another thread. PMD ASTs compute some of their state lazily and
+ * are not thread-safe, so they may only be read on the FX thread. A
+ * snapshot is built on the FX thread, one node per step (see {@link #builder(Node, long)}),
+ * then it's not modified anymore and can be read by any thread.
+ *
+ * <p>Only what renderers read is copied: the XPath name, text region,
+ * attributes and children of each node. Attributes are copied with their
+ * string value. Methods that need the root of the original AST, eg
+ * {@link #getAstInfo()}, are not supported.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class NodeSnapshot implements Node {
+
+    private final String xpathNodeName;
+    private final TextRegion textRegion;
+    private final @Nullable NodeSnapshot parent;
+    private final int indexInParent;
+    private final List<Attribute> attributes = new ArrayList<>();
+    private final List<NodeSnapshot> children = new ArrayList<>();
+    private @Nullable DataMap<DataKey<?, ?>> userMap;
+
+
+    private NodeSnapshot(Node original, @Nullable NodeSnapshot parent) {
+        this.xpathNodeName = original.getXPathNodeName();
+        this.textRegion = original.getTextRegion();
+        this.parent = parent;
+        this.indexInParent = parent == null ? -1 : parent.children.size();
+
+        Iterator<Attribute> iterator = original.getXPathAttributesIterator();
+        while (iterator.hasNext()) {
+            Attribute attribute = iterator.next();
+            String value;
+            try {
+                value = attribute.getStringValue();
+            } catch (Exception e) {
+                // renderers skip the attributes that fail too
+                continue;
+            }
+            attributes.add(new Attribute(this, attribute.getName(), value));
+        }
+    }
+
+
+    @Override
+    public String getXPathNodeName() {
+        return xpathNodeName;
+    }
+
+
+    @Override
+    public TextRegion getTextRegion() {
+        return textRegion;
+    }
+
+
+    @Override
+    public Iterator<Attribute> getXPathAttributesIterator() {
+        return Collections.unmodifiableList(attributes).iterator();
+    }
+
+
+    @Override
+    public @Nullable NodeSnapshot getParent() {
+        return parent;
+    }
+
+
+    @Override
+    public NodeSnapshot getChild(int index) {
+        return children.get(index);
+    }
+
+
+    @Override
+    public int getNumChildren() {
+        return children.size();
+    }
+
+
+    @Override
+    public int getIndexInParent() {
+        return indexInParent;
+    }
+
+
+    @Override
+    public synchronized DataMap<DataKey<?, ?>> getUserMap() {
+        if (userMap == null) {
+            userMap = DataMap.newDataMap();
+        }
+        return userMap;
+    }
+
+
+    @Override
+    public String toString() {
+        return "Snapshot of " + xpathNodeName;
+    }
+
+
+    /**
+     * Returns a builder that copies the subtree of the given node, one
+     * node per step, in document order. Use it as the step of a
+     * {@link net.sourceforge.pmd.util.fxdesigner.util.SlicedComputation}.
+     *
+     * <p>The copy stops early once the XPath names of the nodes copied
+     * so far add up to the given number of chars. Renderers write at
+     * least the name of each node, so rendering the truncated snapshot
+     * still produces more than that number of chars.
+     *
+     * @param root     Root of the subtree
+     * @param maxChars Number of chars after which the copy stops
+     */
+    public static Builder builder(Node root, long maxChars) {
+        return new Builder(root, maxChars);
+    }
+
+
+    /** Copies a subtree in steps, see {@link #builder(Node, long)}. */
+    public static final class Builder implements BooleanSupplier {
+
+        private final Deque<Node> originals = new ArrayDeque<>();
+        /** Parent of the snapshot of each pending original, with the same order. */
+        private final Deque<NodeSnapshot> parents = new ArrayDeque<>();
+        private final long maxChars;
+        private long numChars;
+        private @Nullable NodeSnapshot root;
+        private boolean truncated;
+
+
+        private Builder(Node root, long maxChars) {
+            this.maxChars = maxChars;
+            originals.push(root);
+        }
+
+
+        /** Copies the next node, returns false when the copy is over. */
+        @Override
+        public boolean getAsBoolean() {
+            if (originals.isEmpty()) {
+                return false;
+            } else if (numChars > maxChars) {
+                truncated = true;
+                originals.clear();
+                parents.clear();
+                return false;
+            }
+
+            Node original = originals.pop();
+            // the root has no parent, and is the only node for which the deque is empty
+            NodeSnapshot parent = parents.isEmpty() ? null : parents.pop();
+            NodeSnapshot snapshot = new NodeSnapshot(original, parent);
+            if (parent == null) {
+                root = snapshot;
+            } else {
+                parent.children.add(snapshot);
+            }
+            numChars += snapshot.xpathNodeName.length();
+
+            // pushed in reverse, so that they're popped in order
+            for (int i = original.getNumChildren() - 1; i >= 0; i--) {
+                originals.push(original.getChild(i));
+                parents.push(snapshot);
+            }
+            return !originals.isEmpty();
+        }
+
+
+        /** The root of the snapshot, null until the first step was run. */
+        public @Nullable NodeSnapshot getRoot() {
+            return root;
+        }
+
+
+        /** Whether some nodes were not copied, because the max number of chars was reached. */
+        public boolean isTruncated() {
+            return truncated;
+        }
+    }
+}
@@ -4,8 +4,10 @@
 
 package net.sourceforge.pmd.util.fxdesigner.model.testing;
 
+import java.lang.ref.WeakReference;
 import java.util.Map;
 import java.util.Properties;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -25,9 +27,18 @@ import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsPersistenceUtil.Pe
 
 /**
  * Live editable version of a test case.
+ *
+ * <p>Copies of a test case share as much as possible with the original.
+ * Identical sources are interned, so that they're stored only once.
+ * The expected violations of a frozen test case are not copied, but
+ * shared with the copy, since they can't be edited. A test case copies
+ * the violations it shares when it's unfrozen (copy-on-write).
  */
 public class LiveTestCase implements SettingsOwner {
 
+    /** Sources of the live test cases, to share identical sources. */
+    private static final Map<String, WeakReference<String>> SOURCE_POOL = new WeakHashMap<>();
+
     private final Var<String> source = Var.newSimpleVar(""); // TODO defaults per language
     private final Var<String> description = Var.newSimpleVar("New test case");
     private final Var<LanguageVersion> languageVersion = Var.newSimpleVar(null);
@@ -40,7 +51,8 @@ public class LiveTestCase implements SettingsOwner {
     private final Var<TestResult> status = Var.newSimpleVar(new TestResult(TestStatus.UNKNOWN, null));
     private Consumer<LiveTestCase> commitHandler = t -> {};
     private final Var<Boolean> frozen = Var.newSimpleVar(true);
-
+    /** Whether the violation records may be shared with another test case. */
+    private boolean sharesViolations;
 
 
     public LiveTestCase() {
@@ -54,6 +66,8 @@ public class LiveTestCase implements SettingsOwner {
         rule.values().subscribe(
             r -> liveProperties.setKnownProperties(r == null ? null : r.getRuleProperties())
         );
+
+        frozen.values().filter(f -> !f).subscribe(f -> ownViolations());
     }
 
 
@@ -67,7 +81,7 @@ public class LiveTestCase implements SettingsOwner {
     }
 
     public void setSource(String source) {
-        this.source.setValue(source);
+        this.source.setValue(intern(source));
     }
 
     @PersistentProperty
@@ -203,10 +217,20 @@ public class LiveTestCase implements SettingsOwner {
         return this;
     }
 
+    /**
+     * Returns a copy of this test case. If this test case is frozen,
+     * the copy shares its violation records until either is unfrozen.
+     */
     public LiveTestCase deepCopy() {
         LiveTestCase live = new LiveTestCase(getRule());
         live.setDescription(getDescription());
-        live.expectedViolations.setAll(this.expectedViolations.stream().map(LiveViolationRecord::deepCopy).collect(Collectors.toList()));
+        if (isFrozen()) {
+            live.expectedViolations.setAll(this.expectedViolations);
+            live.sharesViolations = true;
+            this.sharesViolations = true;
+        } else {
+            live.expectedViolations.setAll(this.expectedViolations.stream().map(LiveViolationRecord::deepCopy).collect(Collectors.toList()));
+        }
         live.setLanguageVersion(getLanguageVersion());
         live.setSource(getSource());
         live.setFrozen(isFrozen());
@@ -215,6 +239,29 @@ public class LiveTestCase implements SettingsOwner {
         return live;
     }
 
+    /** Replaces the violation records that may be shared with private copies, before they're edited. */
+    private void ownViolations() {
+        if (sharesViolations) {
+            sharesViolations = false;
+            expectedViolations.setAll(expectedViolations.stream().map(LiveViolationRecord::deepCopy).collect(Collectors.toList()));
+        }
+    }
+
+    private static @Nullable String intern(@Nullable String source) {
+        if (source == null) {
+            return null;
+        }
+        synchronized (SOURCE_POOL) {
+            WeakReference<String> ref = SOURCE_POOL.get(source);
+            String pooled = ref == null ? null : ref.get();
+            if (pooled == null) {
+                SOURCE_POOL.put(source, new WeakReference<>(source));
+                pooled = source;
+            }
+            return pooled;
+        }
+    }
+
     public TestResult getStatus() {
         return status.getValue();
     }
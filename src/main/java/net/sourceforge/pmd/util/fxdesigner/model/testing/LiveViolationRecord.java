@@ -99,6 +99,7 @@ public class LiveViolationRecord implements SettingsOwner, Comparable<LiveViolat
 
     public LiveViolationRecord deepCopy() {
         return new LiveViolationRecord(
+            getLine(),
             getRegion(),
             getMessage()
         );
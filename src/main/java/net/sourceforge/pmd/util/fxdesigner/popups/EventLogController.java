@@ -98,7 +98,8 @@ public final class EventLogController extends AbstractController {
         logDateColumn.setCellValueFactory(entry -> new SimpleObjectProperty<>(entry.getValue()));
         logDateColumn.setCellFactory(column -> new TableCell<LogEntry, LogEntry>() {
 
-            Subscription sub = null;
+            private final FontIcon newEntryIcon = new FontIcon("fas-exclamation-circle");
+            private Subscription sub = null;
 
 
             // adds an icon to the date for new entries
@@ -108,6 +109,7 @@ public final class EventLogController extends AbstractController {
 
                 if (sub != null) {
                     sub.unsubscribe();
+                    sub = null;
                 }
                 if (item == null || empty) {
                     setText(null);
@@ -115,7 +117,7 @@ public final class EventLogController extends AbstractController {
                 } else {
                     setText(dateFormat.format(item.getTimestamp()));
                     sub = item.wasExaminedProperty()
-                              .map(wasExamined -> wasExamined ? null : new FontIcon("fas-exclamation-circle"))
+                              .map(wasExamined -> wasExamined ? null : newEntryIcon)
                               .values()
                               .subscribe(graphicProperty()::setValue);
                 }
@@ -0,0 +1,170 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.popups;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.reactfx.EventStreams;
+import org.reactfx.Subscription;
+import org.reactfx.value.Val;
+
+import net.sourceforge.pmd.util.fxdesigner.app.AbstractController;
+import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics.Reading;
+import net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil;
+import net.sourceforge.pmd.util.fxdesigner.util.StageBuilder;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.stage.FileChooser;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+
+
+/**
+ * Controller for the performance overlay, a small window that stays on
+ * top of the designer and displays the {@link PerformanceMetrics} live.
+ * The stacks sampled during the stalls of the FX thread can be exported
+ * as folded stacks, to be rendered as a flame graph. Only available in
+ * developer mode.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class PerformanceOverlayController extends AbstractController {
+
+    private static final Duration REFRESH_PERIOD = Duration.ofMillis(500);
+
+    private final Stage myPopupStage;
+
+    @FXML
+    private Button resetButton;
+    @FXML
+    private Button exportCsvButton;
+    @FXML
+    private Button exportJsonButton;
+    @FXML
+    private Button exportStallsButton;
+    @FXML
+    private Label snapshotLabel;
+    @FXML
+    private TableView<Reading> metricsTableView;
+    @FXML
+    private TableColumn<Reading, String> nameColumn;
+    @FXML
+    private TableColumn<Reading, String> countColumn;
+    @FXML
+    private TableColumn<Reading, String> meanColumn;
+    @FXML
+    private TableColumn<Reading, String> p50Column;
+    @FXML
+    private TableColumn<Reading, String> p95Column;
+    @FXML
+    private TableColumn<Reading, String> maxColumn;
+    @FXML
+    private TableColumn<Reading, String> valueColumn;
+
+    private Subscription refreshTicks = Subscription.EMPTY;
+
+
+    public PerformanceOverlayController(DesignerRoot root) {
+        super(root);
+        this.myPopupStage = new StageBuilder().withOwner(root.getMainStage())
+                                              .withFxml(DesignerUtil.getFxml("performance-overlay"), root, this)
+                                              .withModality(Modality.NONE)
+                                              .withTitle("Performance metrics")
+                                              .newStage();
+        myPopupStage.setAlwaysOnTop(true);
+        myPopupStage.setOnHidden(e -> {
+            refreshTicks.unsubscribe();
+            refreshTicks = Subscription.EMPTY;
+        });
+    }
+
+
+    @Override
+    protected void beforeParentInit() {
+        nameColumn.setCellValueFactory(p -> Val.constant(p.getValue().getName()));
+        countColumn.setCellValueFactory(p -> Val.constant(p.getValue().getCount() < 0 ? "" : String.valueOf(p.getValue().getCount())));
+        setDurationColumn(meanColumn, Reading::getMeanMillis);
+        setDurationColumn(p50Column, Reading::getP50Millis);
+        setDurationColumn(p95Column, Reading::getP95Millis);
+        setDurationColumn(maxColumn, Reading::getMaxMillis);
+        valueColumn.setCellValueFactory(p -> Val.constant(p.getValue().isHistogram() ? "" : format(p.getValue().getValue())));
+
+        resetButton.setOnAction(e -> {
+            metrics().reset();
+            refresh();
+        });
+        exportCsvButton.setOnAction(e -> export(exportCsvButton, "csv", metrics()::toCsv));
+        exportJsonButton.setOnAction(e -> export(exportJsonButton, "json", metrics()::toJson));
+        exportStallsButton.setOnAction(e -> export(exportStallsButton, "folded", getService(DesignerRoot.FX_STALL_DETECTOR)::dumpFoldedStacks));
+    }
+
+
+    /** Shows the overlay, the metrics are refreshed periodically while it's showing. */
+    public void showPopup() {
+        refresh();
+        myPopupStage.show();
+        myPopupStage.toFront();
+        if (refreshTicks == Subscription.EMPTY) {
+            refreshTicks = EventStreams.ticks(REFRESH_PERIOD).subscribe(tick -> refresh());
+        }
+    }
+
+
+    private void refresh() {
+        metricsTableView.getItems().setAll(metrics().snapshot());
+        exportStallsButton.setDisable(getService(DesignerRoot.FX_STALL_DETECTOR).getNumStalls() == 0);
+        snapshotLabel.setText("Refreshed every " + REFRESH_PERIOD.toMillis() + "ms, durations in ms");
+    }
+
+
+    private void export(Button button, String extension, Supplier<String> content) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export metrics");
+        chooser.setInitialFileName(("folded".equals(extension) ? "designer-stalls." : "designer-metrics.") + extension);
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter(extension.toUpperCase(Locale.ROOT), "*." + extension));
+        File file = chooser.showSaveDialog(myPopupStage);
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.write(file.toPath(), content.get().getBytes(StandardCharsets.UTF_8));
+            SimplePopups.showActionFeedback(button, AlertType.CONFIRMATION, "Metrics exported");
+        } catch (IOException ex) {
+            SimplePopups.showActionFeedback(button, AlertType.ERROR, "Error while exporting, see event log");
+            logInternalException(ex);
+        }
+    }
+
+
+    private PerformanceMetrics metrics() {
+        return getService(DesignerRoot.PERFORMANCE_METRICS);
+    }
+
+
+    private static void setDurationColumn(TableColumn<Reading, String> column, Function<Reading, Double> getter) {
+        column.setCellValueFactory(p -> Val.constant(format(getter.apply(p.getValue()))));
+    }
+
+
+    private static String format(double d) {
+        return Double.isNaN(d) ? "" : String.format(Locale.ROOT, "%.2f", d);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.popups;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.reactfx.value.Val;
+
+import net.sourceforge.pmd.util.fxdesigner.app.AbstractController;
+import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
+import net.sourceforge.pmd.util.fxdesigner.model.ProjectScan;
+import net.sourceforge.pmd.util.fxdesigner.model.ProjectScan.FileResult;
+import net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil;
+import net.sourceforge.pmd.util.fxdesigner.util.StageBuilder;
+import net.sourceforge.pmd.util.fxdesigner.util.controls.ToolbarTitledPane;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.Tooltip;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+
+
+/**
+ * Controller for the "Run on directory" popup, which shows the
+ * results of a {@link ProjectScan} as they come in.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class ProjectScanController extends AbstractController {
+
+    private final Stage myPopupStage;
+
+    @FXML
+    private ToolbarTitledPane titledPane;
+    @FXML
+    private Button cancelButton;
+    @FXML
+    private Label scanStatusLabel;
+    @FXML
+    private TableView<FileResult> resultsTableView;
+    @FXML
+    private TableColumn<FileResult, String> fileColumn;
+    @FXML
+    private TableColumn<FileResult, FileResult> matchesColumn;
+    @FXML
+    private TableColumn<FileResult, Long> parseTimeColumn;
+    @FXML
+    private TableColumn<FileResult, Long> evalTimeColumn;
+
+    private final ObservableList<FileResult> results = FXCollections.observableArrayList();
+    /** Results reported by the workers, waiting to be added to the table. */
+    private final Queue<FileResult> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private @Nullable ProjectScan scan;
+    private Path directory;
+    private int numFiles = -1;
+    private int numMatches;
+    private int numMatchingFiles;
+    private int numErrors;
+    private boolean done;
+
+
+    public ProjectScanController(DesignerRoot root) {
+        super(root);
+        this.myPopupStage = new StageBuilder().withOwner(root.getMainStage())
+                                              .withFxml(DesignerUtil.getFxml("project-scan"), root, this)
+                                              .withModality(Modality.NONE)
+                                              .withTitle("Run on directory")
+                                              .newStage();
+    }
+
+
+    @Override
+    protected void beforeParentInit() {
+        fileColumn.setCellValueFactory(p -> Val.constant(directory == null ? p.getValue().getFile().toString()
+                                                                           : directory.relativize(p.getValue().getFile()).toString()));
+        matchesColumn.setCellValueFactory(p -> Val.constant(p.getValue()));
+        matchesColumn.setCellFactory(col -> new MatchCountTableCell());
+        matchesColumn.setComparator(Comparator.comparingInt(FileResult::getNumMatches));
+        parseTimeColumn.setCellValueFactory(p -> Val.constant(p.getValue().getParseMillis()));
+        evalTimeColumn.setCellValueFactory(p -> Val.constant(p.getValue().getEvalMillis()));
+
+        SortedList<FileResult> sorted = new SortedList<>(results);
+        sorted.comparatorProperty().bind(resultsTableView.comparatorProperty());
+        resultsTableView.setItems(sorted);
+        resultsTableView.getSortOrder().add(matchesColumn);
+
+        cancelButton.setOnAction(e -> {
+            if (scan != null) {
+                scan.cancel();
+            }
+        });
+    }
+
+
+    /** Shows the popup and starts the scan. */
+    public void showAndStart(Path directory, ProjectScan scan) {
+        this.directory = directory;
+        this.scan = scan;
+        titledPane.setTitle("Matches per file in " + directory);
+        myPopupStage.setOnCloseRequest(e -> scan.cancel());
+        myPopupStage.show();
+        updateStatus();
+
+        scan.start(directory,
+                   n -> Platform.runLater(() -> {
+                       numFiles = n;
+                       updateStatus();
+                   }),
+                   this::enqueue,
+                   () -> Platform.runLater(() -> {
+                       flush();
+                       done = true;
+                       cancelButton.setDisable(true);
+                       updateStatus();
+                   }));
+    }
+
+
+    // called on the worker threads
+    private void enqueue(FileResult result) {
+        incoming.add(result);
+        if (flushScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::flush);
+        }
+    }
+
+
+    // adds all pending results at once, so that the table is sorted once per batch
+    private void flush() {
+        flushScheduled.set(false);
+        List<FileResult> batch = new ArrayList<>();
+        FileResult r;
+        while ((r = incoming.poll()) != null) {
+            batch.add(r);
+            if (r.getNumMatches() < 0) {
+                numErrors++;
+            } else if (r.getNumMatches() > 0) {
+                numMatches += r.getNumMatches();
+                numMatchingFiles++;
+            }
+        }
+        if (!batch.isEmpty()) {
+            results.addAll(batch);
+            updateStatus();
+        }
+    }
+
+
+    private void updateStatus() {
+        String progress = numFiles < 0 ? "Listing files..."
+                                       : "Scanned " + results.size() + "/" + numFiles + " files";
+        String status = progress + ", " + numMatches + " matches in " + numMatchingFiles + " files";
+        if (numErrors > 0) {
+            status += ", " + numErrors + " errors";
+        }
+        if (done && scan != null && scan.isCancelled()) {
+            status += " (cancelled)";
+        }
+        scanStatusLabel.setText(status);
+    }
+
+
+    /** Displays the number of matches, or the error if there was one. */
+    private static final class MatchCountTableCell extends TableCell<FileResult, FileResult> {
+
+        @Override
+        protected void updateItem(FileResult item, boolean empty) {
+            super.updateItem(item, empty);
+            if (empty || item == null) {
+                setText(null);
+                setTooltip(null);
+            } else if (item.getError() != null) {
+                setText("error");
+                setTooltip(new Tooltip(item.getError()));
+            } else {
+                setText(String.valueOf(item.getNumMatches()));
+                setTooltip(null);
+            }
+        }
+    }
+}
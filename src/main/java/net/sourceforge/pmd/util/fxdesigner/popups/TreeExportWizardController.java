@@ -4,43 +4,85 @@
 
 package net.sourceforge.pmd.util.fxdesigner.popups;
 
+import java.io.File;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.controlsfx.control.PopOver;
 import org.fxmisc.richtext.LineNumberFactory;
 import org.reactfx.EventStreams;
 import org.reactfx.Subscription;
+import org.reactfx.value.Val;
 
 import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.util.fxdesigner.app.AbstractController;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.app.services.ASTManager;
 import net.sourceforge.pmd.util.fxdesigner.app.services.LogEntry.Category;
+import net.sourceforge.pmd.util.fxdesigner.model.export.ExportWriter;
+import net.sourceforge.pmd.util.fxdesigner.model.export.ExportWriter.LimitReachedException;
 import net.sourceforge.pmd.util.fxdesigner.model.export.LiveTreeRenderer;
+import net.sourceforge.pmd.util.fxdesigner.model.export.NodeSnapshot;
 import net.sourceforge.pmd.util.fxdesigner.model.export.TreeRendererRegistry;
 import net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil;
+import net.sourceforge.pmd.util.fxdesigner.util.SlicedComputation;
 import net.sourceforge.pmd.util.fxdesigner.util.StageBuilder;
 import net.sourceforge.pmd.util.fxdesigner.util.codearea.AvailableSyntaxHighlighters;
 import net.sourceforge.pmd.util.fxdesigner.util.codearea.SyntaxHighlightingCodeArea;
 import net.sourceforge.pmd.util.fxdesigner.util.codearea.syntaxhighlighting.XmlSyntaxHighlighter;
-import net.sourceforge.pmd.util.fxdesigner.util.controls.ControlUtil;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.DynamicWidthChoicebox;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.PopOverWrapper;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.PropertyMapView;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.ToolbarTitledPane;
 import net.sourceforge.pmd.util.fxdesigner.util.reactfx.ReactfxUtil;
+import net.sourceforge.pmd.util.treeexport.TreeRenderer;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.stage.FileChooser;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
 
 /**
- * Controller for the "Export tests to XML" dialog.
+ * Controller for the "Export tree to text" dialog. The preview only
+ * shows the start of the output, while the file and clipboard exports
+ * render the whole tree.
+ *
+ * <p>The AST may only be read on the FX thread, so a rendering first
+ * copies the tree into a {@link NodeSnapshot}, on the FX thread in time
+ * slices. The snapshot is then rendered on a background thread.
+ *
+ * <p>A new preview cancels the previous one. Exports are only cancelled
+ * when the dialog is closed, and only one export runs at a time.
  *
  * @author Clément Fournier
  */
 public final class TreeExportWizardController extends AbstractController {
 
+    /** Max number of chars shown in the preview. */
+    private static final int PREVIEW_MAX_CHARS = 200_000;
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "Designer-tree-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Stage myPopupStage;
     private final PopOverWrapper<LiveTreeRenderer> propertiesPopover;
     @FXML
@@ -55,8 +97,12 @@ public final class TreeExportWizardController extends AbstractController {
     private Button copyResultButton;
     @FXML
     private SyntaxHighlightingCodeArea exportResultArea;
+    @FXML
+    private Label exportStatusLabel;
 
-    private Runnable updater = () -> {};
+    private Supplier<@Nullable Node> exportedNode = () -> null;
+    private @Nullable Rendering currentPreview;
+    private @Nullable Rendering currentExport;
 
 
     public TreeExportWizardController(DesignerRoot root) {
@@ -76,31 +122,145 @@ public final class TreeExportWizardController extends AbstractController {
 
 
     public Subscription bindToTree(ASTManager astManager) {
-        update(astManager.compilationUnitProperty().getValue());
-        updater = () -> update(astManager.compilationUnitProperty().getValue());
-        return astManager.compilationUnitProperty().changes().subscribe(it -> update(it.getNewValue()));
+        Val<Node> compilationUnit = astManager.compilationUnitProperty();
+        exportedNode = compilationUnit::getValue;
+        update();
+        return compilationUnit.changes().subscribe(it -> update());
     }
 
     public Subscription bindToNode(Node node) {
-        update(node);
-        updater = () -> update(node);
+        exportedNode = () -> node;
+        update();
         return Subscription.EMPTY;
     }
 
-    private void update(Node value) {
-        try {
-            LiveTreeRenderer renderer = rendererChoicebox.getSelectionModel().getSelectedItem();
-            String dump = renderer.dumpSubtree(value);
-            titledPane.errorMessageProperty().setValue(null);
-            exportResultArea.replaceText(dump);
-        } catch (Exception e) {
-            reportDumpException(e);
+    /** Renders the preview in the background, cancelling the previous rendering. */
+    private void update() {
+        Node node = exportedNode.get();
+        LiveTreeRenderer renderer = rendererChoicebox.getSelectionModel().getSelectedItem();
+        if (node == null || renderer == null) {
+            return;
         }
+        TreeRenderer treeRenderer = renderer.newRenderer();
+
+        if (currentPreview != null) {
+            currentPreview.cancel();
+        }
+        if (currentExport == null) {
+            exportStatusLabel.setText("Rendering...");
+        }
+        currentPreview = new Rendering(node, PREVIEW_MAX_CHARS, snapshot -> {
+            StringBuilder text = new StringBuilder();
+            boolean truncated = false;
+            try (ExportWriter out = new ExportWriter(text, PREVIEW_MAX_CHARS, n -> { })) {
+                treeRenderer.renderSubtree(snapshot, out);
+            } catch (LimitReachedException e) {
+                truncated = true;
+            }
+            String status = truncated ? "Preview shows the first " + PREVIEW_MAX_CHARS + " characters" : "";
+            Platform.runLater(() -> {
+                titledPane.errorMessageProperty().setValue(null);
+                exportResultArea.replaceText(text.toString());
+                if (currentExport == null) {
+                    exportStatusLabel.setText(status);
+                }
+            });
+        });
+    }
+
+    /** Renders the whole tree to a file, reporting progress. */
+    private void exportToFile() {
+        Node node = exportedNode.get();
+        LiveTreeRenderer renderer = rendererChoicebox.getSelectionModel().getSelectedItem();
+        if (node == null || renderer == null || currentExport != null) {
+            return;
+        }
+
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Write to a file");
+        File file = chooser.showSaveDialog(myPopupStage);
+        if (file == null) {
+            return;
+        }
+        TreeRenderer treeRenderer = renderer.newRenderer();
+
+        exportStatusLabel.setText("Writing...");
+        startExport(node, saveToFileButton, snapshot -> {
+            try (Writer fileWriter = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+                 ExportWriter out = new ExportWriter(fileWriter, this::reportProgress)) {
+                treeRenderer.renderSubtree(snapshot, out);
+            } catch (Exception e) {
+                // don't leave a truncated file behind
+                Files.deleteIfExists(file.toPath());
+                throw e;
+            }
+            Platform.runLater(() -> {
+                exportStatusLabel.setText("");
+                SimplePopups.showActionFeedback(saveToFileButton, AlertType.CONFIRMATION, "File saved");
+            });
+        });
+    }
+
+    /** Renders the whole tree to the clipboard. */
+    private void exportToClipboard() {
+        Node node = exportedNode.get();
+        LiveTreeRenderer renderer = rendererChoicebox.getSelectionModel().getSelectedItem();
+        if (node == null || renderer == null || currentExport != null) {
+            return;
+        }
+        TreeRenderer treeRenderer = renderer.newRenderer();
+
+        exportStatusLabel.setText("Rendering...");
+        startExport(node, copyResultButton, snapshot -> {
+            StringBuilder text = new StringBuilder();
+            try (ExportWriter out = new ExportWriter(text, this::reportProgress)) {
+                treeRenderer.renderSubtree(snapshot, out);
+            }
+            Platform.runLater(() -> {
+                final ClipboardContent content = new ClipboardContent(); // NOPMD - can't use Map<> because of putString(...) method
+                content.putString(text.toString());
+                Clipboard.getSystemClipboard().setContent(content);
+                exportStatusLabel.setText("");
+                SimplePopups.showActionFeedback(copyResultButton, AlertType.CONFIRMATION, "Copied to clipboard");
+            });
+        });
+    }
+
+    private void reportProgress(long numChars) {
+        String status = "Rendered " + numChars / 1024 + " KB...";
+        Platform.runLater(() -> exportStatusLabel.setText(status));
+    }
+
+    /**
+     * Runs an export, the export buttons are disabled until it's over.
+     * A failure is shown next to the button that started the export.
+     */
+    private void startExport(Node node, Button button, RenderingTask task) {
+        saveToFileButton.setDisable(true);
+        copyResultButton.setDisable(true);
+        currentExport = new Rendering(node, Long.MAX_VALUE, task, e -> {
+            reportDumpException(e);
+            SimplePopups.showActionFeedback(button, AlertType.ERROR, "Export failed");
+        }, () -> {
+            currentExport = null;
+            saveToFileButton.setDisable(false);
+            copyResultButton.setDisable(false);
+        });
     }
 
     /** Set the given subscription as close handler and show. */
     public void showYourself(Subscription parentBinding) {
-        myPopupStage.setOnCloseRequest(e -> parentBinding.unsubscribe());
+        myPopupStage.setOnCloseRequest(e -> {
+            parentBinding.unsubscribe();
+            if (currentPreview != null) {
+                currentPreview.cancel();
+            }
+            if (currentExport != null) {
+                // a partial file is deleted by the export task
+                currentExport.cancel();
+                exportStatusLabel.setText("");
+            }
+        });
         exportResultArea.setSyntaxHighlighter(new XmlSyntaxHighlighter());
         myPopupStage.show();
     }
@@ -114,8 +274,8 @@ public final class TreeExportWizardController extends AbstractController {
     protected void beforeParentInit() {
         exportResultArea.setSyntaxHighlighter(AvailableSyntaxHighlighters.XML);
 
-        ControlUtil.copyToClipboardButton(copyResultButton, exportResultArea::getText);
-        ControlUtil.saveToFileButton(saveToFileButton, myPopupStage, exportResultArea::getText, this, () -> null);
+        copyResultButton.setOnAction(e -> exportToClipboard());
+        saveToFileButton.setOnAction(e -> exportToFile());
 
 
         TreeRendererRegistry rendererRegistry = getService(DesignerRoot.TREE_RENDERER_REGISTRY);
@@ -127,7 +287,7 @@ public final class TreeExportWizardController extends AbstractController {
         EventStreams.valuesOf(rendererChoicebox.getSelectionModel().selectedItemProperty()).subscribe(propertiesPopover::rebind);
         ReactfxUtil.subscribeDisposable(
             rendererChoicebox.getSelectionModel().selectedItemProperty(),
-            renderer -> renderer.getLiveProperties().nonDefaultProperty().values().subscribe(it -> updater.run())
+            renderer -> renderer.getLiveProperties().nonDefaultProperty().values().subscribe(it -> update())
         );
 
         EventStreams.valuesOf(rendererChoicebox.getSelectionModel().selectedItemProperty())
@@ -161,4 +321,104 @@ public final class TreeExportWizardController extends AbstractController {
         return null;
     }
 
+
+    @FunctionalInterface
+    private interface RenderingTask {
+
+        void render(NodeSnapshot snapshot) throws Exception;
+    }
+
+
+    /**
+     * Renders a tree in two phases. The tree is first copied on the FX
+     * thread, in slices, then the copy is rendered on the export thread.
+     * A failure clears the status label. If the rendering is cancelled,
+     * nothing is reported: the preview that cancelled it, or the closing
+     * of the dialog, takes over.
+     */
+    private final class Rendering {
+
+        private final RenderingTask task;
+        private final Consumer<Exception> onFailure;
+        private final Runnable onDone;
+        private final NodeSnapshot.Builder snapshot;
+        private final SlicedComputation snapshotComputation;
+        private @Nullable Future<?> rendering;
+
+
+        /**
+         * Starts the rendering, must be called on the FX thread.
+         *
+         * @param node      Root of the tree to render
+         * @param maxChars  Number of chars of output after which the tree needn't be copied further
+         * @param task      Renders the snapshot, runs on the export thread
+         * @param onFailure Called on the FX thread if the rendering fails
+         * @param onDone    Called on the FX thread when the rendering is over, failed, or was cancelled
+         */
+        Rendering(Node node, long maxChars, RenderingTask task, Consumer<Exception> onFailure, Runnable onDone) {
+            this.task = task;
+            this.onFailure = onFailure;
+            this.onDone = onDone;
+            this.snapshot = NodeSnapshot.builder(node, maxChars);
+            this.snapshotComputation = SlicedComputation.start(() -> {
+                if (snapshot.getAsBoolean()) {
+                    return true;
+                }
+                rendering = renderInBackground(snapshot.getRoot());
+                return false;
+            }, this::snapshotFailed);
+        }
+
+
+        Rendering(Node node, long maxChars, RenderingTask task) {
+            this(node, maxChars, task, TreeExportWizardController.this::reportDumpException, () -> { });
+        }
+
+
+        void cancel() {
+            if (rendering != null) {
+                rendering.cancel(true);
+            } else if (!snapshotComputation.isDone()) {
+                snapshotComputation.cancel();
+                onDone.run();
+            }
+        }
+
+
+        private void snapshotFailed(Throwable e) {
+            // deferred like for a failed rendering, as this may be called from the constructor
+            Platform.runLater(() -> {
+                exportStatusLabel.setText("");
+                onFailure.accept(e instanceof Exception ? (Exception) e : new RuntimeException(e));
+                onDone.run();
+            });
+        }
+
+
+        private Future<?> renderInBackground(NodeSnapshot root) {
+            FutureTask<Void> future = new FutureTask<Void>(() -> {
+                try {
+                    task.render(root);
+                } catch (Exception e) {
+                    // the interrupt may also surface as a ClosedByInterruptException
+                    boolean cancelled = e instanceof InterruptedIOException || Thread.currentThread().isInterrupted();
+                    if (!cancelled) {
+                        Platform.runLater(() -> {
+                            exportStatusLabel.setText("");
+                            onFailure.accept(e);
+                        });
+                    }
+                }
+                return null;
+            }) {
+                @Override
+                protected void done() {
+                    // also called if the task is cancelled before it starts
+                    Platform.runLater(onDone);
+                }
+            };
+            EXECUTOR.execute(future);
+            return future;
+        }
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.lang.document.Chars;
+import net.sourceforge.pmd.lang.document.TextRegion;
+
+
+/**
+ * Structural matching between two consecutive versions of an AST.
+ * The text edit between the two versions is computed as the part
+ * of the text that's between their common prefix and suffix. Nodes
+ * are then matched top-down, on their type and on their text region,
+ * shifted by the length of the edit. Subtrees that lie entirely before
+ * or after the edit are matched child by child. The children of nodes
+ * that overlap the edit are aligned from both ends, on the children that
+ * didn't change. The children in between are only matched if there are
+ * as many in both versions.
+ *
+ * <p>A diff references both trees, so it shouldn't be stored on either
+ * of them: that would keep every version of the AST reachable from the
+ * latest one. Users keep only the latest diff instead.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class AstDiff {
+
+    private final Node oldRoot;
+    private final Node newRoot;
+    private final Map<Node, Node> oldToNew = new IdentityHashMap<>();
+    private final Chars oldText;
+    private final Chars newText;
+
+    /** Offset at which the edit starts, the same in both versions. */
+    private final int editStart;
+    /** End offset of the edit in the old version. */
+    private final int oldEditEnd;
+    /** Difference between the lengths of the new and old text. */
+    private final int delta;
+
+
+    private AstDiff(Node oldRoot, Node newRoot) {
+        this.oldRoot = oldRoot;
+        this.newRoot = newRoot;
+
+        this.oldText = oldRoot.getTextDocument().getText();
+        this.newText = newRoot.getTextDocument().getText();
+        int maxCommon = Math.min(oldText.length(), newText.length());
+
+        int prefix = 0;
+        while (prefix < maxCommon && oldText.charAt(prefix) == newText.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix
+            && oldText.charAt(oldText.length() - 1 - suffix) == newText.charAt(newText.length() - 1 - suffix)) {
+            suffix++;
+        }
+
+        this.editStart = prefix;
+        this.oldEditEnd = oldText.length() - suffix;
+        this.delta = newText.length() - oldText.length();
+
+        match(oldRoot, newRoot);
+    }
+
+
+    /**
+     * Returns the node of the new tree that corresponds to the given
+     * node of the old tree, or null if it was removed or changed too much.
+     */
+    public @Nullable Node getNewNode(Node oldNode) {
+        return oldToNew.get(oldNode);
+    }
+
+
+    /** Returns true if the two nodes were matched. */
+    public boolean isMatched(Node oldNode, Node newNode) {
+        return oldToNew.get(oldNode) == newNode;
+    }
+
+
+    public Node getOldRoot() {
+        return oldRoot;
+    }
+
+
+    public Node getNewRoot() {
+        return newRoot;
+    }
+
+
+    private void match(Node oldNode, Node newNode) {
+        oldToNew.put(oldNode, newNode);
+
+        if (!isTouchedByEdit(oldNode.getTextRegion())) {
+            // the subtree didn't change, only its position
+            for (int i = 0; i < oldNode.getNumChildren() && i < newNode.getNumChildren(); i++) {
+                if (isCompatible(oldNode.getChild(i), newNode.getChild(i))) {
+                    match(oldNode.getChild(i), newNode.getChild(i));
+                }
+            }
+            return;
+        }
+
+        int numOld = oldNode.getNumChildren();
+        int numNew = newNode.getNumChildren();
+
+        // children before the edit
+        int start = 0;
+        while (start < numOld && start < numNew && isUnchanged(oldNode.getChild(start), newNode.getChild(start))) {
+            match(oldNode.getChild(start), newNode.getChild(start));
+            start++;
+        }
+
+        // children after the edit
+        int oldEnd = numOld;
+        int newEnd = numNew;
+        while (oldEnd > start && newEnd > start && isUnchanged(oldNode.getChild(oldEnd - 1), newNode.getChild(newEnd - 1))) {
+            oldEnd--;
+            newEnd--;
+            match(oldNode.getChild(oldEnd), newNode.getChild(newEnd));
+        }
+
+        // the children in between overlap the edit. If there are as many
+        // in both versions, they're taken as edited versions of each other,
+        // otherwise some were added or removed and we can't tell which
+        if (oldEnd - start == newEnd - start) {
+            for (int i = start; i < oldEnd; i++) {
+                if (isCompatible(oldNode.getChild(i), newNode.getChild(i))) {
+                    match(oldNode.getChild(i), newNode.getChild(i));
+                }
+            }
+        }
+    }
+
+
+    private boolean isCompatible(Node oldNode, Node newNode) {
+        if (!oldNode.getXPathNodeName().equals(newNode.getXPathNodeName())) {
+            return false;
+        }
+        TextRegion oldRegion = oldNode.getTextRegion();
+        return isTouchedByEdit(oldRegion) || shift(oldRegion).equals(newNode.getTextRegion());
+    }
+
+
+    /** Whether the old node is at the same place in the new tree, with the same text. */
+    private boolean isUnchanged(Node oldNode, Node newNode) {
+        if (!oldNode.getXPathNodeName().equals(newNode.getXPathNodeName())) {
+            return false;
+        }
+        TextRegion oldRegion = oldNode.getTextRegion();
+        TextRegion newRegion = newNode.getTextRegion();
+        if (!isTouchedByEdit(oldRegion)) {
+            return shift(oldRegion).equals(newRegion);
+        }
+        // the bounds of the edit are ambiguous when the edited text
+        // repeats, eg deleting "a, " from "a, a" may be taken as deleting ", a"
+        return oldRegion.getLength() == newRegion.getLength()
+            && oldText.slice(oldRegion).contentEquals(newText.slice(newRegion));
+    }
+
+
+    private boolean isTouchedByEdit(TextRegion region) {
+        return region.getEndOffset() >= editStart && region.getStartOffset() <= oldEditEnd;
+    }
+
+
+    /** Region a node of the old tree that is not touched by the edit has in the new tree. */
+    private TextRegion shift(TextRegion oldRegion) {
+        return oldRegion.getStartOffset() > oldEditEnd
+               ? TextRegion.fromOffsetLength(oldRegion.getStartOffset() + delta, oldRegion.getLength())
+               : oldRegion;
+    }
+
+
+    /**
+     * Returns the diff between the two given roots. Returns null if
+     * the roots are not of the same type, in which case no node can
+     * be matched.
+     */
+    public static @Nullable AstDiff compute(Node oldRoot, Node newRoot) {
+        if (!oldRoot.getXPathNodeName().equals(newRoot.getXPathNodeName())) {
+            return null;
+        }
+        return new AstDiff(oldRoot, newRoot);
+    }
+}
@@ -40,10 +40,11 @@ public final class AstTraversalUtil {
      * Tries hard to find the node in [myRoot] that corresponds most closely
      * to the given [node], which may be from another tree.
      *
-     * @param myRoot (Nullable) root of the tree in which to search
-     * @param node   (Nullable) node to look for
+     * @param myRoot   (Nullable) root of the tree in which to search
+     * @param node     (Nullable) node to look for
+     * @param lastDiff (Nullable) diff between the previous version of the tree and [myRoot]
      */
-    public static Optional<Node> mapToMyTree(final Node myRoot, final Node node, @Nullable Integer caretPositionOrNull) {
+    public static Optional<Node> mapToMyTree(final Node myRoot, final Node node, @Nullable Integer caretPositionOrNull, @Nullable AstDiff lastDiff) {
         if (myRoot == null || node == null) {
             return Optional.empty();
         }
@@ -60,6 +61,12 @@ public final class AstTraversalUtil {
             }
         }
 
+        if (lastDiff != null && lastDiff.getOldRoot() == node.getRoot() && lastDiff.getNewRoot() == myRoot
+            && lastDiff.getNewNode(node) != null) {
+            // the trees have been matched structurally
+            return Optional.of(lastDiff.getNewNode(node));
+        }
+
         Optional<Node> result =
             or(
                 or(
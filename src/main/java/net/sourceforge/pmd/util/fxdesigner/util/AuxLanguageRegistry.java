@@ -96,19 +96,33 @@ public final class AuxLanguageRegistry {
         return result;
     }
 
-    @Nullable
-    public static synchronized LanguageVersion getLanguageVersionFromExtension(String filename) {
+    private static synchronized Map<String, LanguageVersion> extensionsToLanguage() {
         if (extensionsToLanguage == null) {
             extensionsToLanguage = getExtensionsToLanguageMap();
         }
+        return extensionsToLanguage;
+    }
 
+    @Nullable
+    public static LanguageVersion getLanguageVersionFromExtension(String filename) {
         if (filename.indexOf('.') > 0) {
             String[] tokens = filename.split("\\.");
-            return extensionsToLanguage.get(tokens[tokens.length - 1]);
+            return extensionsToLanguage().get(tokens[tokens.length - 1]);
         }
         return null;
     }
 
+
+    /**
+     * Loads the language modules and computes the lookup tables of this
+     * class. This is thread-safe and may be called in the background
+     * during startup, so that the first lookups on the FX thread are cheap.
+     */
+    public static void warmUp() {
+        getSupportedLanguageVersions();
+        extensionsToLanguage();
+    }
+
     private static boolean filterLanguageVersion(LanguageVersion lv) {
         return !StringUtils.containsIgnoreCase(lv.getLanguage().getName(), "dummy");
     }
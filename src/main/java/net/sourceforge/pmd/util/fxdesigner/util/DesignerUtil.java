@@ -10,10 +10,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executors;
@@ -33,14 +31,12 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.reactfx.Subscription;
 import org.reactfx.value.Var;
 
-import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.lang.rule.xpath.Attribute;
-import net.sourceforge.pmd.lang.symboltable.NameDeclaration;
-import net.sourceforge.pmd.lang.symboltable.NameOccurrence;
-import net.sourceforge.pmd.lang.symboltable.Scope;
 import net.sourceforge.pmd.lang.symboltable.ScopedNode;
 import net.sourceforge.pmd.util.designerbindings.RelatedNodesSelector;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics.CacheCounters;
+import net.sourceforge.pmd.util.fxdesigner.model.SymbolIndex;
 
 import com.sun.javafx.fxml.builder.ProxyBuilder;
 import javafx.beans.property.Property;
@@ -301,46 +297,12 @@ public final class DesignerUtil {
     }
 
 
-    public static RelatedNodesSelector getDefaultRelatedNodesSelector() {
-        return node -> node instanceof ScopedNode ? getNameOccurrences((ScopedNode) node)
+    public static RelatedNodesSelector getDefaultRelatedNodesSelector(CacheCounters indexLookups) {
+        // the usages are indexed once per AST
+        return node -> node instanceof ScopedNode ? SymbolIndex.forAst(node.getRoot(), indexLookups).getUsages(node)
                                                   : Collections.emptyList();
     }
 
-    private static List<Node> getNameOccurrences(ScopedNode node) {
-
-        // For MethodNameDeclaration the scope is the method scope, which is not the scope it is declared
-        // in but the scope it declares! That means that getDeclarations().get(declaration) returns null
-        // and no name occurrences are found. We thus look in the parent, but ultimately the name occurrence
-        // finder is broken since it can't find e.g. the use of a method in another scope. Plus in case of
-        // overloads both overloads are reported to have a usage.
-
-        // Plus this is some serious law of Demeter breaking there...
-
-        Set<NameDeclaration> candidates = new HashSet<>(node.getScope().getDeclarations().keySet());
-
-        Optional.ofNullable(node.getScope().getParent())
-                .map(Scope::getDeclarations)
-                .map(Map::keySet)
-                .ifPresent(candidates::addAll);
-
-        return candidates.stream()
-                         .filter(nd -> node.equals(nd.getNode()))
-                         .findFirst()
-                         .map(nd -> {
-                             // nd.getScope() != nd.getNode().getScope()?? wtf?
-
-                             List<NameOccurrence> usages = nd.getNode().getScope().getDeclarations().get(nd);
-
-                             if (usages == null) {
-                                 usages = nd.getNode().getScope().getParent().getDeclarations().get(nd);
-                             }
-
-                             return usages;
-                         })
-                         .map(it -> it.stream().<Node>map(NameOccurrence::getLocation).collect(Collectors.toList()))
-                         .orElse(Collections.emptyList());
-    }
-
 
     public static Callback<Class<?>, Object> controllerFactoryKnowing(Object... controllers) {
         return type -> {
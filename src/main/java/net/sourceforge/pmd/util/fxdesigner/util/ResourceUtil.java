@@ -209,4 +209,19 @@ public final class ResourceUtil {
             throw new UncheckedIOException(e);
         }
     }
+
+
+    /**
+     * Reads a whole file. The bytes are decoded straight into the string,
+     * without the intermediate char buffers of a reader. Malformed input
+     * is replaced. Files bigger than 2GB cannot be read this way.
+     *
+     * @throws IOException If the file cannot be read, or is too big
+     */
+    public static String readFile(Path path, Charset charset) throws IOException {
+        if (Files.size(path) > Integer.MAX_VALUE) {
+            throw new IOException("File is too big to be loaded: " + path);
+        }
+        return new String(Files.readAllBytes(path), charset);
+    }
 }
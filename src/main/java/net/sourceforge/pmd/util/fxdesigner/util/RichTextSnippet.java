@@ -0,0 +1,59 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util;
+
+import java.util.Collection;
+
+import org.fxmisc.richtext.model.StyleSpans;
+
+
+/**
+ * Immutable copy of the beginning of some rich text, limited to its
+ * first line. Used to display a node in a list, without keeping a copy
+ * of its whole rich text.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class RichTextSnippet {
+
+    private final String text;
+    private final StyleSpans<Collection<String>> styleSpans;
+    private final boolean truncated;
+
+
+    /**
+     * @param text       Text of the snippet
+     * @param styleSpans Styles of the text, with the same length
+     * @param truncated  Whether the original text is longer than the snippet
+     */
+    public RichTextSnippet(String text, StyleSpans<Collection<String>> styleSpans, boolean truncated) {
+        this.text = text;
+        this.styleSpans = styleSpans;
+        this.truncated = truncated;
+    }
+
+
+    public String getText() {
+        return text;
+    }
+
+
+    public StyleSpans<Collection<String>> getStyleSpans() {
+        return styleSpans;
+    }
+
+
+    /** Whether the original text is longer than the snippet, eg because it spans several lines. */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+
+    @Override
+    public String toString() {
+        return truncated ? text + "..." : text;
+    }
+}
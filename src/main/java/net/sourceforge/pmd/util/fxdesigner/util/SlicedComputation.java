@@ -0,0 +1,87 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import javafx.application.Platform;
+
+
+/**
+ * Runs a computation on the FX thread, in steps. Steps are run until
+ * a slice of time has elapsed, then the rest is scheduled for a later
+ * pulse, so that the UI stays responsive. This is how work that reads
+ * an AST stays off the FX thread's critical path without reading the
+ * AST from another thread: PMD ASTs compute some of their state lazily,
+ * and are not thread-safe.
+ *
+ * <p>A step should do a bounded amount of work, eg process a single
+ * node, as a slice can't be interrupted in the middle of a step.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class SlicedComputation implements Runnable {
+
+    /** Time the FX thread may spend in a single slice. */
+    private static final long SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+    private final BooleanSupplier step;
+    private final Consumer<? super Throwable> errorHandler;
+    private boolean done;
+
+
+    private SlicedComputation(BooleanSupplier step, Consumer<? super Throwable> errorHandler) {
+        this.step = step;
+        this.errorHandler = errorHandler;
+    }
+
+
+    /**
+     * Starts a computation. Its first slice is run immediately, so this
+     * must be called on the FX thread.
+     *
+     * @param step         Runs one step, returns false when there are no more steps
+     * @param errorHandler Called if a step fails, the computation stops
+     */
+    public static SlicedComputation start(BooleanSupplier step, Consumer<? super Throwable> errorHandler) {
+        SlicedComputation computation = new SlicedComputation(step, errorHandler);
+        computation.run();
+        return computation;
+    }
+
+
+    @Override
+    public void run() {
+        long end = System.nanoTime() + SLICE_NANOS;
+        try {
+            while (!done) {
+                if (!step.getAsBoolean()) {
+                    done = true;
+                } else if (System.nanoTime() > end) {
+                    Platform.runLater(this);
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            done = true;
+            errorHandler.accept(e);
+        }
+    }
+
+
+    /** Whether the computation is over, because it completed, failed, or was cancelled. */
+    public boolean isDone() {
+        return done;
+    }
+
+
+    /** Stops the computation, no more steps are run. */
+    public void cancel() {
+        done = true;
+    }
+}
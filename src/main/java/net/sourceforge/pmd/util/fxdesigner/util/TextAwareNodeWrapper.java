@@ -26,6 +26,14 @@ public interface TextAwareNodeWrapper {
     StyledDocument<Collection<String>, String, Collection<String>> getNodeRichText();
 
 
+    /**
+     * Gets the first line of the rich text of the node. This is cheaper
+     * than {@link #getNodeRichText()}, and cached until the code area
+     * changes, so it's what list cells should use.
+     */
+    RichTextSnippet getNodeSnippet();
+
+
     /**
      * Gets the text corresponding to the node in the code area.
      */
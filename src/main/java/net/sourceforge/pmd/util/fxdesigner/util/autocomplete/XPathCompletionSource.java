@@ -5,8 +5,8 @@
 package net.sourceforge.pmd.util.fxdesigner.util.autocomplete;
 
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -28,7 +28,7 @@ public final class XPathCompletionSource implements CompletionResultSource {
             // shorter results are displayed first when there's a tie
             .thenComparing(MatchResult::getStringMatch, Comparator.comparing(String::length));
     // if we don't cache them the classpath exploration is done on each character typed
-    private static final Map<Language, XPathCompletionSource> BY_LANGUAGE = new HashMap<>();
+    private static final Map<Language, XPathCompletionSource> BY_LANGUAGE = new ConcurrentHashMap<>();
     private final NodeNameFinder myNameFinder;
 
     private XPathCompletionSource(NodeNameFinder nodeNameFinder) {
@@ -0,0 +1,195 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsPersistenceUtil.PersistentProperty;
+import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsPersistenceUtil.PersistentSequence;
+
+
+/**
+ * Precomputed accessors for the persistent properties of a
+ * {@link SettingsOwner} class. Introspection and method handle
+ * resolution happen once per class, so that restoring or saving
+ * many instances of the same type (eg one per test case) doesn't
+ * go through {@link java.beans.Introspector} and reflective calls
+ * each time.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+final class PersistentAccessorTable {
+
+    private static final ClassValue<PersistentAccessorTable> TABLES = new ClassValue<PersistentAccessorTable>() {
+        @Override
+        protected PersistentAccessorTable computeValue(Class<?> type) {
+            return new PersistentAccessorTable(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<?> type;
+    private final Map<String, PropertyAccessor> properties;
+    private final Map<String, PropertyAccessor> sequences;
+    private final @Nullable MethodHandle constructor;
+
+
+    private PersistentAccessorTable(Class<?> type) {
+        this.type = type;
+        Lookup lookup = MethodHandles.lookup();
+
+        Map<String, PropertyAccessor> props = new LinkedHashMap<>();
+        Map<String, PropertyAccessor> seqs = new LinkedHashMap<>();
+
+        for (PropertyDescriptor d : PropertyUtils.getPropertyDescriptors(type).values()) {
+            Method getter = d.getReadMethod();
+            if (getter == null) {
+                continue;
+            }
+
+            try {
+                if (getter.isAnnotationPresent(PersistentSequence.class)) {
+                    if (Collection.class.isAssignableFrom(getter.getReturnType())) {
+                        seqs.put(d.getName(), new PropertyAccessor(d.getName(), getter.getGenericReturnType(), adapt(lookup, getter, GETTER_TYPE), null));
+                    }
+                } else if (getter.isAnnotationPresent(PersistentProperty.class)) {
+                    Method setter = d.getWriteMethod();
+                    MethodHandle setterHandle = setter == null ? null : adapt(lookup, setter, SETTER_TYPE);
+                    props.put(d.getName(), new PropertyAccessor(d.getName(), getter.getGenericReturnType(), adapt(lookup, getter, GETTER_TYPE), setterHandle));
+                }
+            } catch (IllegalAccessException e) {
+                // the getter is not public, this is a programming error
+                throw new IllegalStateException("Cannot access persistent property " + d.getName() + " on " + type, e);
+            }
+        }
+
+        this.properties = Collections.unmodifiableMap(props);
+        this.sequences = Collections.unmodifiableMap(seqs);
+
+        MethodHandle ctor;
+        try {
+            ctor = lookup.findConstructor(type, MethodType.methodType(void.class)).asType(CTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            ctor = null; // not all settings owners are instantiated by the persistence framework
+        }
+        this.constructor = ctor;
+    }
+
+
+    /** Persistent properties, in declaration order of the bean info. */
+    Map<String, PropertyAccessor> getProperties() {
+        return properties;
+    }
+
+
+    /** Persistent sequences, in declaration order of the bean info. */
+    Map<String, PropertyAccessor> getSequences() {
+        return sequences;
+    }
+
+
+    /**
+     * Creates a new instance of the type using its no-arg constructor.
+     *
+     * @throws InstantiationException If there is no such constructor or it fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    Object newInstance() throws InstantiationException {
+        if (constructor == null) {
+            throw new InstantiationException("No accessible no-arg constructor on " + type);
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            InstantiationException ex = new InstantiationException("Cannot instantiate " + type);
+            ex.initCause(e);
+            throw ex;
+        }
+    }
+
+
+    private static MethodHandle adapt(Lookup lookup, Method method, MethodType erased) throws IllegalAccessException {
+        return lookup.unreflect(method).asType(erased);
+    }
+
+
+    /**
+     * Returns the table for the given settings owner class.
+     *
+     * @throws IllegalStateException If an accessor of a persistent property is not accessible
+     */
+    static PersistentAccessorTable forClass(Class<?> type) {
+        return TABLES.get(type);
+    }
+
+
+    /** Accessors for a single property. */
+    static final class PropertyAccessor {
+
+        private final String name;
+        private final Type type;
+        private final MethodHandle getter;
+        private final @Nullable MethodHandle setter;
+
+
+        PropertyAccessor(String name, Type type, MethodHandle getter, @Nullable MethodHandle setter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+
+        String getName() {
+            return name;
+        }
+
+
+        /** Generic type of the getter. */
+        Type getType() {
+            return type;
+        }
+
+
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        Object get(Object target) throws InvocationTargetException {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e, "Error getting property " + name);
+            }
+        }
+
+
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        void set(Object target, Object value) throws InvocationTargetException {
+            if (setter == null) {
+                throw new InvocationTargetException(null, "No setter for property " + name);
+            }
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e, "Error setting property " + name);
+            }
+        }
+    }
+}
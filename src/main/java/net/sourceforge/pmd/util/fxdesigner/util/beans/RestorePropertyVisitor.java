@@ -4,27 +4,42 @@
 
 package net.sourceforge.pmd.util.fxdesigner.util.beans;
 
-import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
-import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsPersistenceUtil.PersistentProperty;
+import net.sourceforge.pmd.util.fxdesigner.util.beans.PersistentAccessorTable.PropertyAccessor;
 
 
 /**
  * Visits a bean model and restores the properties described by the nodes
- * into their respective settings owner.
+ * into their respective settings owner. Errors are reported to a handler,
+ * and don't stop the restoration of the other properties.
  *
  * @author Clément Fournier
  * @since 6.1.0
  */
 public class RestorePropertyVisitor extends BeanNodeVisitor<SettingsOwner> {
 
+    private final Consumer<? super Exception> errorHandler;
+
+
+    public RestorePropertyVisitor() {
+        this(Throwable::printStackTrace);
+    }
+
+
+    /**
+     * @param errorHandler Called with the errors that occur while restoring a property
+     */
+    public RestorePropertyVisitor(Consumer<? super Exception> errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
 
     @Override
     public void visit(SimpleBeanModelNode model, SettingsOwner target) {
@@ -41,19 +56,16 @@ public class RestorePropertyVisitor extends BeanNodeVisitor<SettingsOwner> {
                                                        + model.getNodeType() + ", actual " + target.getClass());
         }
 
-        Map<String, PropertyDescriptor> descriptors = PropertyUtils.getPropertyDescriptors(target)
-                                                                   .values().stream()
-                                                                   .filter(d -> d.getReadMethod() != null
-                                                                       && d.getReadMethod().isAnnotationPresent(PersistentProperty.class))
-                                                                   .collect(Collectors.toMap(PropertyDescriptor::getName, d -> d));
+        Map<String, PropertyAccessor> accessors = PersistentAccessorTable.forClass(target.getClass()).getProperties();
 
         for (Entry<String, Object> saved : model.getSettingsValues().entrySet()) {
-            if (descriptors.containsKey(saved.getKey())) {
+            PropertyAccessor accessor = accessors.get(saved.getKey());
+            if (accessor != null) {
                 try {
-                    PropertyUtils.setProperty(target, saved.getKey(), saved.getValue());
+                    accessor.set(target, saved.getValue());
                 } catch (Exception e) {
-                    new RuntimeException("Error setting property " + saved.getKey() + " on a "
-                                             + target.getClass().getSimpleName(), e).printStackTrace();
+                    errorHandler.accept(new RuntimeException("Error setting property " + saved.getKey() + " on a "
+                                                                 + target.getClass().getSimpleName(), e));
                 }
             }
         }
@@ -81,22 +93,29 @@ public class RestorePropertyVisitor extends BeanNodeVisitor<SettingsOwner> {
             throw new IllegalArgumentException();
         }
 
+        PropertyAccessor accessor = PersistentAccessorTable.forClass(target.getClass()).getSequences().get(model.getPropertyName());
+        if (accessor == null) {
+            errorHandler.accept(new IllegalArgumentException("No persistent sequence named '" + model.getPropertyName()
+                                                                 + "' on object of type " + target.getClass()));
+            return;
+        }
+
         Collection<SettingsOwner> container;
         try {
             @SuppressWarnings("unchecked")
-            Collection<SettingsOwner> tmp = (Collection<SettingsOwner>) PropertyUtils.getProperty(target, model.getPropertyName());
+            Collection<SettingsOwner> tmp = (Collection<SettingsOwner>) accessor.get(target);
             container = tmp;
             if (container == null) {
                 throw new RuntimeException("Null container");
             }
         } catch (Exception e) {
-            new RuntimeException("Cannot fetch container for persistent sequence " + model.getPropertyName(), e).printStackTrace();
+            errorHandler.accept(new RuntimeException("Cannot fetch container for persistent sequence " + model.getPropertyName(), e));
             return;
         }
 
 
         Iterator<SettingsOwner> existingItems = container.iterator();
-        Class<?> itemType = null;
+        PersistentAccessorTable itemTable = null;
         // use a buffer to avoid concurrent modification
         List<SettingsOwner> itemsToAdd = new ArrayList<>();
 
@@ -105,14 +124,14 @@ public class RestorePropertyVisitor extends BeanNodeVisitor<SettingsOwner> {
             if (existingItems.hasNext()) {
                 item = existingItems.next();
             } else {
-                if (itemType == null) {
-                    itemType = child.getNodeType();
+                if (itemTable == null) {
+                    itemTable = PersistentAccessorTable.forClass(child.getNodeType());
                 }
 
                 try {
-                    item = (SettingsOwner) itemType.newInstance();
-                } catch (InstantiationException | IllegalAccessException e) {
-                    e.printStackTrace();
+                    item = (SettingsOwner) itemTable.newInstance();
+                } catch (InstantiationException e) {
+                    errorHandler.accept(e);
                     continue; // try hard
                 }
             }
@@ -4,9 +4,6 @@
 
 package net.sourceforge.pmd.util.fxdesigner.util.beans;
 
-import static net.sourceforge.pmd.util.fxdesigner.util.beans.PropertyUtils.getPropertyDescriptors;
-
-import java.beans.PropertyDescriptor;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -23,6 +20,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.function.Consumer;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -37,6 +35,7 @@ import net.sourceforge.pmd.lang.document.TextRegion;
 import net.sourceforge.pmd.lang.rule.RulePriority;
 import net.sourceforge.pmd.properties.internal.PropertyTypeId;
 import net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry;
+import net.sourceforge.pmd.util.fxdesigner.util.beans.PersistentAccessorTable.PropertyAccessor;
 import net.sourceforge.pmd.util.fxdesigner.util.beans.converters.Serializer;
 import net.sourceforge.pmd.util.fxdesigner.util.beans.converters.SerializerRegistrar;
 
@@ -105,12 +104,37 @@ public final class SettingsPersistenceUtil {
      * @param file Properties file
      */
     public static void restoreProperties(SettingsOwner root, File file) {
-        Optional<Document> odoc = getDocument(file);
+        readDocument(file).ifPresent(doc -> restoreProperties(root, doc));
+    }
 
-        odoc.flatMap(XmlFormatRevision::getSuitableReader)
-            .map(rev -> rev.xmlInterface)
-            .flatMap(xmlInterface -> odoc.flatMap(xmlInterface::parseXml))
-            .ifPresent(n -> restoreSettings(root, n));
+
+    /**
+     * Restores properties contained in the document into the given object.
+     * The document may have been parsed beforehand with {@link #readDocument(File)},
+     * eg on another thread.
+     *
+     * @param root     Root of the hierarchy
+     * @param document Parsed settings file
+     */
+    public static void restoreProperties(SettingsOwner root, Document document) {
+        restoreProperties(root, document, Throwable::printStackTrace);
+    }
+
+
+    /**
+     * Restores properties contained in the document into the given object.
+     * The errors that occur while restoring a property are reported to the
+     * handler, the other properties are still restored.
+     *
+     * @param root         Root of the hierarchy
+     * @param document     Parsed settings file
+     * @param errorHandler Handler for the errors
+     */
+    public static void restoreProperties(SettingsOwner root, Document document, Consumer<? super Exception> errorHandler) {
+        XmlFormatRevision.getSuitableReader(document)
+                         .map(rev -> rev.xmlInterface)
+                         .flatMap(xmlInterface -> xmlInterface.parseXml(document))
+                         .ifPresent(n -> restoreSettings(root, n, errorHandler));
     }
 
 
@@ -128,10 +152,11 @@ public final class SettingsPersistenceUtil {
 
     /**
      * Returns an XML document for the given file if it exists and can be parsed.
+     * This doesn't touch any settings owner and may be called on any thread.
      *
      * @param file File to parse
      */
-    private static Optional<Document> getDocument(File file) {
+    public static Optional<Document> readDocument(File file) {
         if (file.exists()) {
             try (InputStream stream = Files.newInputStream(file.toPath())) {
                 DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
@@ -157,37 +182,34 @@ public final class SettingsPersistenceUtil {
     // test only
     static SimpleBeanModelNode buildSettingsModel(SettingsOwner root) {
         SimpleBeanModelNode node = new SimpleBeanModelNode(root.getClass());
+        PersistentAccessorTable table = PersistentAccessorTable.forClass(root.getClass());
 
-        for (PropertyDescriptor d : getPropertyDescriptors(root).values()) {
-            if (d.getReadMethod() == null) {
-                continue;
-            }
-
+        for (PropertyAccessor seqAccessor : table.getSequences().values()) {
             try {
-                if (d.getReadMethod().isAnnotationPresent(PersistentSequence.class)) {
-
-                    Object val = d.getReadMethod().invoke(root);
-                    if (!Collection.class.isAssignableFrom(val.getClass())) {
-                        continue;
-                    }
-
-                    @SuppressWarnings("unchecked")
-                    Collection<SettingsOwner> values = (Collection<SettingsOwner>) val;
-
-                    BeanModelNodeSeq<SimpleBeanModelNode> seq = new BeanModelNodeSeq<>(d.getName());
+                @SuppressWarnings("unchecked")
+                Collection<SettingsOwner> values = (Collection<SettingsOwner>) seqAccessor.get(root);
+                if (values == null) {
+                    continue;
+                }
 
-                    for (SettingsOwner item : values) {
-                        seq.addChild(buildSettingsModel(item));
-                    }
+                BeanModelNodeSeq<SimpleBeanModelNode> seq = new BeanModelNodeSeq<>(seqAccessor.getName());
 
-                    node.addChild(seq);
-                } else if (d.getReadMethod().isAnnotationPresent(PersistentProperty.class)) {
-                    node.addProperty(d.getName(), d.getReadMethod().invoke(root), d.getReadMethod().getGenericReturnType());
+                for (SettingsOwner item : values) {
+                    seq.addChild(buildSettingsModel(item));
                 }
-            } catch (IllegalAccessException | InvocationTargetException e) {
+
+                node.addChild(seq);
+            } catch (InvocationTargetException e) {
                 e.printStackTrace();
             }
+        }
 
+        for (PropertyAccessor accessor : table.getProperties().values()) {
+            try {
+                node.addProperty(accessor.getName(), accessor.get(root), accessor.getType());
+            } catch (InvocationTargetException e) {
+                e.printStackTrace();
+            }
         }
 
         for (SettingsOwner child : root.getChildrenSettingsNodes()) {
@@ -208,6 +230,11 @@ public final class SettingsPersistenceUtil {
      */
     // test only
     static void restoreSettings(SettingsOwner target, BeanModelNode model) {
+        restoreSettings(target, model, Throwable::printStackTrace);
+    }
+
+
+    private static void restoreSettings(SettingsOwner target, BeanModelNode model, Consumer<? super Exception> errorHandler) {
         if (model == null) {
             return; // possibly it wasn't saved during the previous save cycle
         }
@@ -216,7 +243,7 @@ public final class SettingsPersistenceUtil {
             throw new IllegalArgumentException();
         }
 
-        model.accept(new RestorePropertyVisitor(), target);
+        model.accept(new RestorePropertyVisitor(errorHandler), target);
     }
 
 
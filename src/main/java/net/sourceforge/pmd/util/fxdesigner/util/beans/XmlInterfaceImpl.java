@@ -9,7 +9,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -43,6 +46,7 @@ public class XmlInterfaceImpl extends XmlInterface {
     }
 
     private final Serializer<TypedObject<?>> serializer = SerializerRegistrar.getInstance().compositeSerializer();
+    private final Map<String, Optional<Class<?>>> resolvedClasses = new ConcurrentHashMap<>();
 
 
     private List<Element> getChildrenByTagName(Element element, String tagName) {
@@ -58,12 +62,27 @@ public class XmlInterfaceImpl extends XmlInterface {
     }
 
 
+    /**
+     * Resolves the settings owner class of a node element. The same
+     * few class names are repeated for every tab and test case, so
+     * lookups are memoized, including failed ones.
+     */
+    private @Nullable Class<?> resolveNodeClass(Element nodeElement) {
+        String name = nodeElement.getAttribute(SCHEMA_NODE_CLASS_ATTRIBUTE);
+        return resolvedClasses.computeIfAbsent(name, n -> {
+            try {
+                return Optional.of(Class.forName(n));
+            } catch (ClassNotFoundException e) {
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+
     @Override
     protected SimpleBeanModelNode parseSettingsOwnerNode(Element nodeElement) {
-        Class<?> clazz;
-        try {
-            clazz = Class.forName(nodeElement.getAttribute(SCHEMA_NODE_CLASS_ATTRIBUTE));
-        } catch (ClassNotFoundException e) {
+        Class<?> clazz = resolveNodeClass(nodeElement);
+        if (clazz == null) {
             return null;
         }
 
@@ -74,13 +93,11 @@ public class XmlInterfaceImpl extends XmlInterface {
         }
 
         for (Element child : getChildrenByTagName(nodeElement, SCHEMA_NODE_ELEMENT)) {
-            try {
-                Class<?> childType = Class.forName(child.getAttribute(SCHEMA_NODE_CLASS_ATTRIBUTE));
-                if (node.getChildrenByType().get(childType) == null) { // FIXME
-                    node.addChild(parseSettingsOwnerNode(child));
-                }
-            } catch (ClassNotFoundException e) {
+            Class<?> childType = resolveNodeClass(child);
+            if (childType == null) {
                 System.out.println("Ignoring unknown settings node of type " + child.getAttribute(SCHEMA_NODE_CLASS_ATTRIBUTE));
+            } else if (node.getChildrenByType().get(childType) == null) { // FIXME
+                node.addChild(parseSettingsOwnerNode(child));
             }
         }
 
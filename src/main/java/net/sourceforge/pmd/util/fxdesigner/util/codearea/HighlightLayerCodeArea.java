@@ -34,16 +34,24 @@ import javafx.scene.control.IndexRange;
  * in addition to syntax highlighting. Layers are identified by a {@link LayerId},
  * which are listed in an enum.
  *
+ * <p>In large-file mode, only the text around the viewport is restyled,
+ * and layers that contain too many nodes are not displayed.
+ *
  * @param <K> Enum type listing the layer ids to use
  * @author Clément Fournier
  * @since 6.5.0
  */
 public class HighlightLayerCodeArea<K extends Enum<K> & LayerId> extends SyntaxHighlightingCodeArea {
 
+    /** Default max number of nodes a layer may have to be displayed in large-file mode. */
+    public static final int DEFAULT_MAX_LARGE_FILE_LAYER_SIZE = 2000;
+
 
     /** Contains the highlighting layers. */
     private final Map<K, StyleLayer> layersById;
 
+    private int maxLargeFileLayerSize = DEFAULT_MAX_LARGE_FILE_LAYER_SIZE;
+
 
     /**
      * Builds a new code area with the given enum type as layer id provider.
@@ -58,6 +66,18 @@ public class HighlightLayerCodeArea<K extends Enum<K> & LayerId> extends SyntaxH
         this.layersById = EnumSet.allOf(idEnum)
                                  .stream()
                                  .collect(Collectors.toConcurrentMap(id -> id, id -> new StyleLayer()));
+
+        // restyle the new viewport when scrolling in large-file mode
+        viewportEscapes().subscribe(e -> updateStyling(() -> { }));
+    }
+
+
+    /**
+     * Sets the max number of nodes a layer may have to be displayed
+     * in large-file mode. Bigger layers are too expensive to overlay.
+     */
+    public void setMaxLargeFileLayerSize(int maxLargeFileLayerSize) {
+        this.maxLargeFileLayerSize = maxLargeFileLayerSize;
     }
 
 
@@ -107,7 +127,8 @@ public class HighlightLayerCodeArea<K extends Enum<K> & LayerId> extends SyntaxH
         Platform.runLater(() -> {
             update.run();
             try {
-                this.setStyleSpans(0, recomputePainting());
+                IndexRange range = paintedRange();
+                restyle(range.getStart(), () -> recomputePainting(range));
             } catch (Exception e) {
                 // we ignore these particular exceptions because they're
                 // commonly thrown when the text is being edited while
@@ -145,19 +166,24 @@ public class HighlightLayerCodeArea<K extends Enum<K> & LayerId> extends SyntaxH
 
     /**
      * Recomputes a single style spans from the syntax highlighting layer and nodes to highlight.
+     * The result covers the given range of text.
      */
-    private StyleSpans<Collection<String>> recomputePainting() {
+    private StyleSpans<Collection<String>> recomputePainting(IndexRange range) {
 
+        boolean largeFile = isLargeFileMode();
         List<StyleSpans<Collection<String>>> allSpans = layersById.values().stream()
                                                                   .flatMap(layer -> layer.getCollections().stream())
                                                                   .filter(c -> !c.isEmpty())
+                                                                  .filter(c -> !largeFile || c.size() <= maxLargeFileLayerSize)
                                                                   .map(UniformStyleCollection::toSpans)
+                                                                  .filter(spans -> spans.length() <= getLength())
+                                                                  .map(spans -> viewOf(spans, range))
                                                                   .collect(Collectors.toList());
 
         ensureSyntaxUpToDate();
 
         if (allSpans.isEmpty()) {
-            return syntaxHighlight.getOrElse(emptySpan());
+            return viewOf(syntaxHighlight.getOrElse(emptySpan()), range);
         }
 
         if (syntaxHighlight.getOpt().map(StyleSpans::length).filter(l -> l != getLength()).isPresent()) {
@@ -169,13 +195,12 @@ public class HighlightLayerCodeArea<K extends Enum<K> & LayerId> extends SyntaxH
             updateSyntaxHighlightingSynchronously();
         }
 
-        syntaxHighlight.ifPresent(allSpans::add);
+        syntaxHighlight.ifPresent(spans -> allSpans.add(viewOf(spans, range)));
 
         final StyleSpans<Collection<String>> base = allSpans.get(0);
 
         return allSpans.stream()
                        .filter(spans -> !base.equals(spans))
-                       .filter(spans -> spans.length() <= getLength())
                        .reduce(base, (accumulator, elt) -> accumulator.overlay(elt, SyntaxHighlightingCodeArea::additiveOverlay));
 
 
@@ -189,16 +214,17 @@ public class HighlightLayerCodeArea<K extends Enum<K> & LayerId> extends SyntaxH
      */
     @Override
     @NonNull
-    protected final StyleSpans<Collection<String>> styleSyntaxHighlightChange(final @Nullable StyleSpans<Collection<String>> oldSyntax,
+    protected final StyleSpans<Collection<String>> styleSyntaxHighlightChange(final IndexRange range,
+                                                                              final @Nullable StyleSpans<Collection<String>> oldSyntax,
                                                                               final @Nullable StyleSpans<Collection<String>> newSyntax) {
 
-        StyleSpans<Collection<String>> currentSpans = getStyleSpans(new IndexRange(0, getLength()));
-        StyleSpans<Collection<String>> base = Optional.ofNullable(oldSyntax).map(s -> subtract(currentSpans, s)).orElse(currentSpans);
+        StyleSpans<Collection<String>> currentSpans = getStyleSpans(range);
+        StyleSpans<Collection<String>> base = Optional.ofNullable(oldSyntax).map(s -> subtract(currentSpans, viewOf(s, range))).orElse(currentSpans);
 
         return Optional.ofNullable(newSyntax)
-                       .map(s -> base.overlay(s, SyntaxHighlightingCodeArea::additiveOverlay))
+                       .map(s -> base.overlay(viewOf(s, range), SyntaxHighlightingCodeArea::additiveOverlay))
                        .orElse(base)
-                       .subView(0, getLength());
+                       .subView(0, range.getLength());
     }
 
 
@@ -9,6 +9,7 @@ import static net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil.setOf;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -35,6 +36,11 @@ public abstract class LexerBasedHighlighter implements SyntaxHighlighter {
 
     @Override
     public StyleSpans<Collection<String>> computeHighlighting(String text) {
+        if (text.isEmpty()) {
+            // the builder refuses to create empty spans
+            return StyleSpans.singleton(Collections.emptySet(), 0);
+        }
+
         StyleSpansBuilder<Collection<String>> builder = new StyleSpansBuilder<>();
 
         JflexLexer lexer = newLexer(text, setOf(languageName, "code"));
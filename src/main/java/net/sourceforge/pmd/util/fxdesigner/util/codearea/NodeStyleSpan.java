@@ -11,6 +11,7 @@ import org.fxmisc.richtext.model.StyledDocument;
 
 import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.lang.document.TextRegion;
+import net.sourceforge.pmd.util.fxdesigner.util.RichTextSnippet;
 import net.sourceforge.pmd.util.fxdesigner.util.TextAwareNodeWrapper;
 
 
@@ -24,7 +25,10 @@ import net.sourceforge.pmd.util.fxdesigner.util.TextAwareNodeWrapper;
  */
 final class NodeStyleSpan {
 
-    private static final Comparator<NodeStyleSpan> COMPARATOR = Comparator.comparing(NodeStyleSpan::getNode, Comparator.comparingInt(Node::getBeginLine).thenComparing(Node::getBeginColumn));
+    private static final Comparator<NodeStyleSpan> COMPARATOR =
+        Comparator.comparing(NodeStyleSpan::getNode,
+                             Comparator.<Node>comparingInt(n -> n.getTextRegion().getStartOffset())
+                                       .thenComparing(Comparator.<Node>comparingInt(n -> n.getTextRegion().getEndOffset()).reversed()));
     private final Node node;
     private final SyntaxHighlightingCodeArea codeArea;
 
@@ -66,7 +70,8 @@ final class NodeStyleSpan {
 
     /**
      * Returns a comparator that orders spans according to the start
-     * index of the node they wrap.
+     * index of the node they wrap. Spans that start at the same index
+     * are ordered by decreasing length.
      */
     public static Comparator<NodeStyleSpan> documentOrderComparator() {
         return COMPARATOR;
@@ -114,6 +119,12 @@ final class NodeStyleSpan {
         }
 
 
+        @Override
+        public RichTextSnippet getNodeSnippet() {
+            return codeArea.getSnippet(beginIndex, endIndex);
+        }
+
+
         int getBeginIndex() {
             return beginIndex;
         }
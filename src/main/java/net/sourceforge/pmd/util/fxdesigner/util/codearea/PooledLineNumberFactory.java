@@ -0,0 +1,128 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util.codearea;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+
+import org.fxmisc.richtext.GenericStyledArea;
+
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+
+
+/**
+ * Line number factory that recycles its labels. The labels don't
+ * subscribe to anything, so they're cheap to create, and labels that
+ * are scrolled out of the viewport are reused for the next paragraphs
+ * that are displayed.
+ *
+ * <p>The state of the labels (eg pseudo-classes) is set by a decorator,
+ * which the owner of the factory calls again through {@link #redecorate(int, int)}
+ * for the lines whose state has changed. Only the labels that are shown
+ * are updated.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class PooledLineNumberFactory implements IntFunction<javafx.scene.Node> {
+
+    private static final Insets DEFAULT_INSETS = new Insets(0.0, 5.0, 0.0, 5.0);
+    /** Max number of unused labels that are kept around. */
+    private static final int MAX_POOL_SIZE = 256;
+
+    private final GenericStyledArea<?, ?, ?> area;
+    private final ObjIntConsumer<Label> decorator;
+    private final Deque<Label> pool = new ArrayDeque<>();
+    /** Labels that are displayed, by paragraph index. */
+    private final Map<Integer, Label> shown = new HashMap<>();
+
+
+    /**
+     * @param area      Area whose paragraphs are numbered
+     * @param decorator Updates the state of a label, given the index of its paragraph
+     */
+    public PooledLineNumberFactory(GenericStyledArea<?, ?, ?> area, ObjIntConsumer<Label> decorator) {
+        this.area = area;
+        this.decorator = decorator;
+    }
+
+
+    public PooledLineNumberFactory(GenericStyledArea<?, ?, ?> area) {
+        this(area, (label, idx) -> { });
+    }
+
+
+    @Override
+    public javafx.scene.Node apply(int idx) {
+        Label label = pool.poll();
+        if (label == null) {
+            label = newLabel();
+        }
+
+        int digits = Math.max(1, (int) Math.log10(area.getParagraphs().size()) + 1);
+        label.setText(String.format("%" + digits + "d", idx + 1));
+        label.setUserData(idx);
+        shown.put(idx, label);
+        decorator.accept(label, idx);
+        return label;
+    }
+
+
+    /**
+     * Updates the labels of the paragraphs in the given range (inclusive),
+     * if they're displayed.
+     */
+    public void redecorate(int fromIdx, int toIdx) {
+        if (toIdx < fromIdx) {
+            return;
+        }
+        if (toIdx - fromIdx >= shown.size()) {
+            // cheaper to go through the labels
+            shown.forEach((idx, label) -> {
+                if (idx >= fromIdx && idx <= toIdx) {
+                    decorator.accept(label, idx);
+                }
+            });
+        } else {
+            for (int i = fromIdx; i <= toIdx; i++) {
+                Label label = shown.get(i);
+                if (label != null) {
+                    decorator.accept(label, i);
+                }
+            }
+        }
+    }
+
+
+    /** Updates all the labels that are displayed. */
+    public void redecorateAll() {
+        shown.forEach((idx, label) -> decorator.accept(label, idx));
+    }
+
+
+    private Label newLabel() {
+        Label label = new Label();
+        label.setPadding(DEFAULT_INSETS);
+        label.getStyleClass().add("lineno");
+        // the label is free once its paragraph is removed from the viewport
+        label.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null && newScene == null) {
+                shown.remove(label.getUserData(), label);
+                if (pool.size() < MAX_POOL_SIZE) {
+                    pool.push(label);
+                }
+            } else if (newScene != null && pool.remove(label)) {
+                // eg the whole area was detached then reattached
+                shown.put((Integer) label.getUserData(), label);
+            }
+        });
+        return label;
+    }
+}
@@ -8,15 +8,24 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.fxmisc.richtext.CodeArea;
+import org.fxmisc.richtext.model.StyleSpan;
 import org.fxmisc.richtext.model.StyleSpans;
+import org.fxmisc.richtext.model.StyleSpansBuilder;
+import org.fxmisc.richtext.model.TwoDimensional.Bias;
+import org.fxmisc.richtext.model.TwoDimensional.Position;
 import org.fxmisc.wellbehaved.event.EventPattern;
 import org.fxmisc.wellbehaved.event.InputMap;
 import org.fxmisc.wellbehaved.event.Nodes;
@@ -27,11 +36,15 @@ import org.reactfx.value.Val;
 import org.reactfx.value.Var;
 
 import net.sourceforge.pmd.lang.ast.Node;
+import net.sourceforge.pmd.util.fxdesigner.util.RichTextSnippet;
 import net.sourceforge.pmd.util.fxdesigner.util.TextAwareNodeWrapper;
+import net.sourceforge.pmd.util.fxdesigner.util.reactfx.AdaptiveDelay;
 
+import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
+import javafx.scene.control.IndexRange;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.stage.WindowEvent;
@@ -43,18 +56,44 @@ import javafx.stage.WindowEvent;
  * {@link #setSyntaxHighlighter(SyntaxHighlighter)}, and disabled by passing a {@code null} reference
  * to that method.
  *
+ * <p>Documents longer than a {@linkplain #largeFileThresholdProperty() threshold} are handled
+ * in large-file mode: only the paragraphs around the viewport are highlighted, and they're
+ * highlighted again when the viewport moves away from them.
+ *
  * @see AvailableSyntaxHighlighters
  * @author Clément Fournier
  * @since 6.0.0
  */
 public class SyntaxHighlightingCodeArea extends CodeArea {
 
-    /** Minimum delay between each code highlighting recomputation. Changes are ignored until then. */
+    /**
+     * Delay between each code highlighting recomputation, until a computation has been
+     * timed. Changes are ignored until then.
+     */
     private static final Duration TEXT_CHANGE_DELAY = Duration.ofMillis(30);
+    private static final Duration MIN_TEXT_CHANGE_DELAY = Duration.ofMillis(10);
+    private static final Duration MAX_TEXT_CHANGE_DELAY = Duration.ofMillis(500);
+
+    /** Documents longer than this many chars are in large-file mode by default. */
+    public static final int DEFAULT_LARGE_FILE_THRESHOLD = 500_000;
+
+    /** Number of paragraphs styled above and below the viewport in large-file mode. */
+    private static final int VIEWPORT_MARGIN = 100;
+
+    /** Delay after which the viewport is restyled when scrolling in large-file mode. */
+    private static final Duration VIEWPORT_CHANGE_DELAY = Duration.ofMillis(50);
+
+    /** Max number of chars of a {@linkplain #getSnippet(int, int) snippet}. */
+    private static final int MAX_SNIPPET_LENGTH = 300;
+    /** Max number of snippets kept in the cache, the least recently used are evicted. */
+    private static final int MAX_CACHED_SNIPPETS = 10_000;
 
     /** Current subscription to syntax highlighting auto-refresh. */
     private final Var<Subscription> syntaxAutoRefresh = Var.newSimpleVar(null);
 
+    /** Adapts to the time the highlighter takes. */
+    private final AdaptiveDelay textChangeDelay = new AdaptiveDelay(TEXT_CHANGE_DELAY, MIN_TEXT_CHANGE_DELAY, MAX_TEXT_CHANGE_DELAY);
+
     /** Current syntax highlighter. Can be absent. */
     private final Var<SyntaxHighlighter> syntaxHighlighter = Var.newSimpleVar(null);
 
@@ -66,6 +105,24 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
 
     private final EventSource<?> synchronousUpdateTicks = new EventSource<>();
 
+    private final EventSource<Long> highlightingTimes = new EventSource<>();
+    private final EventSource<Long> restyleTimes = new EventSource<>();
+    private final EventSource<Boolean> snippetCacheLookups = new EventSource<>();
+
+    private final Var<Integer> largeFileThreshold = Var.newSimpleVar(DEFAULT_LARGE_FILE_THRESHOLD);
+    private final Val<Boolean> largeFileMode = Val.combine(Val.wrap(lengthProperty()), largeFileThreshold, (len, max) -> len > max);
+
+    /** Range of text that was styled last, in large-file mode. */
+    private IndexRange lastPaintedRange = new IndexRange(0, 0);
+
+    /** Snippets by range of text, cleared when the text or its style changes. */
+    private final Map<IndexRange, RichTextSnippet> snippetCache = new LinkedHashMap<IndexRange, RichTextSnippet>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Entry<IndexRange, RichTextSnippet> eldest) {
+            return size() > MAX_CACHED_SNIPPETS;
+        }
+    };
+
     public SyntaxHighlightingCodeArea() {
         // captured in the closure
         final EventHandler<WindowEvent> autoCloseHandler = e -> syntaxAutoRefresh.ifPresent(Subscription::unsubscribe);
@@ -95,6 +152,9 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
         );
 
         Nodes.addInputMap(this, im);
+
+        // also emits when only the style changes
+        richChanges().subscribe(ch -> snippetCache.clear());
     }
 
 
@@ -123,7 +183,7 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
         syntaxAutoRefresh.setValue(subscribeSyntaxHighlighting(defaultHighlightingTicks(), synchronousUpdateTicks, highlighter));
 
         try { // refresh the highlighting once.
-            Task<StyleSpans<Collection<String>>> t = computeHighlightingAsync(Executors.newSingleThreadExecutor(), highlighter, getText());
+            Task<StyleSpans<Collection<String>>> t = computeHighlightingAsync(Executors.newSingleThreadExecutor(), highlighter, newHighlightRequest(), this::recordHighlightingTime);
             t.setOnSucceeded(e -> this.setCurrentSyntaxHighlight(t.getValue()));
         } catch (Exception ignored) {
             // nevermind
@@ -139,7 +199,111 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
     private EventStream<?> defaultHighlightingTicks() {
         return this.plainTextChanges()
                    .filter(ch -> !ch.isIdentity())
-                   .distinct();
+                   .distinct()
+                   .or(viewportEscapes());
+    }
+
+
+    /** Whether the document is long enough to be in large-file mode. */
+    public Val<Boolean> largeFileModeProperty() {
+        return largeFileMode;
+    }
+
+
+    public boolean isLargeFileMode() {
+        return largeFileMode.getValue();
+    }
+
+
+    /** Delay after which the highlighting is recomputed when the text changes. */
+    public AdaptiveDelay textChangeDelay() {
+        return textChangeDelay;
+    }
+
+
+    /** Emits the duration of each run of the syntax highlighter, in nanos. Emits on the FX thread. */
+    public EventStream<Long> highlightingTimes() {
+        return highlightingTimes;
+    }
+
+
+    /** Emits the duration of each restyling of the text, in nanos. */
+    public EventStream<Long> restyleTimes() {
+        return restyleTimes;
+    }
+
+
+    /** Emits true for each {@linkplain #getSnippet(int, int) snippet} found in the cache, false for each one computed. */
+    public EventStream<Boolean> snippetCacheLookups() {
+        return snippetCacheLookups;
+    }
+
+
+    /** Number of chars above which the document is handled in large-file mode. */
+    public Var<Integer> largeFileThresholdProperty() {
+        return largeFileThreshold;
+    }
+
+
+    /**
+     * Emits when the viewport has been scrolled out of the range
+     * that was styled last. Only emits in large-file mode.
+     */
+    protected final EventStream<?> viewportEscapes() {
+        return viewportDirtyEvents().filter(e -> isLargeFileMode())
+                                    .successionEnds(VIEWPORT_CHANGE_DELAY)
+                                    .filter(e -> {
+                                        IndexRange visible = visibleRange(0);
+                                        return visible.getStart() < lastPaintedRange.getStart()
+                                            || visible.getEnd() > lastPaintedRange.getEnd();
+                                    });
+    }
+
+
+    /**
+     * Returns the range of text that should be styled. That's the
+     * whole document, except in large-file mode, where that's the paragraphs
+     * around the viewport. The range is remembered as the last painted range.
+     */
+    protected final IndexRange paintedRange() {
+        IndexRange range = isLargeFileMode() ? visibleRange(VIEWPORT_MARGIN) : new IndexRange(0, getLength());
+        lastPaintedRange = range;
+        return range;
+    }
+
+
+    /** Range of text of the visible paragraphs, extended by the given number of paragraphs on each side. */
+    private IndexRange visibleRange(int margin) {
+        int numPars = getParagraphs().size();
+        int first;
+        int last;
+        try {
+            if (getVisibleParagraphs().isEmpty()) {
+                // not laid out yet
+                first = 0;
+                last = 2 * margin;
+            } else {
+                first = firstVisibleParToAllParIndex() - margin;
+                last = lastVisibleParToAllParIndex() + margin;
+            }
+        } catch (AssertionError e) {
+            // thrown by RichTextFX sometimes while the viewport is being laid out
+            first = 0;
+            last = 2 * margin;
+        }
+        first = Math.max(0, first);
+        last = Math.min(numPars - 1, last);
+        return new IndexRange(getAbsolutePosition(first, 0), getAbsolutePosition(last, getParagraphLength(last)));
+    }
+
+
+    /** Returns the given spans restricted to the range, padding them with unstyled text if they're too short. */
+    protected static StyleSpans<Collection<String>> viewOf(StyleSpans<Collection<String>> spans, IndexRange range) {
+        StyleSpans<Collection<String>> padded = spans;
+        if (spans.length() < range.getEnd()) {
+            padded = spans.append(Collections.emptyList(), range.getEnd() - spans.length());
+        }
+        return padded.subView(range.getStart(), range.getEnd());
     }
 
 
@@ -148,8 +312,8 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
         final ExecutorService executorService = Executors.newSingleThreadExecutor(
             r -> new Thread(r, "Code-area-" + this.hashCode() + "-"
                 + highlighter.getLanguageTerseName() + "-highlighter"));
-        return ticks.successionEnds(TEXT_CHANGE_DELAY)
-                    .supplyTask(() -> computeHighlightingAsync(executorService, highlighter, this.getText()))
+        return textChangeDelay.successionEnds(ticks)
+                    .supplyTask(() -> computeHighlightingAsync(executorService, highlighter, newHighlightRequest(), this::recordHighlightingTime))
                     .awaitLatest(ticks.or(canceller))
                     .filterMap(t -> {
                         t.ifFailure(Throwable::printStackTrace);
@@ -160,11 +324,18 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
     }
 
 
-    private static Task<StyleSpans<Collection<String>>> computeHighlightingAsync(ExecutorService service, SyntaxHighlighter highlighter, String text) {
+    private static Task<StyleSpans<Collection<String>>> computeHighlightingAsync(ExecutorService service,
+                                                                               SyntaxHighlighter highlighter,
+                                                                               HighlightRequest request,
+                                                                               LongConsumer timeRecorder) {
         Task<StyleSpans<Collection<String>>> task = new Task<StyleSpans<Collection<String>>>() {
             @Override
             protected StyleSpans<Collection<String>> call() {
-                return highlighter.computeHighlighting(text);
+                long start = System.nanoTime();
+                StyleSpans<Collection<String>> spans = request.compute(highlighter);
+                long elapsed = System.nanoTime() - start;
+                Platform.runLater(() -> timeRecorder.accept(elapsed));
+                return spans;
             }
         };
         if (!service.isShutdown()) {
@@ -174,6 +345,24 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
     }
 
 
+    private void recordHighlightingTime(long nanos) {
+        textChangeDelay.record(nanos);
+        highlightingTimes.push(nanos);
+    }
+
+
+    /**
+     * Sets the style spans starting at the given position, and records
+     * the time it takes in {@link #restyleTimes()}. That includes the time
+     * to compute the spans.
+     */
+    protected final void restyle(int from, Supplier<StyleSpans<Collection<String>>> spans) {
+        long start = System.nanoTime();
+        setStyleSpans(from, spans.get());
+        restyleTimes.push(System.nanoTime() - start);
+    }
+
+
     /**
      * Removes the current syntax highlighting span.
      */
@@ -195,7 +384,8 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
         StyleSpans<Collection<String>> oldSyntaxHighlight = currentSyntaxHighlight.getValue();
         this.currentSyntaxHighlight.setValue(newSyntax);
 
-        setStyleSpans(0, styleSyntaxHighlightChange(oldSyntaxHighlight, newSyntax));
+        IndexRange range = paintedRange();
+        restyle(range.getStart(), () -> styleSyntaxHighlightChange(range, oldSyntaxHighlight, newSyntax));
     }
 
     /**
@@ -204,11 +394,14 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
      * simply returns the newest spans, which works flawlessly when there is no other
      * style layer in the game. Subclasses are free to override, to get a chance to
      * preserve additional style layers.
+     *
+     * @param range Range of text to restyle, the returned spans start at its start
      */
     @NonNull
-    protected StyleSpans<Collection<String>> styleSyntaxHighlightChange(final @Nullable StyleSpans<Collection<String>> oldSyntax,
+    protected StyleSpans<Collection<String>> styleSyntaxHighlightChange(final IndexRange range,
+                                                                        final @Nullable StyleSpans<Collection<String>> oldSyntax,
                                                                         final @Nullable StyleSpans<Collection<String>> newSyntax) {
-        return newSyntax == null ? emptySpan() : newSyntax;
+        return viewOf(newSyntax == null ? emptySpan() : newSyntax, range);
     }
 
 
@@ -220,7 +413,7 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
      */
     protected void updateSyntaxHighlightingSynchronously() {
         synchronousUpdateTicks.push(null);
-        syntaxHighlighter.getOpt().map(h -> h.computeHighlighting(getText())).ifPresent(currentSyntaxHighlight::setValue);
+        syntaxHighlighter.getOpt().map(newHighlightRequest()::compute).ifPresent(currentSyntaxHighlight::setValue);
     }
 
 
@@ -243,6 +436,80 @@ public class SyntaxHighlightingCodeArea extends CodeArea {
     }
 
 
+    private HighlightRequest newHighlightRequest() {
+        if (isLargeFileMode()) {
+            IndexRange range = visibleRange(VIEWPORT_MARGIN);
+            return new HighlightRequest(getText(range.getStart(), range.getEnd()), range.getStart(), getLength());
+        }
+        return new HighlightRequest(getText(), 0, getLength());
+    }
+
+
+    /**
+     * Snapshot of the text to highlight, taken on the FX thread. In
+     * large-file mode that's only part of the document, and the spans
+     * are padded to cover the whole document.
+     */
+    private static final class HighlightRequest {
+
+        private final String text;
+        private final int start;
+        private final int documentLength;
+
+
+        HighlightRequest(String text, int start, int documentLength) {
+            this.text = text;
+            this.start = start;
+            this.documentLength = documentLength;
+        }
+
+
+        StyleSpans<Collection<String>> compute(SyntaxHighlighter highlighter) {
+            StyleSpans<Collection<String>> spans = highlighter.computeHighlighting(text);
+            if (start == 0 && text.length() == documentLength) {
+                return spans;
+            }
+            StyleSpansBuilder<Collection<String>> builder = new StyleSpansBuilder<>();
+            builder.add(Collections.emptyList(), start);
+            for (StyleSpan<Collection<String>> span : spans) {
+                builder.add(span);
+            }
+            builder.add(Collections.emptyList(), documentLength - start - text.length());
+            return builder.create();
+        }
+    }
+
+
+    /**
+     * Returns the first line of the rich text in the given range, at
+     * most {@value #MAX_SNIPPET_LENGTH} chars. Snippets are cached until
+     * the text or its style changes, so that list cells can request them
+     * again on each scroll without slicing the document.
+     */
+    public RichTextSnippet getSnippet(int begin, int end) {
+        IndexRange range = new IndexRange(begin, end);
+        RichTextSnippet snippet = snippetCache.get(range);
+        snippetCacheLookups.push(snippet != null);
+        if (snippet == null) {
+            snippet = computeSnippet(begin, end);
+            snippetCache.put(range, snippet);
+        }
+        return snippet;
+    }
+
+
+    private RichTextSnippet computeSnippet(int begin, int end) {
+        int safeEnd = Math.min(end, getLength());
+        int safeBegin = Math.min(begin, safeEnd);
+        Position pos = offsetToPosition(safeBegin, Bias.Forward);
+        int lineEnd = safeBegin + getParagraphLength(pos.getMajor()) - pos.getMinor();
+        int snippetEnd = Math.min(Math.min(safeEnd, lineEnd), safeBegin + MAX_SNIPPET_LENGTH);
+        return new RichTextSnippet(getText(safeBegin, snippetEnd),
+                                   getStyleSpans(safeBegin, snippetEnd),
+                                   snippetEnd < safeEnd);
+    }
+
+
     /** Wraps a node into a convenience layer that can for example provide the rich text associated with it. */
     public TextAwareNodeWrapper wrapNode(Node node) {
         return NodeStyleSpan.fromNode(node, this).snapshot();
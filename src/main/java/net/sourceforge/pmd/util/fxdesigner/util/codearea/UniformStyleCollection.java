@@ -11,7 +11,6 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,6 +52,12 @@ public class UniformStyleCollection {
     }
 
 
+    /** Number of nodes in this collection. */
+    public int size() {
+        return nodes.size();
+    }
+
+
     public Set<String> getStyle() {
         return style;
     }
@@ -116,18 +121,18 @@ public class UniformStyleCollection {
 
     /**
      * Overlays all the nodes in this collection into a single StyleSpans.
-     * This algorithm makes the strong assumption that the nodes can be
-     * ordered as a tree, that is, given two nodes n and m, then one of the
-     * following holds true:
+     * The nodes are expected to be ordered as a tree, that is, given two
+     * nodes n and m, then one of the following holds true:
      * - m and n are disjoint
      * - m is entirely contained within n, or the reverse is true
      *
      * E.g. [    m        ] but not [  m  ]
-     *        [ n ] [ n' ]              [   n   ]
+     *        [ n ] [ n' ]              [   n   ]
      *
-     * In other words:
-     * - the text bounds of a node contain the bounds of any of its descendants.
-     * - the text bounds of two siblings don't overlap
+     * Nodes may share their bounds, eg a node and its first child often
+     * start at the same offset. If two nodes do overlap, eg because the
+     * text changed since the AST was built, the result is wrong until
+     * the next parse, but no exception is thrown.
      */
     public StyleSpans<Collection<String>> toSpans() {
         // We cache the result so that eg if only the focus node changes,
@@ -142,94 +147,80 @@ public class UniformStyleCollection {
 
         if (nodes.isEmpty()) {
             return StyleSpans.singleton(Collections.emptyList(), 0);
-        } else if (nodes.size() == 1) {
-            PositionSnapshot snapshot = nodes.get(0).snapshot();
-            return new StyleSpansBuilder<Collection<String>>().add(Collections.emptyList(), snapshot.getBeginIndex())
-                                                              .add(styleForDepth(0, snapshot), snapshot.getLength())
-                                                              // we don't bother adding the remainder
-                                                              .create();
         }
 
         final StyleSpansBuilder<Collection<String>> builder = new StyleSpansBuilder<>();
 
-        // stores the parents of the node we're in, to account for nesting depth
-        final Deque<PositionSnapshot> overlappingNodes = new ArrayDeque<>();
-        PositionSnapshot previous = null;
+        // the nodes that contain the current offset, innermost first
+        final Deque<PositionSnapshot> enclosing = new ArrayDeque<>();
         int lastSpanEnd = 0;
+        boolean first = true;
 
-        for (NodeStyleSpan span : nodes) { // sorted in document order
+        // sorted in document order, a node comes before the nodes it contains
+        for (NodeStyleSpan span : nodes) {
 
             PositionSnapshot current = span.snapshot();
             if (current == null) {
                 continue;
             }
 
-            // first iteration
-            if (previous == null) {
-                previous = current;
-                builder.add(Collections.emptyList(), previous.getBeginIndex());
-                lastSpanEnd = previous.getBeginIndex();
-                continue;
+            if (first) {
+                // the builder needs at least one span
+                builder.add(Collections.emptyList(), current.getBeginIndex());
+                lastSpanEnd = current.getBeginIndex();
+                first = false;
             }
 
-            if (previous.getEndIndex() > current.getBeginIndex()) {
-                // The current overlaps with the previous
+            lastSpanEnd = closeEnclosing(builder, enclosing, current.getBeginIndex(), lastSpanEnd);
+            // text between the last boundary and the start of the current node,
+            // which has the style of the innermost enclosing node
+            lastSpanEnd = addSpan(builder, styleForDepth(enclosing.size() - 1, enclosing.peek()), lastSpanEnd, current.getBeginIndex());
+            enclosing.push(current);
+        }
 
-                // This part sometimes throws exceptions when the text changes while the computation is in progress
-                // In practice, they can totally be ignored since the highlighting will be recomputed next time
-                // the AST is refreshed, which *will* happen... because the text is being edited
+        if (first) {
+            return StyleSpans.singleton(Collections.emptyList(), 0);
+        }
 
-                // gap
-                builder.add(styleForDepth(overlappingNodes.size() - 1, overlappingNodes.peek()), previous.getBeginIndex() - lastSpanEnd);
-                // Part between the start of the previous node and the start of the current one.
-                // this is the underscored part [_[ ] ]
-                // The current node will be styled on the next iteration.
-                builder.add(styleForDepth(overlappingNodes.size(), current), current.getBeginIndex() - previous.getBeginIndex());
-                lastSpanEnd = current.getBeginIndex();
+        // close the remaining enclosing contexts
+        closeEnclosing(builder, enclosing, Integer.MAX_VALUE, lastSpanEnd);
+        // we don't bother adding the remainder
 
-                overlappingNodes.addFirst(previous);
+        return builder.create();
+    }
 
-                previous = current;
-                continue;
-            } else {
-                // no overlap, the previous span can be added
-
-                // the depth - 1 is for the gap
-                builder.add(styleForDepth(overlappingNodes.size() - 1, overlappingNodes.peek()), previous.getBeginIndex() - lastSpanEnd);
-                // previous node
-                builder.add(styleForDepth(overlappingNodes.size(), previous), previous.getLength());
-                lastSpanEnd = previous.getEndIndex();
-                previous = current;
-            }
 
-            // Check whether some of the enclosing spans end between the end of the previous and the beginning of the current
-            Iterator<PositionSnapshot> overlaps = overlappingNodes.iterator();
-            while (overlaps.hasNext()) {
-                PositionSnapshot enclosing = overlaps.next();
-                if (enclosing.getEndIndex() < current.getBeginIndex()) {
-                    overlaps.remove();
-                    // this is the underscored part [ [ ]_]
-                    builder.add(styleForDepth(overlappingNodes.size(), enclosing), enclosing.getEndIndex() - lastSpanEnd);
-                    lastSpanEnd = enclosing.getEndIndex();
-                }
-            }
+    /**
+     * Removes the nodes that end before the offset from the stack, and adds
+     * the spans up to their end.
+     *
+     * @return The end of the last span added
+     */
+    private int closeEnclosing(StyleSpansBuilder<Collection<String>> builder,
+                               Deque<PositionSnapshot> enclosing,
+                               int offset,
+                               int lastSpanEnd) {
+        while (!enclosing.isEmpty() && enclosing.peek().getEndIndex() <= offset) {
+            PositionSnapshot closed = enclosing.peek();
+            lastSpanEnd = addSpan(builder, styleForDepth(enclosing.size() - 1, closed), lastSpanEnd, closed.getEndIndex());
+            enclosing.pop();
         }
+        return lastSpanEnd;
+    }
 
-        // gap
-        builder.add(styleForDepth(overlappingNodes.size() - 1, overlappingNodes.peek()), previous.getBeginIndex() - lastSpanEnd);
-        // last node
-        builder.add(styleForDepth(overlappingNodes.size(), previous), previous.getLength());
-        lastSpanEnd = previous.getEndIndex();
 
-        // close the remaining enclosing contexts
-        int depth = overlappingNodes.size();
-        for (PositionSnapshot enclosing : overlappingNodes) {
-            depth--;
-            builder.add(styleForDepth(depth, enclosing), enclosing.getEndIndex() - lastSpanEnd);
-            lastSpanEnd = enclosing.getEndIndex();
+    /**
+     * Adds a span between the two offsets, if it's not empty. Overlapping
+     * nodes make the end go backwards, in which case nothing is added.
+     *
+     * @return The end of the last span added
+     */
+    private static int addSpan(StyleSpansBuilder<Collection<String>> builder, Set<String> style, int from, int to) {
+        if (to > from) {
+            builder.add(style, to - from);
+            return to;
         }
-
-        return builder.create();
+        return from;
     }
 
 
@@ -6,7 +6,12 @@ package net.sourceforge.pmd.util.fxdesigner.util.codearea.syntaxhighlighting;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * @author Clément Fournier
@@ -74,6 +79,23 @@ public enum HighlightClasses {
     }
 
 
+    /**
+     * Returns a function mapping a highlight class to its css classes
+     * plus the given base classes. Each set is built once and shared by
+     * all the tokens of that class, so that a lexer doesn't allocate a
+     * set per token. The function is not thread-safe, lexers create their
+     * own.
+     */
+    public static Function<HighlightClasses, Set<String>> cssWith(Set<String> baseClasses) {
+        Map<HighlightClasses, Set<String>> cache = new EnumMap<>(HighlightClasses.class);
+        return type -> cache.computeIfAbsent(type, t -> {
+            Set<String> css = new HashSet<>(t.css);
+            css.addAll(baseClasses);
+            return Collections.unmodifiableSet(css);
+        });
+    }
+
+
     private static final class Constants {
         static final String IDENTIFIER = "identifier";
         static final String FUNCTION = "function";
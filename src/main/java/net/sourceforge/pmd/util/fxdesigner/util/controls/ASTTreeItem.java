@@ -9,10 +9,14 @@ import static net.sourceforge.pmd.util.fxdesigner.util.DesignerIteratorUtil.reve
 import static net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil.attrToXpathString;
 import static net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil.makeStyledText;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import org.apache.commons.lang3.mutable.MutableInt;
@@ -24,6 +28,7 @@ import net.sourceforge.pmd.util.designerbindings.DesignerBindings;
 import net.sourceforge.pmd.util.designerbindings.DesignerBindings.DefaultDesignerBindings;
 import net.sourceforge.pmd.util.fxdesigner.app.ApplicationComponent;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
+import net.sourceforge.pmd.util.fxdesigner.util.AstDiff;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.SearchableTreeView.SearchableTreeItem;
 
 import javafx.scene.control.TreeItem;
@@ -160,6 +165,49 @@ public final class ASTTreeItem extends SearchableTreeItem<Node> implements Appli
         return item;
     }
 
+    /**
+     * Updates the tree of the given root item so that it displays the
+     * new root of the diff. Items of matched nodes are kept, along with
+     * their expansion state, and only get their node replaced. Items of
+     * new nodes are built from scratch. This method assumes the item
+     * displays the old root of the diff.
+     */
+    static void patch(ASTTreeItem root, AstDiff diff, DesignerRoot designerRoot) {
+        patchImpl(root, diff.getNewRoot(), diff, new MutableInt(0), designerRoot);
+    }
+
+
+    private static void patchImpl(ASTTreeItem item, Node newNode, AstDiff diff, MutableInt idx, DesignerRoot designerRoot) {
+        item.setValue(newNode);
+        item.setTreeIndex(idx.getAndIncrement());
+
+        // index the children that may be reused by their new node
+        Map<Node, ASTTreeItem> reusable = new IdentityHashMap<>();
+        for (TreeItem<Node> child : item.getChildren()) {
+            Node matched = diff.getNewNode(child.getValue());
+            if (matched != null && matched.getParent() == newNode) {
+                reusable.put(matched, (ASTTreeItem) child);
+            }
+        }
+
+        List<TreeItem<Node>> newChildren = new ArrayList<>(newNode.getNumChildren());
+        for (int i = 0; i < newNode.getNumChildren(); i++) {
+            Node child = newNode.getChild(i);
+            ASTTreeItem childItem = reusable.get(child);
+            if (childItem != null) {
+                patchImpl(childItem, child, diff, idx, designerRoot);
+            } else {
+                childItem = buildRootImpl(child, idx, designerRoot);
+            }
+            newChildren.add(childItem);
+        }
+
+        if (!newChildren.equals(item.getChildren())) {
+            // only fire a change if the structure changed
+            item.getChildren().setAll(newChildren);
+        }
+    }
+
     public static <T, N extends TreeItem<T>> void foreach(N root, Consumer<? super N> fun) {
 
         if (root == null) {
@@ -23,6 +23,7 @@ import org.reactfx.value.Var;
 import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.app.NodeSelectionSource;
+import net.sourceforge.pmd.util.fxdesigner.util.AstDiff;
 import net.sourceforge.pmd.util.fxdesigner.util.DataHolder;
 
 import javafx.beans.NamedArg;
@@ -48,6 +49,8 @@ public class AstTreeView extends SearchableTreeView<Node> implements NodeSelecti
         Var.newSimpleVar(n -> Collections.emptySet());
 
     private String debugName = "AstTreeView";
+    /** Diff between the previous AST and the current one, only the latest is kept. */
+    private AstDiff lastDiff;
 
 
     /** Only provided for scenebuilder, not used at runtime. */
@@ -93,28 +96,50 @@ public class AstTreeView extends SearchableTreeView<Node> implements NodeSelecti
 
         EventStreams.valuesOf(additionalStyleClasses)
                     .repeatOn(EventStreams.valuesOf(rootProperty()))
-                    .subscribe(fun -> {
-                        TreeItem<Node> rootNode = getRoot();
-                        if (rootNode != null && fun != null) {
-                            ((ASTTreeItem) rootNode).foreach(it -> ((ASTTreeItem) it).setStyleClasses(fun.apply(it.getValue())));
-                        }
-                    });
+                    .subscribe(this::applyAdditionalStyleClasses);
 
     }
 
+    private void applyAdditionalStyleClasses(Function<Node, Collection<String>> fun) {
+        TreeItem<Node> rootNode = getRoot();
+        if (rootNode != null && fun != null) {
+            ((ASTTreeItem) rootNode).foreach(it -> ((ASTTreeItem) it).setStyleClasses(fun.apply(it.getValue())));
+        }
+    }
+
+    /**
+     * Displays a new AST. If the previous AST is an older version of
+     * the same file, the tree items are patched in place, so that the
+     * expansion state is preserved, and the selection is mapped to the
+     * matching node of the new AST.
+     */
     public void setAstRoot(Node root) {
-        // fetch the selected item before setting the root
+        // fetch the selected node before updating the items
         ASTTreeItem selectedTreeItem = (ASTTreeItem) getSelectionModel().getSelectedItem();
-
-        setRealRoot(root == null ? null : ASTTreeItem.buildRoot(root, getDesignerRoot()));
+        Node oldSelection = selectedTreeItem == null ? null : selectedTreeItem.getValue();
+
+        Node oldRoot = getRoot() == null ? null : getRoot().getValue();
+        AstDiff diff = root == null || oldRoot == null ? null : AstDiff.compute(oldRoot, root);
+        lastDiff = diff;
+
+        if (diff != null) {
+            ASTTreeItem.patch((ASTTreeItem) getRoot(), diff, getDesignerRoot());
+            fireTreeStructureChanged();
+            applyAdditionalStyleClasses(getAdditionalStyleClasses());
+        } else {
+            setRealRoot(root == null ? null : ASTTreeItem.buildRoot(root, getDesignerRoot()));
+        }
 
         if (getDebugName().contains("old")) {
             // prevent the old treeview from shooting back selection recovery events
             return;
         }
 
-        if (root != null && selectedTreeItem != null && selectedTreeItem.getValue() != null) {
-            Node newSelection = findOldNodeInNewAst(selectedTreeItem.getValue(), root).orElse(null);
+        if (root != null && oldSelection != null) {
+            Node newSelection = diff != null ? diff.getNewNode(oldSelection) : null;
+            if (newSelection == null) {
+                newSelection = findOldNodeInNewAst(oldSelection, root).orElse(null);
+            }
             if (newSelection != null) {
                 baseSelectionEvents.push(NodeSelectionEvent.of(newSelection, new DataHolder().withData(SELECTION_RECOVERY, true)));
                 setFocusNode(newSelection, new DataHolder()); // rehandle
@@ -135,7 +160,7 @@ public class AstTreeView extends SearchableTreeView<Node> implements NodeSelecti
             return;
         }
 
-        mapToMyTree(getRoot().getValue(), node, options.getData(CARET_POSITION))
+        mapToMyTree(getRoot().getValue(), node, options.getData(CARET_POSITION), lastDiff)
             .map(((ASTTreeItem) getRoot())::findItem)
             .ifPresent(found -> {
                 // don't fire any selection event while itself setting the selected item
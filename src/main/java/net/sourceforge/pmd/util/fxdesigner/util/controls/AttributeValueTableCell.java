@@ -0,0 +1,71 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util.controls;
+
+import net.sourceforge.pmd.lang.rule.xpath.Attribute;
+import net.sourceforge.pmd.util.fxdesigner.model.AttributeSnapshot;
+
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.Tooltip;
+
+/**
+ * Displays the value of an attribute, as computed by an {@link AttributeSnapshot}.
+ * Shows a placeholder while the value is computed, and highlights attributes
+ * that took long to compute.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public class AttributeValueTableCell extends TableCell<Attribute, String> {
+
+    /** Attributes that take longer than this to compute are highlighted. */
+    private static final long SLOW_THRESHOLD_MILLIS = 20;
+
+    private static final String PENDING_CSS_CLASS = "pending-attr";
+    private static final String SLOW_CSS_CLASS = "slow-attr";
+
+    private Tooltip tooltip;
+
+
+    public AttributeValueTableCell() {
+        getStyleClass().add("attribute-value");
+    }
+
+
+    @Override
+    protected void updateItem(String item, boolean empty) {
+        super.updateItem(item, empty);
+        super.setGraphic(null);
+        getStyleClass().removeAll(PENDING_CSS_CLASS, SLOW_CSS_CLASS);
+        if (tooltip != null) {
+            Tooltip.uninstall(this, tooltip);
+            tooltip = null;
+        }
+
+        if (empty) {
+            setText(null);
+            return;
+        } else if (item == null) {
+            setText("…");
+            getStyleClass().add(PENDING_CSS_CLASS);
+            return;
+        }
+
+        setText(item);
+
+        TableRow<?> row = getTableRow();
+        Object rowItem = row == null ? null : row.getItem();
+        if (rowItem instanceof Attribute) {
+            Attribute attr = (Attribute) rowItem;
+            long millis = AttributeSnapshot.of(attr.getParent()).getEvaluationMillis(attr);
+            if (millis >= SLOW_THRESHOLD_MILLIS) {
+                getStyleClass().add(SLOW_CSS_CLASS);
+                tooltip = new Tooltip("This attribute took " + millis + " ms to compute");
+                Tooltip.install(this, tooltip);
+            }
+        }
+    }
+}
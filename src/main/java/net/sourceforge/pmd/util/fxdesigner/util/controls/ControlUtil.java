@@ -200,6 +200,25 @@ public final class ControlUtil {
 
     }
 
+    /**
+     * Returns a Val that is true when the node is shown to the user, ie
+     * it's in a showing window, and neither it nor any of its ancestors
+     * is invisible (eg the content of an unselected tab).
+     */
+    public static Val<Boolean> isShowingProperty(javafx.scene.Node node) {
+        Val<Boolean> windowShowing = Val.flatMap(node.sceneProperty(), Scene::windowProperty)
+                                        .flatMap(Window::showingProperty)
+                                        .orElseConst(false);
+        return Val.combine(windowShowing, isTreeVisibleProperty(node), (a, b) -> a && b);
+    }
+
+
+    private static Val<Boolean> isTreeVisibleProperty(javafx.scene.Node node) {
+        return Val.flatMap(node.parentProperty(), ControlUtil::isTreeVisibleProperty)
+                  .orElseConst(true)
+                  .flatMap(parentVisible -> parentVisible ? node.visibleProperty() : Val.constant(false));
+    }
+
     /**
      * Add a hook on the owner window. It's not possible to do this statically,
      * since at construction time the window might not be set.
@@ -6,6 +6,7 @@ package net.sourceforge.pmd.util.fxdesigner.util.controls;
 
 import java.util.Locale;
 
+import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.util.fxdesigner.model.MetricResult;
 
 import javafx.scene.control.ListCell;
@@ -29,8 +30,16 @@ public class MetricResultListCell extends ListCell<MetricResult> {
         if (empty || item == null) {
             setText(null);
             setGraphic(null);
+            setStyle(null);
+        } else if (item.getNode() != null) {
+            // heatmap entry
+            Node node = item.getNode();
+            setText(node.getXPathNodeName() + " (l. " + node.getBeginLine() + "): "
+                        + item.getKey().displayName() + " = " + niceDoubleString(item.getValue()));
+            setStyle(String.format(Locale.ROOT, "-fx-background-color: rgba(255, 90, 0, %.2f);", 0.6 * item.getHeat()));
         } else {
             setText(item.getKey().displayName() + " = " + niceDoubleString(item.getValue()));
+            setStyle(null);
         }
     }
 
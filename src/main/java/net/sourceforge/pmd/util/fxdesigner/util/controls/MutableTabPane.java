@@ -46,7 +46,9 @@ import javafx.scene.layout.Region;
 
 
 /**
- * A tab pane that can add new tabs with a button.
+ * A tab pane that can add new tabs with a button. Tabs may be added
+ * lazily with {@link #addLazyTab(AbstractController)}, in which case
+ * their content is only loaded when they're first selected.
  *
  * @param <T> Type of controllers for the content of each tab. Conformance of
  *            the controllers to this type must be enforced by the client.
@@ -55,6 +57,9 @@ import javafx.scene.layout.Region;
  */
 public final class MutableTabPane<T extends AbstractController & TitleOwner> extends AnchorPane {
 
+    /** Key of the tab properties set on tabs whose content has not been loaded yet. */
+    private static final Object UNLOADED_TAB_KEY = new Object();
+
     /** The TabPane hosting the tabs. */
     private final TabPane tabPane = new TabPane();
 
@@ -83,6 +88,14 @@ public final class MutableTabPane<T extends AbstractController & TitleOwner> ext
             tabs.get(0).setClosable(tabs.size() > 1);
         });
 
+        // registered before any client can observe the selection, so that
+        // the controller of a lazy tab is initialized by the time they're notified
+        getSelectionModel().selectedItemProperty().addListener((obs, prev, tab) -> {
+            if (tab != null) {
+                ensureLoaded(tab);
+            }
+        });
+
         getChildren().addAll(tabPane);
 
         initAddButton();
@@ -204,6 +217,43 @@ public final class MutableTabPane<T extends AbstractController & TitleOwner> ext
     }
 
 
+    /**
+     * Adds a tab for the given controller, without selecting it. The
+     * FXML content of the tab is only loaded, and the controller initialized,
+     * when the tab is selected for the first time. Until then the controller
+     * is only expected to answer {@link TitleOwner#titleProperty()} and
+     * whatever state it was constructed with.
+     *
+     * @param controller Controller for the tab
+     */
+    public void addLazyTab(T controller) {
+        Tab tab = new Tab();
+        tab.setUserData(Objects.requireNonNull(controller));
+        tab.getProperties().put(UNLOADED_TAB_KEY, Boolean.TRUE);
+        tab.textProperty().bind(uniqueNameBinding(controller.titleProperty(), getTabs().size()));
+        setCloseHandler(tab);
+
+        this.getTabs().add(tab);
+    }
+
+
+    /** Returns true if the content of the tab has been loaded. */
+    private static boolean isLoaded(Tab tab) {
+        return !tab.getProperties().containsKey(UNLOADED_TAB_KEY);
+    }
+
+
+    private void ensureLoaded(Tab tab) {
+        if (isLoaded(tab)) {
+            return;
+        }
+        tab.getProperties().remove(UNLOADED_TAB_KEY);
+        if (loadContent(tab, controllerFromTab(tab))) {
+            controllerFromTab(tab).afterParentInit();
+        }
+    }
+
+
     private void addTabAndFocus(Tab tab) {
         tab.textProperty().bind(uniqueNameBinding(controllerFromTab(tab).titleProperty(), getTabs().size()));
 
@@ -272,47 +322,64 @@ public final class MutableTabPane<T extends AbstractController & TitleOwner> ext
      */
     private Function<T, Tab> tabMaker() {
         return controller -> {
-            URL url = DesignerUtil.getFxml(tabFxmlResource);
-
-            if (url == null) {
-                System.err.println("Unresolved FXML resource " + tabFxmlResource);
-                return null;
-            }
-            FXMLLoader loader = new FXMLLoader(url);
-
-            if (controller != null) {
-                List<AbstractController> lst = new ArrayList<>(controller.getChildren());
-                lst.add(0, controller);
-                // TODO this adds the children but not descendants
-                loader.setControllerFactory(DesignerUtil.controllerFactoryKnowing(lst.toArray()));
-            }
-
-            Parent root;
-            try {
-                root = loader.load();
-            } catch (IOException e) {
-                System.err.println("Error loading FXML " + tabFxmlResource);
-                e.printStackTrace();
+            Tab newTab = new Tab();
+            if (!loadContent(newTab, controller)) {
                 return null;
             }
-            Tab newTab = new Tab();
-            newTab.setContent(root);
-
-            T realController = loader.getController();
-            newTab.setUserData(realController);
-            newTab.setOnClosed(evt -> {
-                if (realController instanceof CloseableService) {
-                    try {
-                        ((CloseableService) realController).close();
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                }
-            });
+            setCloseHandler(newTab);
             return newTab;
         };
 
     }
 
 
+    /**
+     * Loads the FXML content of a tab, and sets its userdata to the
+     * controller. Returns false if loading failed.
+     */
+    private boolean loadContent(Tab tab, @Nullable T controller) {
+        URL url = DesignerUtil.getFxml(tabFxmlResource);
+
+        if (url == null) {
+            System.err.println("Unresolved FXML resource " + tabFxmlResource);
+            return false;
+        }
+        FXMLLoader loader = new FXMLLoader(url);
+
+        if (controller != null) {
+            List<AbstractController> lst = new ArrayList<>(controller.getChildren());
+            lst.add(0, controller);
+            // TODO this adds the children but not descendants
+            loader.setControllerFactory(DesignerUtil.controllerFactoryKnowing(lst.toArray()));
+        }
+
+        Parent root;
+        try {
+            root = loader.load();
+        } catch (IOException e) {
+            System.err.println("Error loading FXML " + tabFxmlResource);
+            e.printStackTrace();
+            return false;
+        }
+        tab.setContent(root);
+        tab.setUserData(loader.getController());
+        return true;
+    }
+
+
+    private void setCloseHandler(Tab tab) {
+        tab.setOnClosed(evt -> {
+            Object controller = tab.getUserData();
+            // controllers of tabs that were never loaded have nothing to release
+            if (isLoaded(tab) && controller instanceof CloseableService) {
+                try {
+                    ((CloseableService) controller).close();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        });
+    }
+
+
 }
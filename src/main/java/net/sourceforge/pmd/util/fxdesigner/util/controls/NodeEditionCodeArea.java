@@ -16,31 +16,28 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.IntFunction;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.dataflow.qual.Pure;
-import org.fxmisc.richtext.LineNumberFactory;
 import org.fxmisc.richtext.event.MouseOverTextEvent;
 import org.reactfx.EventSource;
 import org.reactfx.Subscription;
-import org.reactfx.collection.LiveArrayList;
 import org.reactfx.collection.LiveList;
 import org.reactfx.value.Val;
 import org.reactfx.value.Var;
 
 import net.sourceforge.pmd.lang.Language;
 import net.sourceforge.pmd.lang.ast.Node;
-import net.sourceforge.pmd.lang.document.TextRegion;
 import net.sourceforge.pmd.util.designerbindings.DesignerBindings;
 import net.sourceforge.pmd.util.designerbindings.RelatedNodesSelector;
 import net.sourceforge.pmd.util.fxdesigner.SourceEditorController;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.app.NodeSelectionSource;
+import net.sourceforge.pmd.util.fxdesigner.app.services.PerformanceMetrics;
 import net.sourceforge.pmd.util.fxdesigner.app.services.RichTextMapper;
+import net.sourceforge.pmd.util.fxdesigner.app.services.StartupTracer;
 import net.sourceforge.pmd.util.fxdesigner.model.testing.LiveTestCase;
 import net.sourceforge.pmd.util.fxdesigner.model.testing.LiveViolationRecord;
 import net.sourceforge.pmd.util.fxdesigner.util.DataHolder;
@@ -48,6 +45,7 @@ import net.sourceforge.pmd.util.fxdesigner.util.DesignerUtil;
 import net.sourceforge.pmd.util.fxdesigner.util.RichRunnable;
 import net.sourceforge.pmd.util.fxdesigner.util.codearea.AvailableSyntaxHighlighters;
 import net.sourceforge.pmd.util.fxdesigner.util.codearea.HighlightLayerCodeArea;
+import net.sourceforge.pmd.util.fxdesigner.util.codearea.PooledLineNumberFactory;
 import net.sourceforge.pmd.util.fxdesigner.util.controls.NodeEditionCodeArea.StyleLayerIds;
 import net.sourceforge.pmd.util.fxdesigner.util.reactfx.ReactfxUtil;
 
@@ -56,7 +54,6 @@ import javafx.beans.NamedArg;
 import javafx.css.PseudoClass;
 import javafx.scene.control.Label;
 import javafx.scene.control.Tooltip;
-import javafx.scene.layout.HBox;
 
 
 /**
@@ -81,6 +78,10 @@ public class NodeEditionCodeArea extends HighlightLayerCodeArea<StyleLayerIds> i
      */
     private static final Duration NODE_SELECTION_HOVER_DELAY = Duration.ofMillis(100);
 
+    private static final PseudoClass HAS_CARET = PseudoClass.getPseudoClass("has-caret");
+    private static final PseudoClass IS_FOCUS_NODE = PseudoClass.getPseudoClass("is-focus-node");
+    private static final String EXPECTED_LABEL_KEY = "designer.expectedViolations";
+
     private final Var<Node> currentFocusNode = Var.newSimpleVar(null);
     private final Var<List<Node>> currentRuleResults = Var.newSimpleVar(Collections.emptyList());
     private final Var<List<Node>> currentErrorNodes = Var.newSimpleVar(Collections.emptyList());
@@ -90,24 +91,39 @@ public class NodeEditionCodeArea extends HighlightLayerCodeArea<StyleLayerIds> i
 
     private final Val<RelatedNodesSelector> relatedNodesSelector;
 
+    private final PooledLineNumberFactory gutter;
+    // state of the gutter, the labels are decorated from it
+    private int caretParagraph = -1;
+    private int focusBeginLine = 0;
+    private int focusEndLine = -1;
+    /** Number of expected violations, indexed by line. */
+    private int[] expectedViolationCounts = new int[0];
+
     /** Only provided for scenebuilder, not used at runtime. */
     public NodeEditionCodeArea() {
         super(StyleLayerIds.class);
         this.designerRoot = null;
         this.relatedNodesSelector = null;
+        this.gutter = null;
     }
 
     public NodeEditionCodeArea(@NamedArg("designerRoot") DesignerRoot root) {
         super(StyleLayerIds.class);
 
         this.designerRoot = root;
+        PerformanceMetrics metrics = designerRoot.getService(DesignerRoot.PERFORMANCE_METRICS);
         this.relatedNodesSelector =
             languageBindingsProperty()
                 .map(DesignerBindings::getRelatedNodesSelector)
-                .orElseConst(DesignerUtil.getDefaultRelatedNodesSelector());
+                .orElseConst(DesignerUtil.getDefaultRelatedNodesSelector(metrics.cache(PerformanceMetrics.SYMBOL_INDEX)));
 
 
-        setParagraphGraphicFactory(defaultLineNumberFactory());
+        // the labels of the gutter are recycled, and only the lines
+        // whose state changed are updated
+        this.gutter = new PooledLineNumberFactory(this, this::decorateLineNumber);
+        setParagraphGraphicFactory(gutter);
+        Val.wrap(currentParagraphProperty()).values().subscribe(this::onCaretLineChanged);
+        currentFocusNode.values().subscribe(this::onFocusLinesChanged);
 
         currentRuleResultsProperty().values().map(this::highlightXPathResults).subscribe(this::updateStyling);
         currentErrorNodesProperty().values().map(this::highlightErrorNodes).subscribe(this::updateStyling);
@@ -116,6 +132,19 @@ public class NodeEditionCodeArea extends HighlightLayerCodeArea<StyleLayerIds> i
         initNodeSelectionHandling(designerRoot, selectionEvts, true);
 
         enableCtrlSelection();
+
+        syntaxHighlight.values()
+                       .filter(Objects::nonNull)
+                       .subscribeForOne(spans -> designerRoot.getService(DesignerRoot.STARTUP_TRACER).milestone(StartupTracer.FIRST_HIGHLIGHT));
+
+        textChangeDelay().delayProperty()
+                         .changes()
+                         .subscribe(ch -> logInternalDebugInfo(() -> "Highlighting delay changed to " + ch.getNewValue().toMillis() + "ms",
+                                                               textChangeDelay()::toString));
+
+        highlightingTimes().subscribe(metrics.histogram(PerformanceMetrics.SYNTAX_HIGHLIGHTING)::record);
+        restyleTimes().subscribe(metrics.histogram(PerformanceMetrics.RESTYLE)::record);
+        snippetCacheLookups().subscribe(metrics.cache(PerformanceMetrics.SNIPPET_CACHE)::record);
     }
 
 
@@ -188,69 +217,106 @@ public class NodeEditionCodeArea extends HighlightLayerCodeArea<StyleLayerIds> i
     }
 
 
+    /** Returns the gutter of this area, which shows the line numbers. */
     public IntFunction<javafx.scene.Node> defaultLineNumberFactory() {
-        IntFunction<javafx.scene.Node> base = LineNumberFactory.get(this);
-        Val<Integer> activePar = Val.wrap(currentParagraphProperty());
-
-        return idx -> {
-
-            javafx.scene.Node label = base.apply(idx);
-
-            activePar.conditionOnShowing(label)
-                     .values()
-                     .subscribe(p -> label.pseudoClassStateChanged(PseudoClass.getPseudoClass("has-caret"), idx == p));
-
-            // adds a pseudo class if part of the focus node appears on this line
-            currentFocusNode.conditionOnShowing(label)
-                            .values()
-                            .subscribe(n -> label.pseudoClassStateChanged(PseudoClass.getPseudoClass("is-focus-node"),
-                                                                          n != null && idx + 1 <= n.getEndLine() && idx + 1 >= n.getBeginLine()));
-
-            return label;
-        };
+        return gutter;
     }
 
+
+    /**
+     * Returns the gutter of this area, additionally showing the number
+     * of violations the test case expects on each line. The counts are
+     * tracked until the test case is committed.
+     */
     public IntFunction<javafx.scene.Node> testCaseLineNumberFactory(LiveTestCase liveTestCase) {
-        IntFunction<javafx.scene.Node> base = defaultLineNumberFactory();
+        LiveList<LiveViolationRecord> expected = liveTestCase.getExpectedViolations();
+        Subscription sub = LiveList.changesOf(expected).subscribe(ch -> updateExpectedViolationCounts(expected));
+        updateExpectedViolationCounts(expected);
+        liveTestCase.addCommitHandler(t -> {
+            sub.unsubscribe();
+            updateExpectedViolationCounts(emptyList());
+        });
+        return gutter;
+    }
 
 
-        Val<Map<TextRegion, LiveList<LiveViolationRecord>>> mapVal =
-            ReactfxUtil.groupBy(liveTestCase.getExpectedViolations(),
-                                LiveViolationRecord::getRegion);
+    private void updateExpectedViolationCounts(List<LiveViolationRecord> expected) {
+        int[] oldCounts = expectedViolationCounts;
+        int maxLine = expected.stream().mapToInt(LiveViolationRecord::getLine).max().orElse(0);
+        int[] newCounts = new int[maxLine + 1];
+        for (LiveViolationRecord record : expected) {
+            if (record.getLine() > 0) {
+                newCounts[record.getLine()]++;
+            }
+        }
+        expectedViolationCounts = newCounts;
 
-        Subscription pin = mapVal.pin();
+        // only relabel the lines whose count changed
+        for (int line = 1; line < max(oldCounts.length, newCounts.length); line++) {
+            if (countAt(oldCounts, line) != countAt(newCounts, line)) {
+                gutter.redecorate(line - 1, line - 1);
+            }
+        }
+    }
 
-        liveTestCase.addCommitHandler(t -> pin.unsubscribe());
 
-        Val<IntFunction<Val<Integer>>> map1 = mapVal.map(it -> (int j) -> Optional.ofNullable(it.get(j)).orElse(new LiveArrayList<>()).sizeProperty());
+    private static int countAt(int[] counts, int line) {
+        return line < counts.length ? counts[line] : 0;
+    }
 
-        IntFunction<Val<Integer>> numViolationsPerLine = i -> map1.flatMap(it -> it.apply(i));
 
-        return idx -> {
-            javafx.scene.Node label = base.apply(idx);
+    private void onCaretLineChanged(int newPar) {
+        int oldPar = caretParagraph;
+        caretParagraph = newPar;
+        gutter.redecorate(oldPar, oldPar);
+        gutter.redecorate(newPar, newPar);
+    }
 
-            HBox hBox = new HBox();
 
-            hBox.setSpacing(3);
+    private void onFocusLinesChanged(Node node) {
+        int oldBegin = focusBeginLine;
+        int oldEnd = focusEndLine;
+        focusBeginLine = node == null ? 0 : node.getBeginLine();
+        focusEndLine = node == null ? -1 : node.getEndLine();
 
+        if (oldEnd < oldBegin) {
+            gutter.redecorate(focusBeginLine - 1, focusEndLine - 1);
+        } else if (focusEndLine < focusBeginLine) {
+            gutter.redecorate(oldBegin - 1, oldEnd - 1);
+        } else {
+            // only the lines between the old and new bounds change (lines are 1-based)
+            gutter.redecorate(min(oldBegin, focusBeginLine) - 1, max(oldBegin, focusBeginLine) - 2);
+            gutter.redecorate(min(oldEnd, focusEndLine), max(oldEnd, focusEndLine) - 1);
+        }
+    }
 
-            Label foo = buildExpectedLabel(numViolationsPerLine, idx);
 
-            hBox.getChildren().addAll(foo, label);
+    private void decorateLineNumber(Label label, int idx) {
+        label.pseudoClassStateChanged(HAS_CARET, idx == caretParagraph);
+        // part of the focus node appears on this line
+        label.pseudoClassStateChanged(IS_FOCUS_NODE, idx + 1 >= focusBeginLine && idx + 1 <= focusEndLine);
 
-            return hBox;
-        };
+        int numExpected = countAt(expectedViolationCounts, idx + 1);
+        Label expectedLabel = (Label) label.getProperties().get(EXPECTED_LABEL_KEY);
+        if (numExpected > 0) {
+            if (expectedLabel == null) {
+                expectedLabel = buildExpectedLabel();
+                label.getProperties().put(EXPECTED_LABEL_KEY, expectedLabel);
+            }
+            expectedLabel.setText(Integer.toString(numExpected));
+            label.setGraphic(expectedLabel);
+        } else {
+            label.setGraphic(null);
+        }
     }
 
+
     @NonNull
-    public Label buildExpectedLabel(IntFunction<Val<Integer>> numViolationsPerLine, int idx) {
-        Label foo = new Label();
-        foo.getStyleClass().addAll("num-violations-gutter-label");
-        Val<Integer> num = numViolationsPerLine.apply(idx + 1);
-        foo.textProperty().bind(num.map(Object::toString));
-        foo.setTooltip(new Tooltip("Number of violations expected on this line"));
-        foo.visibleProperty().bind(num.map(it -> it > 0));
-        return foo;
+    private static Label buildExpectedLabel() {
+        Label label = new Label();
+        label.getStyleClass().addAll("num-violations-gutter-label");
+        label.setTooltip(new Tooltip("Number of violations expected on this line"));
+        return label;
     }
 
 
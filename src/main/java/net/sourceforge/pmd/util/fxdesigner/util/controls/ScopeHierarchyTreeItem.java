@@ -4,7 +4,11 @@
 
 package net.sourceforge.pmd.util.fxdesigner.util.controls;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
@@ -24,6 +28,9 @@ import javafx.scene.control.TreeItem;
  */
 public final class ScopeHierarchyTreeItem extends TreeItem<Object> {
 
+    private Map<String, List<IndexedItem>> itemsByText;
+
+
     private ScopeHierarchyTreeItem(Object scopeOrDecl) {
         super(scopeOrDecl);
         setExpanded(true);
@@ -32,28 +39,33 @@ public final class ScopeHierarchyTreeItem extends TreeItem<Object> {
 
     /**
      * Tries to find a node in the descendants of this node that has
-     * the same toString as the given value.
+     * the same toString as the given value. The descendants are indexed
+     * the first time this is called, the tree must not change afterwards.
      */
     public Optional<ScopeHierarchyTreeItem> tryFindNode(Object searched, int maxDepth) {
         if (searched == null || maxDepth == 0) {
             return Optional.empty();
         }
 
-        if (Objects.equals(searched.toString(), this.getValue().toString())) {
-            return Optional.of(this);
+        if (itemsByText == null) {
+            itemsByText = new HashMap<>();
+            indexDescendants(this, 0, itemsByText);
         }
 
-        for (TreeItem<Object> child : getChildren()) {
+        // items are in depth-first order
+        return itemsByText.getOrDefault(searched.toString(), Collections.emptyList())
+                          .stream()
+                          .filter(it -> it.depth < maxDepth)
+                          .map(it -> it.item)
+                          .findFirst();
+    }
 
-            Optional<ScopeHierarchyTreeItem> childResult =
-                ((ScopeHierarchyTreeItem) child).tryFindNode(searched, maxDepth - 1);
 
-            if (childResult.isPresent()) {
-                return childResult;
-            }
+    private static void indexDescendants(ScopeHierarchyTreeItem item, int depth, Map<String, List<IndexedItem>> index) {
+        index.computeIfAbsent(Objects.toString(item.getValue()), k -> new ArrayList<>()).add(new IndexedItem(item, depth));
+        for (TreeItem<Object> child : item.getChildren()) {
+            indexDescendants((ScopeHierarchyTreeItem) child, depth + 1, index);
         }
-
-        return Optional.empty();
     }
 
 
@@ -108,4 +120,16 @@ public final class ScopeHierarchyTreeItem extends TreeItem<Object> {
         return null;
     }
 
+
+    private static final class IndexedItem {
+
+        private final ScopeHierarchyTreeItem item;
+        private final int depth;
+
+
+        IndexedItem(ScopeHierarchyTreeItem item, int depth) {
+            this.item = item;
+            this.depth = depth;
+        }
+    }
 }
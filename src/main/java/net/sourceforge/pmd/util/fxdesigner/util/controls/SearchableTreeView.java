@@ -16,6 +16,7 @@ import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.reactfx.EventSource;
 import org.reactfx.EventStreams;
 import org.reactfx.Subscription;
 import org.reactfx.value.Val;
@@ -53,6 +54,7 @@ public class SearchableTreeView<T> extends TreeView<T> {
 
     public static final int MIN_QUERY_LENGTH = 1;
     private final TreeViewWrapper<T> myWrapper = new TreeViewWrapper<>(this);
+    private final EventSource<?> treeStructureChanges = new EventSource<>();
 
     @Nullable
     private TextField openSearchField;
@@ -86,6 +88,25 @@ public class SearchableTreeView<T> extends TreeView<T> {
         return (SearchableTreeItem<T>) getRoot();
     }
 
+    /**
+     * Must be called when items are added to or removed from the tree
+     * without the root changing, eg when the tree is patched in place.
+     * The search index is then rebuilt.
+     */
+    protected void fireTreeStructureChanged() {
+        treeStructureChanges.push(null);
+    }
+
+    private List<SearchableTreeItem<T>> collectItems() {
+        SearchableTreeItem<T> root = getRealRoot();
+        if (root == null) {
+            return Collections.emptyList();
+        }
+        List<SearchableTreeItem<T>> items = new ArrayList<>();
+        root.foreach(items::add);
+        return items;
+    }
+
 
     /**
      * Textfield for the search query.
@@ -154,14 +175,8 @@ public class SearchableTreeView<T> extends TreeView<T> {
     private Subscription bindSearchQuery(ObservableValue<String> query, Var<Integer> numResults, javafx.scene.Node eventSource) {
 
 
-        Val<List<SearchableTreeItem<T>>> allItems = Val.wrap(rootProperty())
-                                                       .map(it1 -> getRealRoot())
-                                                       .map(it1 -> {
-                                                           List<SearchableTreeItem<T>> tmp = new ArrayList<>();
-                                                           it1.foreach(tmp::add);
-                                                           return tmp;
-                                                       })
-                                                       .orElseConst(Collections.emptyList());
+        Val<List<SearchableTreeItem<T>>> allItems =
+            Val.create(this::collectItems, EventStreams.invalidationsOf(rootProperty()).or(treeStructureChanges));
 
         return ReactfxUtil.subscribeDisposable(
             query,
@@ -174,9 +189,15 @@ public class SearchableTreeView<T> extends TreeView<T> {
                     selectedResults,
                     newRes -> {
                         numResults.setValue(newRes.size());
-                        // the values are never null, at most empty, because of orElseConst above
+                        // the values are never null, at most empty, see collectItems
                         newRes.forEach(res -> res.getData().currentSearchResult.setValue(res));
-                        Subscription sub = Subscription.EMPTY;
+                        // items outlive the results when the tree is patched in place
+                        Subscription sub = () -> newRes.forEach(res -> {
+                            Var<MatchResult<SearchableTreeItem<T>>> current = res.getData().currentSearchResult;
+                            if (current.getValue() == res) {
+                                current.setValue(null);
+                            }
+                        });
                         if (!newRes.isEmpty()) {
 
                             Var<Integer> curIdx = Var.newSimpleVar(0);
@@ -237,7 +258,7 @@ public class SearchableTreeView<T> extends TreeView<T> {
 
         private final Var<SearchableTreeCell<T>> treeCell = Var.newSimpleVar(null);
         private final Var<MatchResult<SearchableTreeItem<T>>> currentSearchResult = Var.newSimpleVar(null);
-        private final int treeIndex;
+        private int treeIndex;
 
 
         public SearchableTreeItem(T n, int treeIndex) {
@@ -271,6 +292,11 @@ public class SearchableTreeView<T> extends TreeView<T> {
         public int getTreeIndex() {
             return treeIndex;
         }
+
+
+        void setTreeIndex(int treeIndex) {
+            this.treeIndex = treeIndex;
+        }
     }
 
     /**
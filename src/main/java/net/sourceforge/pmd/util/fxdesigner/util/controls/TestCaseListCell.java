@@ -20,7 +20,6 @@ import org.reactfx.value.Var;
 import net.sourceforge.pmd.util.fxdesigner.TestCollectionController;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
 import net.sourceforge.pmd.util.fxdesigner.app.XPathUpdateSubscriber;
-import net.sourceforge.pmd.util.fxdesigner.app.services.ASTManager;
 import net.sourceforge.pmd.util.fxdesigner.app.services.ASTManagerImpl;
 import net.sourceforge.pmd.util.fxdesigner.model.testing.LiveTestCase;
 import net.sourceforge.pmd.util.fxdesigner.model.testing.TestCaseUtil;
@@ -158,7 +157,13 @@ public class TestCaseListCell extends SmartTextFieldListCell<LiveTestCase> {
 
 
         MyXPathSubscriber subscriber = new MyXPathSubscriber(testCase, collection.getDesignerRoot());
-        sub = sub.and(subscriber.init(getManagerOf(testCase)));
+        ASTManagerImpl manager = getManagerOf(testCase);
+        sub = sub.and(subscriber.init(manager)).and(() -> {
+            manager.sourceCodeProperty().unbind();
+            manager.languageVersionProperty().unbind();
+            manager.ruleProperties().unbind();
+            manager.close();
+        });
 
 
         if (!testCase.isFrozen() && !load.isSelected()) {
@@ -182,7 +187,7 @@ public class TestCaseListCell extends SmartTextFieldListCell<LiveTestCase> {
     }
 
 
-    private ASTManager getManagerOf(LiveTestCase testCase) {
+    private ASTManagerImpl getManagerOf(LiveTestCase testCase) {
 
         ASTManagerImpl manager = new ASTManagerImpl(collection.getDesignerRoot());
         manager.sourceCodeProperty().bind(testCase.sourceProperty());
@@ -8,10 +8,10 @@ package net.sourceforge.pmd.util.fxdesigner.util.controls;
 import java.util.Collection;
 
 import org.fxmisc.richtext.model.StyleSpan;
-import org.fxmisc.richtext.model.StyledDocument;
 
 import net.sourceforge.pmd.util.fxdesigner.app.ApplicationComponent;
 import net.sourceforge.pmd.util.fxdesigner.app.DesignerRoot;
+import net.sourceforge.pmd.util.fxdesigner.util.RichTextSnippet;
 import net.sourceforge.pmd.util.fxdesigner.util.TextAwareNodeWrapper;
 
 import javafx.scene.control.ListCell;
@@ -55,27 +55,18 @@ public class XpathViolationListCell extends ListCell<TextAwareNodeWrapper> imple
 
 
     private static TextFlow richTextForNode(TextAwareNodeWrapper node) {
-        StyledDocument<Collection<String>, String, Collection<String>> richText = node.getNodeRichText();
+        RichTextSnippet snippet = node.getNodeSnippet();
 
         TextFlow result = new TextFlow();
         int lastSpanEnd = 0;
-        for (StyleSpan<Collection<String>> span : richText.getStyleSpans(0, richText.length())) {
-            String spanText = richText.getText(lastSpanEnd, lastSpanEnd + span.getLength());
-            int truncateTo = spanText.indexOf("\n");
-
-            Text text = new Text(truncateTo < 0 ? spanText : spanText.substring(0, truncateTo));
+        for (StyleSpan<Collection<String>> span : snippet.getStyleSpans()) {
+            Text text = new Text(snippet.getText().substring(lastSpanEnd, lastSpanEnd + span.getLength()));
             text.getStyleClass().addAll(span.getStyle());
-
             result.getChildren().add(text);
-
-            lastSpanEnd += text.getText().length();
-            if (truncateTo > 0) {
-                break;
-            }
+            lastSpanEnd += span.getLength();
         }
 
-        // we truncated
-        if (lastSpanEnd < richText.length()) {
+        if (snippet.isTruncated()) {
             result.getChildren().add(new Text("..."));
         }
 
@@ -0,0 +1,127 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util.reactfx;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.reactfx.EventStream;
+import org.reactfx.EventStreamBase;
+import org.reactfx.Subscription;
+import org.reactfx.util.Timer;
+import org.reactfx.value.Val;
+import org.reactfx.value.Var;
+
+
+/**
+ * A debounce delay that adapts to the cost of the work it delays.
+ * The duration of the work is recorded each time it's done, and the
+ * delay follows a moving average of those durations, within bounds.
+ * Cheap work (eg parsing a small file) is then done almost as soon
+ * as the user stops typing, while expensive work is not restarted on
+ * every keystroke.
+ *
+ * <p>The methods of this class must be called on the FX thread.
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class AdaptiveDelay {
+
+    /** Weight of the latest duration in the moving average. */
+    private static final double SMOOTHING = 0.3;
+    /** Ratio between the delay and the average duration of the work. */
+    private static final double DELAY_FACTOR = 1.5;
+    /** The delay is rounded to this many millis, so that it doesn't change constantly. */
+    private static final long GRANULARITY_MILLIS = 10;
+
+    private final Duration min;
+    private final Duration max;
+    private final Var<Duration> delay;
+    private double averageNanos = -1;
+    private long numRecords;
+
+
+    /**
+     * @param initial Delay used until a duration is recorded
+     * @param min     Lower bound for the delay
+     * @param max     Upper bound for the delay
+     */
+    public AdaptiveDelay(Duration initial, Duration min, Duration max) {
+        this.min = min;
+        this.max = max;
+        this.delay = Var.newSimpleVar(initial);
+    }
+
+
+    /** Records the duration of one run of the work. */
+    public void record(long nanos) {
+        numRecords++;
+        averageNanos = averageNanos < 0 ? nanos : SMOOTHING * nanos + (1 - SMOOTHING) * averageNanos;
+
+        long millis = (long) (DELAY_FACTOR * averageNanos / TimeUnit.MILLISECONDS.toNanos(1));
+        millis = Math.round((double) millis / GRANULARITY_MILLIS) * GRANULARITY_MILLIS;
+        millis = Math.max(min.toMillis(), Math.min(max.toMillis(), millis));
+        if (millis != delay.getValue().toMillis()) {
+            delay.setValue(Duration.ofMillis(millis));
+        }
+    }
+
+
+    public Duration getDelay() {
+        return delay.getValue();
+    }
+
+
+    /** The current delay. */
+    public Val<Duration> delayProperty() {
+        return delay;
+    }
+
+
+    /** Average duration of the work, in milliseconds, or -1 if nothing was recorded. */
+    public double getAverageMillis() {
+        return averageNanos < 0 ? -1 : averageNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+
+    /** Number of durations recorded so far. */
+    public long getNumRecords() {
+        return numRecords;
+    }
+
+
+    /** Returns a factory for timers whose timeout is the delay at the time they're started. */
+    public Function<Runnable, Timer> timerFactory() {
+        return ReactfxUtil.timerFactory(this::getDelay);
+    }
+
+
+    /**
+     * Like {@link EventStream#successionEnds(Duration)}, with this delay.
+     */
+    public <T> EventStream<T> successionEnds(EventStream<T> input) {
+        return new EventStreamBase<T>() {
+            private T latest;
+
+            @Override
+            protected Subscription observeInputs() {
+                Timer timer = timerFactory().apply(() -> emit(latest));
+                return input.subscribe(t -> {
+                    latest = t;
+                    timer.restart();
+                }).and(timer::stop);
+            }
+        };
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("AdaptiveDelay{delay=%dms, average=%.1fms, bounds=[%d, %d]ms}",
+                             getDelay().toMillis(), getAverageMillis(), min.toMillis(), max.toMillis());
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -122,6 +123,36 @@ public final class ReactfxUtil {
     }
 
 
+    /**
+     * Returns a factory for timers whose timeout is fetched from the
+     * supplier each time they're restarted.
+     */
+    public static Function<Runnable, Timer> timerFactory(Supplier<Duration> duration) {
+        return action -> new Timer() {
+            private Timer delegate;
+            private Duration current;
+
+            @Override
+            public void restart() {
+                Duration d = duration.get();
+                if (delegate == null || !d.equals(current)) {
+                    stop();
+                    delegate = FxTimer.create(d, action);
+                    current = d;
+                }
+                delegate.restart();
+            }
+
+            @Override
+            public void stop() {
+                if (delegate != null) {
+                    delegate.stop();
+                }
+            }
+        };
+    }
+
+
     public static <I> EventStream<I> distinctBetween(EventStream<I> input, Duration duration) {
         return DistinctBetweenStream.distinctBetween(input, ReactfxUtil.defaultTimerFactory(duration));
     }
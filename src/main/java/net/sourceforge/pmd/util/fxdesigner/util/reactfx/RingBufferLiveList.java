@@ -0,0 +1,90 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util.reactfx;
+
+import java.util.Collections;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.reactfx.Subscription;
+import org.reactfx.collection.LiveListBase;
+import org.reactfx.collection.QuasiListModification;
+import org.reactfx.collection.UnmodifiableByDefaultLiveList;
+
+
+/**
+ * An observable list with a fixed capacity, backed by a ring buffer.
+ * Elements can only be {@linkplain #push(Object) pushed} at the end.
+ * When the list is full, pushing an element evicts the oldest one in
+ * constant time.
+ *
+ * @param <E> Type of elements
+ *
+ * @author Clément Fournier
+ * @since 7.3.0
+ */
+public final class RingBufferLiveList<E> extends LiveListBase<E> implements UnmodifiableByDefaultLiveList<E> {
+
+    private final Object[] buffer;
+    private int head;
+    private int size;
+
+
+    public RingBufferLiveList(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got " + capacity);
+        }
+        this.buffer = new Object[capacity];
+    }
+
+
+    /**
+     * Adds an element at the end of the list. If the list is
+     * full, the first element is removed.
+     *
+     * @return The evicted element, or null if the list was not full
+     */
+    public @Nullable E push(E element) {
+        E evicted = null;
+        if (size == buffer.length) {
+            evicted = get(0);
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
+            size--;
+            notifyObservers(QuasiListModification.create(0, Collections.singletonList(evicted), 0).asListChange());
+        }
+
+        buffer[(head + size) % buffer.length] = element;
+        size++;
+        notifyObservers(QuasiListModification.<E>create(size - 1, Collections.emptyList(), 1).asListChange());
+        return evicted;
+    }
+
+
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+        return (E) buffer[(head + index) % buffer.length];
+    }
+
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+
+    @Override
+    protected Subscription observeInputs() {
+        return Subscription.EMPTY;
+    }
+}
@@ -10,10 +10,13 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import net.sourceforge.pmd.util.fxdesigner.util.beans.testdata.SomeBean;
+import net.sourceforge.pmd.util.fxdesigner.util.beans.testdata.SomeSequenceBean;
 
 public class PersistenceIntegrationTest {
 
@@ -43,6 +46,53 @@ public class PersistenceIntegrationTest {
     }
 
 
+    @Test
+    public void testNestedSequencesRoundTrip() throws IOException {
+
+        // same shape as a session with 50 rule editors with 100 test cases each
+        SomeSequenceBean<SomeSequenceBean<SomeBean>> session = new SomeSequenceBean<>();
+        session.setName("session");
+        for (int i = 0; i < 50; i++) {
+            SomeSequenceBean<SomeBean> tab = new SomeSequenceBean<>();
+            tab.setName("tab" + i);
+            for (int j = 0; j < 100; j++) {
+                SomeBean test = new SomeBean();
+                test.setI(j);
+                test.setStr("class Foo" + i + "_" + j + " {}");
+                tab.getItems().add(test);
+            }
+            session.getItems().add(tab);
+        }
+
+        File tmp = Files.createTempFile("pmd-designer-test", "").toFile();
+
+        SettingsPersistenceUtil.persistProperties(session, tmp);
+
+        SomeSequenceBean<SomeSequenceBean<SomeBean>> other = new SomeSequenceBean<>();
+
+        SettingsPersistenceUtil.restoreProperties(other, tmp);
+
+        assertEquals(50, other.getItems().size());
+        assertEquals(session, other);
+    }
+
+
+    @Test
+    public void testUnknownSequenceIsReported() {
+
+        SimpleBeanModelNode model = new SimpleBeanModelNode(SomeBean.class);
+        model.addProperty("str", "restored", String.class);
+        model.addChild(new BeanModelNodeSeq<>("noSuchSequence"));
+
+        List<Exception> errors = new ArrayList<>();
+        SomeBean bean = new SomeBean();
+        model.accept(new RestorePropertyVisitor(errors::add), bean);
+
+        assertEquals(1, errors.size());
+        assertEquals("restored", bean.getStr());
+    }
+
+
 
 
 
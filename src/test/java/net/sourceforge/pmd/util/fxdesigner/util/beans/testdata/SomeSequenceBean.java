@@ -0,0 +1,55 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util.beans.testdata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsOwner;
+import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsPersistenceUtil.PersistentProperty;
+import net.sourceforge.pmd.util.fxdesigner.util.beans.SettingsPersistenceUtil.PersistentSequence;
+
+/**
+ * Bean with a persistent sequence of arbitrary settings owners,
+ * mimics eg rule editor tabs and their test cases.
+ */
+public class SomeSequenceBean<T extends SettingsOwner> implements SettingsOwner {
+
+    private final List<T> items = new ArrayList<>();
+    private String name = "";
+
+    @PersistentProperty
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @PersistentSequence
+    public List<T> getItems() {
+        return items;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SomeSequenceBean<?> that = (SomeSequenceBean<?>) o;
+        return Objects.equals(name, that.name)
+            && Objects.equals(items, that.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, items);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.model.export
+
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.ints.shouldBeLessThan
+import io.kotest.matchers.shouldBe
+import net.sourceforge.pmd.lang.LanguageProcessorRegistry
+import net.sourceforge.pmd.lang.PmdCapableLanguage
+import net.sourceforge.pmd.lang.ast.Node
+import net.sourceforge.pmd.lang.ast.Parser
+import net.sourceforge.pmd.lang.ast.SemanticErrorReporter
+import net.sourceforge.pmd.lang.document.TextDocument
+import net.sourceforge.pmd.lang.test.ast.IntelliMarker
+import net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry
+import net.sourceforge.pmd.util.treeexport.TreeRendererDescriptor
+import net.sourceforge.pmd.util.treeexport.TreeRenderers
+
+class NodeSnapshotTest : IntelliMarker, FunSpec({
+
+    val source = "class A { void f() { a.b().c(); } int x = 1; }"
+
+    test("A snapshot renders like the original tree") {
+        val root = source.parse()
+        val snapshot = NodeSnapshot.builder(root, Long.MAX_VALUE).build()
+
+        snapshot.isTruncated shouldBe false
+        for (descriptor in TreeRenderers.registeredRenderers()) {
+            descriptor.render(snapshot.root!!) shouldBe descriptor.render(root)
+        }
+    }
+
+    test("A snapshot stops after the max number of chars") {
+        val root = source.parse()
+        val snapshot = NodeSnapshot.builder(root, 20).build()
+
+        snapshot.isTruncated shouldBe true
+        // the nodes are copied in document order, so the snapshot is a prefix of the tree
+        val copied = descendantNames(snapshot.root!!)
+        copied.size shouldBeLessThan descendantNames(root).size
+        copied shouldBe descendantNames(root).take(copied.size)
+    }
+})
+
+private fun NodeSnapshot.Builder.build(): NodeSnapshot.Builder = apply {
+    @Suppress("ControlFlowWithEmptyBody")
+    while (asBoolean) {
+    }
+}
+
+private fun descendantNames(node: Node): List<String> =
+    node.descendantsOrSelf().crossFindBoundaries().toList().map { it.xPathNodeName }
+
+private fun TreeRendererDescriptor.render(node: Node): String {
+    val out = StringBuilder()
+    produceRenderer(newPropertyBundle()).renderSubtree(node, out)
+    return out.toString()
+}
+
+private fun String.parse(): Node {
+    val lang = AuxLanguageRegistry.findLanguageByTerseName("java") as PmdCapableLanguage
+    val processor = lang.createProcessor(lang.newPropertyBundle())
+    val doc = TextDocument.readOnlyString(this, lang.defaultVersion)
+    val task = Parser.ParserTask(
+        doc,
+        SemanticErrorReporter.noop(),
+        LanguageProcessorRegistry.singleton(processor)
+    )
+    return processor.services().parser.parse(task)
+}
@@ -0,0 +1,63 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.model.testing
+
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.kotest.matchers.types.shouldNotBeSameInstanceAs
+import net.sourceforge.pmd.lang.document.TextRegion
+import net.sourceforge.pmd.lang.test.ast.IntelliMarker
+
+class LiveTestCaseTest : IntelliMarker, FunSpec({
+
+    fun frozenCase(): LiveTestCase =
+        LiveTestCase().apply {
+            unfreeze()
+            expectedViolations.add(LiveViolationRecord(TextRegion.fromOffsetLength(0, 5), "original"))
+            isFrozen = true
+        }
+
+    test("A copy of a frozen test case shares its violation records") {
+        val original = frozenCase()
+        val copy = original.deepCopy()
+
+        copy.isFrozen shouldBe true
+        copy.expectedViolations[0] shouldBeSameInstanceAs original.expectedViolations[0]
+    }
+
+    test("Editing an unfrozen copy doesn't change the original") {
+        val original = frozenCase()
+        val copy = original.deepCopy()
+
+        copy.unfreeze()
+        copy.expectedViolations[0] shouldNotBeSameInstanceAs original.expectedViolations[0]
+        copy.expectedViolations[0].message = "edited"
+        copy.expectedViolations[0].region = TextRegion.fromOffsetLength(2, 3)
+
+        original.expectedViolations[0].message shouldBe "original"
+        original.expectedViolations[0].region shouldBe TextRegion.fromOffsetLength(0, 5)
+    }
+
+    test("Editing the unfrozen original doesn't change the copy") {
+        val original = frozenCase()
+        val copy = original.deepCopy()
+
+        original.unfreeze()
+        original.expectedViolations[0].message = "edited"
+
+        copy.expectedViolations[0].message shouldBe "original"
+    }
+
+    test("A copy of an unfrozen test case doesn't share its violation records") {
+        val original = frozenCase().unfreeze()
+        val copy = original.deepCopy()
+
+        copy.isFrozen shouldBe false
+        copy.expectedViolations[0].message = "edited"
+
+        original.expectedViolations[0].message shouldBe "original"
+    }
+})
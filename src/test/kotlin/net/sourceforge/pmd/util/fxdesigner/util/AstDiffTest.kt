@@ -0,0 +1,87 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util
+
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import net.sourceforge.pmd.lang.LanguageProcessorRegistry
+import net.sourceforge.pmd.lang.PmdCapableLanguage
+import net.sourceforge.pmd.lang.ast.Node
+import net.sourceforge.pmd.lang.ast.Parser
+import net.sourceforge.pmd.lang.ast.SemanticErrorReporter
+import net.sourceforge.pmd.lang.document.TextDocument
+import net.sourceforge.pmd.lang.test.ast.IntelliMarker
+
+class AstDiffTest : IntelliMarker, FunSpec({
+
+    val base = "class A { void f() { int x = 1; } void g() { int y = 2; } }"
+
+    test("Edit before a node shifts it") {
+        val old = base.parse("java")
+        val new = base.replace("int x = 1;", "int x = 1; int z;").parse("java")
+        val diff = AstDiff.compute(old, new)!!
+
+        diff.getNewNode(old) shouldBe new
+        diff.getNewNode(old.method("f")) shouldBe new.method("f")
+        diff.getNewNode(old.method("g")) shouldBe new.method("g")
+    }
+
+    test("Edit inside a node keeps it and its siblings") {
+        val old = base.parse("java")
+        val new = base.replace("int x = 1;", "int x = 12;").parse("java")
+        val diff = AstDiff.compute(old, new)!!
+
+        diff.getNewNode(old.method("f")) shouldBe new.method("f")
+        diff.getNewNode(old.method("g")) shouldBe new.method("g")
+        diff.getNewNode(old.literal("1")) shouldBe new.literal("12")
+    }
+
+    test("Edit after a node keeps it") {
+        val old = base.parse("java")
+        val new = base.replace("} }", "} void h() { } }").parse("java")
+        val diff = AstDiff.compute(old, new)!!
+
+        diff.getNewNode(old.method("f")) shouldBe new.method("f")
+        diff.getNewNode(old.method("g")) shouldBe new.method("g")
+    }
+
+    test("Removed nodes are not matched") {
+        val old = base.parse("java")
+        val new = base.replace("void f() { int x = 1; } ", "").parse("java")
+        val diff = AstDiff.compute(old, new)!!
+
+        diff.getNewNode(old.literal("1")) shouldBe null
+        diff.getNewNode(old.method("g")) shouldBe new.method("g")
+    }
+
+    test("Roots of different types don't match") {
+        val old = base.parse("java")
+        val new = base.parse("text")
+        old.xPathNodeName shouldNotBe new.xPathNodeName
+
+        AstDiff.compute(old, new) shouldBe null
+    }
+})
+
+private fun Node.method(name: String): Node =
+    descendants().first { it.xPathNodeName == "MethodDeclaration" && it.sourceText().startsWith("void $name") }!!
+
+private fun Node.literal(image: String): Node =
+    descendants().first { it.xPathNodeName == "NumericLiteral" && it.sourceText() == image }!!
+
+private fun String.parse(languageId: String): Node {
+    val lang = AuxLanguageRegistry.findLanguageByTerseName(languageId) as PmdCapableLanguage
+    val processor = lang.createProcessor(lang.newPropertyBundle())
+    val doc = TextDocument.readOnlyString(this, lang.defaultVersion)
+    val task = Parser.ParserTask(
+        doc,
+        SemanticErrorReporter.noop(),
+        LanguageProcessorRegistry.singleton(processor)
+    )
+    return processor.services().parser.parse(task)
+}
+
+private fun Node.sourceText(): String = textDocument.sliceOriginalText(textRegion).toString()
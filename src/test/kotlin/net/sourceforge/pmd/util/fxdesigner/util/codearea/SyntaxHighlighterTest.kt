@@ -0,0 +1,98 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util.codearea
+
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.collections.shouldContainAll
+import io.kotest.matchers.shouldBe
+import net.sourceforge.pmd.lang.test.ast.IntelliMarker
+
+class SyntaxHighlighterTest : IntelliMarker, FunSpec({
+
+    test("Empty input has an empty span") {
+        for (highlighter in AvailableSyntaxHighlighters.values()) {
+            highlighter.computeHighlighting("").length() shouldBe 0
+        }
+    }
+
+    test("Spans cover the full text") {
+        val inputs = listOf(
+            "class A { /* c */ String s = \"a\\\"b\"; char c = '\\u0041'; }",
+            "//a[@b='c'](: x :)[f(1)]",
+            "<?xml version=\"1.0\"?><a b=\"c\"><![CDATA[x]]></a>",
+            "Public Class A { String s = 'x\\'y'; }",
+            "model M \"doc\" Real x(start=1.0e3); end M;",
+            "/* unterminated \"unterminated <!-- (: ",
+        )
+        for (highlighter in AvailableSyntaxHighlighters.values()) {
+            for (input in inputs) {
+                highlighter.computeHighlighting(input).length() shouldBe input.length
+            }
+        }
+    }
+
+    test("Java unterminated comment extends to the end") {
+        AvailableSyntaxHighlighters.JAVA.tokens("int a; /* foo\nbar").last() shouldBe
+            ("/* foo\nbar" to setOf("java", "code", "comment", "multi-line-comment"))
+    }
+
+    test("Java unterminated string stops at the end of the line") {
+        val tokens = AvailableSyntaxHighlighters.JAVA.tokens("\"abc\nint")
+        tokens.first() shouldBe ("\"abc" to setOf("java", "code", "literal", "string"))
+        tokens.last() shouldBe ("int" to setOf("java", "code", "keyword"))
+    }
+
+    test("Java text blocks") {
+        val tokens = AvailableSyntaxHighlighters.JAVA.tokens("s = \"\"\"\n a \" b \\\"\"\" \n\"\"\";")
+        tokens shouldContain ("\"\"\"\n a \" b \\\"\"\" \n\"\"\"" to setOf("java", "code", "literal", "string"))
+        tokens.last().first shouldBe ";"
+    }
+
+    test("Apex keywords are case insensitive") {
+        AvailableSyntaxHighlighters.APEX.tokens("PUBLIC public").map { it.second }
+            .filter { "keyword" in it } shouldBe listOf(setOf("apex", "code", "keyword"), setOf("apex", "code", "keyword"))
+    }
+
+    test("Modelica strings span several lines") {
+        AvailableSyntaxHighlighters.MODELICA.tokens("x = \"a\nb\";") shouldContain
+            ("\"a\nb\"" to setOf("modelica", "code", "literal", "string"))
+    }
+
+    test("XML CDATA") {
+        val tokens = AvailableSyntaxHighlighters.XML.tokens("<a><![CDATA[ <b> ]] ]]></a>")
+        tokens shouldContainAll listOf(
+            "<![CDATA[" to setOf("xml", "code", "cdata-tag"),
+            " <b> ]] " to setOf("xml", "code", "cdata-content"),
+            "]]>" to setOf("xml", "code", "cdata-tag"),
+        )
+    }
+
+    test("XML unterminated comment extends to the end") {
+        AvailableSyntaxHighlighters.XML.tokens("<a/><!-- x <b/>").last() shouldBe
+            ("<!-- x <b/>" to setOf("xml", "code", "comment", "multi-line-comment"))
+    }
+
+    test("XPath nested comments") {
+        val tokens = AvailableSyntaxHighlighters.XPATH.tokens("(: a (: b :) c :)//Foo")
+        tokens.first() shouldBe ("(: a (: b :) c :)" to setOf("xpath", "code", "comment", "multi-line-comment"))
+        tokens.last() shouldBe ("Foo" to setOf("xpath", "code", "identifier"))
+    }
+
+    test("XPath unterminated string extends to the end") {
+        AvailableSyntaxHighlighters.XPATH.tokens("//a[@b = 'c]").last() shouldBe
+            ("'c]" to setOf("xpath", "code", "literal", "string"))
+    }
+})
+
+/** Returns the text and style of each span. */
+private fun SyntaxHighlighter.tokens(text: String): List<Pair<String, Set<String>>> {
+    var offset = 0
+    return computeHighlighting(text).map {
+        val token = text.substring(offset, offset + it.length) to it.style.toSet()
+        offset += it.length
+        token
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * BSD-style license; for more info see http://pmd.sourceforge.net/license.html
+ */
+
+package net.sourceforge.pmd.util.fxdesigner.util.codearea
+
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.shouldBe
+import net.sourceforge.pmd.lang.LanguageProcessorRegistry
+import net.sourceforge.pmd.lang.PmdCapableLanguage
+import net.sourceforge.pmd.lang.ast.Node
+import net.sourceforge.pmd.lang.ast.Parser
+import net.sourceforge.pmd.lang.ast.SemanticErrorReporter
+import net.sourceforge.pmd.lang.document.TextDocument
+import net.sourceforge.pmd.lang.test.ast.IntelliMarker
+import net.sourceforge.pmd.util.fxdesigner.util.AuxLanguageRegistry
+
+class UniformStyleCollectionTest : IntelliMarker, FunSpec({
+
+    val source = "class A { void f() { a.b().c(); } }"
+
+    test("Nodes that start at the same offset are nested") {
+        val root = source.parse()
+        // a.b().c() and a.b() start at the same offset, the outer one is added last
+        val calls = root.descendants().filter { it.xPathNodeName == "MethodCall" }.toList().reversed()
+
+        styledText(source, calls) shouldBe listOf(
+            "class A { void f() { " to emptySet(),
+            "a.b()" to setOf("hl", "depth-1", "inline-highlight"),
+            ".c()" to setOf("hl", "depth-0", "inline-highlight"),
+        )
+    }
+
+    test("All the nodes of a tree can be highlighted") {
+        val root = source.parse()
+        val spans = UniformStyleCollection(setOf("hl"), root.descendantsOrSelf().crossFindBoundaries().toList().map { NodeStyleSpan.fromNode(it, null) })
+            .buildSpans()
+
+        spans.length() shouldBe source.length
+    }
+})
+
+/** Returns the text and style of each span. */
+private fun styledText(text: String, nodes: List<Node>): List<Pair<String, Set<String>>> {
+    var offset = 0
+    return UniformStyleCollection(setOf("hl"), nodes.map { NodeStyleSpan.fromNode(it, null) }).buildSpans().map {
+        val token = text.substring(offset, offset + it.length) to it.style.toSet()
+        offset += it.length
+        token
+    }
+}
+
+private fun String.parse(): Node {
+    val lang = AuxLanguageRegistry.findLanguageByTerseName("java") as PmdCapableLanguage
+    val processor = lang.createProcessor(lang.newPropertyBundle())
+    val doc = TextDocument.readOnlyString(this, lang.defaultVersion)
+    val task = Parser.ParserTask(
+        doc,
+        SemanticErrorReporter.noop(),
+        LanguageProcessorRegistry.singleton(processor)
+    )
+    return processor.services().parser.parse(task)
+}